@@ -13,6 +13,7 @@ import cucumber.api.java.ObjectFactory;
 import cucumber.runtime.java.ObjectFactoryLoader;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import dalvik.system.DexFile;
 import gherkin.formatter.Formatter;
 import gherkin.formatter.Reporter;
@@ -102,14 +103,15 @@ public class CucumberExecutor {
 
         final Reporter reporter = runtimeOptions.reporter(classLoader);
         final Formatter formatter = runtimeOptions.formatter(classLoader);
-        RunResult runResult = RunResult.IDENTITY;
+        RunResultAccumulator runResults = new RunResultAccumulator();
 
         final StepDefinitionReporter stepDefinitionReporter = runtimeOptions.stepDefinitionReporter(classLoader);
         runtime.getGlue().reportStepDefinitions(stepDefinitionReporter);
 
         for (final CucumberFeature cucumberFeature : cucumberFeatures) {
-            runResult = RunResult.append(runResult, cucumberFeature.run(formatter, reporter, runtime, tracker));
+            runResults.add(cucumberFeature.run(formatter, reporter, runtime, tracker));
         }
+        RunResult runResult = runResults.toRunResult();
 
         if (formatter instanceof AndroidLogcatReporter) {
             ((AndroidLogcatReporter)formatter).setErrorsBeforeDone(runResult.errors);
@@ -0,0 +1,77 @@
+package cucumber.benchmarks;
+
+import cucumber.runtime.JdkPatternArgumentMatcher;
+import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.PatternStepDefinition;
+import gherkin.I18n;
+import gherkin.formatter.Argument;
+import gherkin.formatter.model.Step;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A step definition that matches steps the way Java step definitions do, and calls a method on a target object.
+ */
+class BenchmarkStepDefinition implements PatternStepDefinition {
+    private final Pattern pattern;
+    private final JdkPatternArgumentMatcher argumentMatcher;
+    private final Object target;
+    private final Method method;
+    private final List<ParameterInfo> parameterInfos;
+
+    BenchmarkStepDefinition(String pattern, Object target, Method method) {
+        this.pattern = Pattern.compile(pattern);
+        this.argumentMatcher = new JdkPatternArgumentMatcher(this.pattern);
+        this.target = target;
+        this.method = method;
+        this.parameterInfos = ParameterInfo.fromMethod(method);
+    }
+
+    @Override
+    public Pattern getCompiledPattern() {
+        return pattern;
+    }
+
+    @Override
+    public List<Argument> matchedArguments(Step step) {
+        return argumentMatcher.argumentsFrom(step.getName());
+    }
+
+    @Override
+    public String getLocation(boolean detail) {
+        return method.getName();
+    }
+
+    @Override
+    public Integer getParameterCount() {
+        return parameterInfos.size();
+    }
+
+    @Override
+    public ParameterInfo getParameterType(int n, Type argumentType) {
+        return parameterInfos.get(n);
+    }
+
+    @Override
+    public void execute(I18n i18n, Object[] args) throws Throwable {
+        method.invoke(target, args);
+    }
+
+    @Override
+    public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+        return stackTraceElement.getMethodName().equals(method.getName());
+    }
+
+    @Override
+    public String getPattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public boolean isScenarioScoped() {
+        return false;
+    }
+}
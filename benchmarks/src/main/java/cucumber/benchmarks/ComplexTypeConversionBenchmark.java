@@ -0,0 +1,76 @@
+package cucumber.benchmarks;
+
+import cucumber.api.DataTable;
+import cucumber.runtime.table.TableConverter;
+import cucumber.runtime.xstream.FieldComplexTypeConverter;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Converts a table to a list of objects with XStream, and with the field converter selected by
+ * {@code --table-converter fields}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComplexTypeConversionBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    @Param({"xstream", "fields"})
+    public String converter;
+
+    private DataTable table;
+
+    public static class User {
+        private String name;
+        private int credits;
+        private Long balance;
+        private boolean active;
+    }
+
+    @Setup
+    public void setUp() {
+        LocalizedXStreams localizedXStreams = "fields".equals(converter)
+                ? new LocalizedXStreams(getClass().getClassLoader(), new FieldComplexTypeConverter())
+                : new LocalizedXStreams(getClass().getClassLoader());
+        TableConverter tableConverter = new TableConverter(localizedXStreams.get(Locale.US), null);
+
+        List<DataTableRow> gherkinRows = new ArrayList<DataTableRow>();
+        gherkinRows.add(new DataTableRow(NO_COMMENTS, asList("name", "credits", "balance", "active"), 1));
+        for (int i = 0; i < rows; i++) {
+            gherkinRows.add(new DataTableRow(NO_COMMENTS, asList("user " + i, String.valueOf(i), "1,000", "true"), i + 2));
+        }
+        table = new DataTable(gherkinRows, tableConverter);
+    }
+
+    @Benchmark
+    public List<User> toListOfUsers() {
+        return table.asList(User.class);
+    }
+}
@@ -0,0 +1,83 @@
+package cucumber.benchmarks;
+
+import cucumber.api.DataTable;
+import cucumber.runtime.table.TableConverter;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Creates, transposes and reads large tables. Run with {@code -prof gc} to see the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTableBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+
+    @Param({"1000", "50000"})
+    public int rows;
+
+    private List<DataTableRow> gherkinRows;
+    private TableConverter tableConverter;
+    private DataTable table;
+
+    @Setup
+    public void setUp() {
+        tableConverter = new TableConverter(new LocalizedXStreams(getClass().getClassLoader()).get(Locale.US), null);
+        gherkinRows = new ArrayList<DataTableRow>();
+        gherkinRows.add(new DataTableRow(NO_COMMENTS, asList("id", "name", "email", "credits"), 1));
+        for (int i = 0; i < rows; i++) {
+            gherkinRows.add(new DataTableRow(NO_COMMENTS, asList(String.valueOf(i), "user " + i, "user" + i + "@example.com", "100"), i + 2));
+        }
+        table = new DataTable(gherkinRows, tableConverter);
+    }
+
+    @Benchmark
+    public DataTable create() {
+        return new DataTable(gherkinRows, tableConverter);
+    }
+
+    @Benchmark
+    public List<List<String>> transposedRaw() {
+        return table.transpose().raw();
+    }
+
+    @Benchmark
+    public int readCells() {
+        int length = 0;
+        for (List<String> row : table.cells(1)) {
+            for (String cell : row) {
+                length += cell.length();
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public List<List<String>> asLists() {
+        return table.asLists(String.class);
+    }
+}
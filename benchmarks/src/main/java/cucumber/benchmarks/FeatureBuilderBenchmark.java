@@ -0,0 +1,103 @@
+package cucumber.benchmarks;
+
+import cucumber.runtime.FeatureBuilder;
+import cucumber.runtime.io.Resource;
+import cucumber.runtime.model.CucumberFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and parses a feature with a background, scenarios, a scenario outline and tables, the way features are
+ * loaded at the start of a run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FeatureBuilderBenchmark {
+    private static final List<Object> NO_FILTERS = Collections.emptyList();
+
+    @Param({"10", "1000"})
+    public int scenarios;
+
+    private Resource resource;
+
+    @Setup
+    public void setUp() throws UnsupportedEncodingException {
+        StringBuilder source = new StringBuilder();
+        source.append("@accounts\n")
+                .append("Feature: Accounts\n")
+                .append("  As a customer I want to move money between accounts\n\n")
+                .append("  Background:\n")
+                .append("    Given a customer called \"Joe\"\n\n");
+        for (int i = 0; i < scenarios; i++) {
+            if (i % 10 == 9) {
+                source.append("  @outline\n")
+                        .append("  Scenario Outline: transfer ").append(i).append('\n')
+                        .append("    Given the account has <balance> euros\n")
+                        .append("    When I transfer <amount> euros\n")
+                        .append("    Then the account has <left> euros\n\n")
+                        .append("    Examples:\n")
+                        .append("      | balance | amount | left |\n")
+                        .append("      | 100     | 10     | 90   |\n")
+                        .append("      | 50      | 50     | 0    |\n\n");
+            } else {
+                source.append("  Scenario: deposit ").append(i).append('\n')
+                        .append("    Given the account has ").append(i).append(" euros\n")
+                        .append("    When I deposit these amounts:\n")
+                        .append("      | amount | currency |\n")
+                        .append("      | 10     | EUR      |\n")
+                        .append("      | 20     | USD      |\n")
+                        .append("    Then the account has ").append(i + 30).append(" euros\n\n");
+            }
+        }
+        final byte[] bytes = source.toString().getBytes("UTF-8");
+        resource = new Resource() {
+            @Override
+            public String getPath() {
+                return "accounts.feature";
+            }
+
+            @Override
+            public String getAbsolutePath() {
+                return "accounts.feature";
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+
+            @Override
+            public String getClassName(String extension) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Benchmark
+    public List<CucumberFeature> parse() {
+        List<CucumberFeature> features = new ArrayList<CucumberFeature>();
+        new FeatureBuilder(features).parse(resource, NO_FILTERS);
+        return features;
+    }
+}
@@ -0,0 +1,137 @@
+package cucumber.benchmarks;
+
+import cucumber.runtime.RuntimeOptions;
+import gherkin.formatter.Argument;
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.Step;
+import gherkin.formatter.model.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Sends the formatter and reporter calls of a run of 100 scenarios through the plugins, the way the runtime does:
+ * through the formatter and reporter of {@link RuntimeOptions}, to a plugin writing to a file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatterPipelineBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+    private static final List<Tag> NO_TAGS = Collections.emptyList();
+    private static final int SCENARIOS = 100;
+    private static final int STEPS = 5;
+
+    @Param({"progress", "pretty", "json", "junit", "html"})
+    public String plugin;
+
+    @Param({"false", "true"})
+    public boolean asyncPlugins;
+
+    private File outputDir;
+    private Feature feature;
+    private List<Scenario> scenarios;
+    private List<List<Step>> steps;
+    private Match match;
+    private Result passed;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDir = File.createTempFile("cucumber-benchmark", "");
+        outputDir.delete();
+        outputDir.mkdirs();
+        feature = new Feature(NO_COMMENTS, NO_TAGS, "Feature", "Accounts", "", 1, "accounts");
+        scenarios = new ArrayList<Scenario>();
+        steps = new ArrayList<List<Step>>();
+        int line = 2;
+        for (int i = 0; i < SCENARIOS; i++) {
+            scenarios.add(new Scenario(NO_COMMENTS, asList(new Tag("@accounts", line)), "Scenario", "deposit " + i, "", line++, "accounts;deposit-" + i));
+            List<Step> scenarioSteps = new ArrayList<Step>();
+            for (int j = 0; j < STEPS; j++) {
+                List<DataTableRow> rows = j == 1 ? asList(
+                        new DataTableRow(NO_COMMENTS, asList("amount", "currency"), line + 1),
+                        new DataTableRow(NO_COMMENTS, asList("10", "EUR"), line + 2)) : null;
+                scenarioSteps.add(new Step(NO_COMMENTS, "Given ", "the account has " + j + " euros", line, rows, null));
+                line += rows == null ? 1 : 3;
+            }
+            steps.add(scenarioSteps);
+        }
+        match = new Match(asList(new Argument(16, "1")), "AccountSteps.the_account_has(int)");
+        passed = new Result(Result.PASSED, 1234567L, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        delete(outputDir);
+    }
+
+    @Benchmark
+    public void run() {
+        File output = new File(outputDir, plugin);
+        List<String> args = new ArrayList<String>(asList("--plugin", plugin + ":" + output.getPath()));
+        if (asyncPlugins) {
+            args.add("--async-plugins");
+        }
+        RuntimeOptions runtimeOptions = new RuntimeOptions(args);
+        ClassLoader classLoader = getClass().getClassLoader();
+        Formatter formatter = runtimeOptions.formatter(classLoader);
+        Reporter reporter = runtimeOptions.reporter(classLoader);
+
+        formatter.uri("accounts.feature");
+        formatter.feature(feature);
+        for (int i = 0; i < SCENARIOS; i++) {
+            Scenario scenario = scenarios.get(i);
+            formatter.startOfScenarioLifeCycle(scenario);
+            formatter.scenario(scenario);
+            for (Step step : steps.get(i)) {
+                formatter.step(step);
+            }
+            for (int j = 0; j < STEPS; j++) {
+                reporter.match(match);
+                reporter.result(passed);
+            }
+            formatter.endOfScenarioLifeCycle(scenario);
+        }
+        formatter.eof();
+        formatter.done();
+        formatter.close();
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,88 @@
+package cucumber.benchmarks;
+
+import cucumber.api.Format;
+import cucumber.deps.com.thoughtworks.xstream.converters.SingleValueConverter;
+import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts a step argument the way {@link ParameterInfo#convert} does now, with the converter looked up once, and
+ * the way it used to, looking the converter up on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterInfoConvertBenchmark {
+    @Param({"int", "date", "list"})
+    public String parameter;
+
+    private ParameterInfo parameterInfo;
+    private String value;
+    private LocalizedXStreams.LocalizedXStream xStream;
+
+    public void withInt(int i) {
+    }
+
+    public void withDate(@Format("yyyy-MM-dd") Date date) {
+    }
+
+    public void withList(List<Integer> list) {
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        xStream = new LocalizedXStreams(getClass().getClassLoader()).get(Locale.US);
+        if ("int".equals(parameter)) {
+            parameterInfo = ParameterInfo.fromMethod(getClass().getMethod("withInt", Integer.TYPE)).get(0);
+            value = "1,234";
+        } else if ("date".equals(parameter)) {
+            parameterInfo = ParameterInfo.fromMethod(getClass().getMethod("withDate", Date.class)).get(0);
+            value = "2015-06-30";
+        } else {
+            parameterInfo = ParameterInfo.fromMethod(getClass().getMethod("withList", List.class)).get(0);
+            value = "1, 2, 3, 4, 5";
+        }
+    }
+
+    @Benchmark
+    public Object cachedConverter() {
+        return parameterInfo.convert(value, xStream);
+    }
+
+    @Benchmark
+    public Object converterLookedUpOnEveryCall() {
+        try {
+            xStream.setParameterInfo(parameterInfo);
+            xStream.processAnnotations(parameterInfo.getRawType());
+            xStream.autodetectAnnotations(true);
+            SingleValueConverter converter;
+            if (List.class.isAssignableFrom(parameterInfo.getRawType())) {
+                converter = xStream.createListConverter(ParameterInfo.DEFAULT_DELIMITER, xStream.getSingleValueConverter(Integer.class));
+            } else {
+                converter = xStream.getSingleValueConverter(parameterInfo.getRawType());
+            }
+            return converter.fromString(value);
+        } finally {
+            xStream.unsetParameterInfo();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package cucumber.benchmarks;
+
+import cucumber.runtime.RuntimeGlue;
+import cucumber.runtime.StepDefinitionMatch;
+import cucumber.runtime.UndefinedStepsTracker;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.I18n;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import gherkin.formatter.model.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Runs a matched step, which converts its arguments to the parameter types of the step definition and calls it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RunStepBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+
+    @Param({"none", "int", "double", "string", "table"})
+    public String arguments;
+
+    private StepDefinitionMatch match;
+    private I18n i18n;
+
+    public static class Item {
+        private String name;
+        private int quantity;
+    }
+
+    public void noArguments() {
+    }
+
+    public void twoInts(int a, int b) {
+    }
+
+    public void oneDouble(double amount) {
+    }
+
+    public void twoStrings(String a, String b) {
+    }
+
+    public void table(List<Item> items) {
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        RuntimeGlue glue = new RuntimeGlue(new LocalizedXStreams(getClass().getClassLoader()));
+        glue.addStepDefinition(new BenchmarkStepDefinition("^nothing happens$", this,
+                getClass().getMethod("noArguments")));
+        glue.addStepDefinition(new BenchmarkStepDefinition("^(\\d+) plus (\\d+)$", this,
+                getClass().getMethod("twoInts", Integer.TYPE, Integer.TYPE)));
+        glue.addStepDefinition(new BenchmarkStepDefinition("^I pay ([\\d.,]+) euros$", this,
+                getClass().getMethod("oneDouble", Double.TYPE)));
+        glue.addStepDefinition(new BenchmarkStepDefinition("^\"([^\"]*)\" and \"([^\"]*)\"$", this,
+                getClass().getMethod("twoStrings", String.class, String.class)));
+        glue.addStepDefinition(new BenchmarkStepDefinition("^these items:$", this,
+                getClass().getMethod("table", List.class)));
+
+        Step step;
+        if ("none".equals(arguments)) {
+            step = step("nothing happens", null);
+        } else if ("int".equals(arguments)) {
+            step = step("12 plus 30", null);
+        } else if ("double".equals(arguments)) {
+            step = step("I pay 1,234.50 euros", null);
+        } else if ("string".equals(arguments)) {
+            step = step("\"foo\" and \"bar\"", null);
+        } else {
+            List<DataTableRow> rows = new ArrayList<DataTableRow>();
+            rows.add(new DataTableRow(NO_COMMENTS, asList("name", "quantity"), 2));
+            for (int i = 0; i < 10; i++) {
+                rows.add(new DataTableRow(NO_COMMENTS, asList("item " + i, String.valueOf(i)), i + 3));
+            }
+            step = step("these items:", rows);
+        }
+        i18n = new I18n("en");
+        match = glue.stepDefinitionMatch("benchmark.feature", step, i18n, new UndefinedStepsTracker());
+    }
+
+    private static Step step(String name, List<DataTableRow> rows) {
+        return new Step(NO_COMMENTS, "Given ", name, 1, rows, null);
+    }
+
+    @Benchmark
+    public void runStep() throws Throwable {
+        match.runStep(i18n);
+    }
+}
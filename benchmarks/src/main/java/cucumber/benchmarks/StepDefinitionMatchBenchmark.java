@@ -0,0 +1,96 @@
+package cucumber.benchmarks;
+
+import cucumber.runtime.RuntimeGlue;
+import cucumber.runtime.StepDefinitionMatch;
+import cucumber.runtime.UndefinedStepsTracker;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.I18n;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the step definition of a step among 100, 1000 and 10000 step definitions. The patterns look like those of
+ * a typical code base: a few words, then a captured number or string.
+ * <p/>
+ * {@code matchCache} false clears the cache of matches before every step, so every step is matched against the
+ * step definitions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StepDefinitionMatchBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+    private static final int STEPS = 256;
+
+    @Param({"100", "1000", "10000"})
+    public int stepDefinitions;
+
+    @Param({"true", "false"})
+    public boolean matchCache;
+
+    private RuntimeGlue glue;
+    private Step[] steps;
+    private I18n i18n;
+    private UndefinedStepsTracker tracker;
+    private int next;
+
+    public void stepWithNumber(int number) {
+    }
+
+    public void stepWithString(String string) {
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        glue = new RuntimeGlue(new LocalizedXStreams(getClass().getClassLoader()));
+        for (int i = 0; i < stepDefinitions; i++) {
+            if (i % 2 == 0) {
+                glue.addStepDefinition(new BenchmarkStepDefinition("^the account " + i + " has (\\d+) euros?$", this,
+                        getClass().getMethod("stepWithNumber", Integer.TYPE)));
+            } else {
+                glue.addStepDefinition(new BenchmarkStepDefinition("^I open page " + i + " called \"([^\"]*)\"$", this,
+                        getClass().getMethod("stepWithString", String.class)));
+            }
+        }
+
+        Random random = new Random(42);
+        steps = new Step[STEPS];
+        for (int i = 0; i < STEPS; i++) {
+            int stepDefinition = random.nextInt(stepDefinitions);
+            String name = stepDefinition % 2 == 0
+                    ? "the account " + stepDefinition + " has " + random.nextInt(1000) + " euros"
+                    : "I open page " + stepDefinition + " called \"Page " + random.nextInt(1000) + "\"";
+            steps[i] = new Step(NO_COMMENTS, "Given ", name, i + 1, null, null);
+        }
+        i18n = new I18n("en");
+        tracker = new UndefinedStepsTracker();
+    }
+
+    @Benchmark
+    public StepDefinitionMatch stepDefinitionMatch() {
+        if (!matchCache) {
+            glue.getMatchCache().clear();
+        }
+        Step step = steps[next++ & (STEPS - 1)];
+        return glue.stepDefinitionMatch("benchmark.feature", step, i18n, tracker);
+    }
+}
@@ -0,0 +1,106 @@
+package cucumber.benchmarks;
+
+import cucumber.api.DataTable;
+import cucumber.runtime.table.TableConverter;
+import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Converts a table to the other shapes a step definition can take it in, and builds a table from objects the way
+ * {@link DataTable#diff(List)} does. Conversion to a list of objects is in {@link ComplexTypeConversionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableConverterBenchmark {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private DataTable table;
+    private DataTable numbers;
+    private DataTable keysAndValues;
+    private List<Product> products;
+
+    public static class Product {
+        private final String name;
+        private final int stock;
+        private final double price;
+
+        public Product(String name, int stock, double price) {
+            this.name = name;
+            this.stock = stock;
+            this.price = price;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        TableConverter tableConverter = new TableConverter(new LocalizedXStreams(getClass().getClassLoader()).get(Locale.US), null);
+
+        List<DataTableRow> tableRows = new ArrayList<DataTableRow>();
+        List<DataTableRow> numberRows = new ArrayList<DataTableRow>();
+        List<DataTableRow> keyValueRows = new ArrayList<DataTableRow>();
+        tableRows.add(new DataTableRow(NO_COMMENTS, asList("name", "stock", "price"), 1));
+        products = new ArrayList<Product>();
+        for (int i = 0; i < rows; i++) {
+            tableRows.add(new DataTableRow(NO_COMMENTS, asList("product " + i, String.valueOf(i), "9.99"), i + 2));
+            numberRows.add(new DataTableRow(NO_COMMENTS, asList(String.valueOf(i), String.valueOf(i * 2), String.valueOf(i * 3)), i + 1));
+            keyValueRows.add(new DataTableRow(NO_COMMENTS, asList("key " + i, String.valueOf(i)), i + 1));
+            products.add(new Product("product " + i, i, 9.99));
+        }
+        table = new DataTable(tableRows, tableConverter);
+        numbers = new DataTable(numberRows, tableConverter);
+        keysAndValues = new DataTable(keyValueRows, tableConverter);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> asMaps() {
+        return table.asMaps(String.class, String.class);
+    }
+
+    @Benchmark
+    public List<List<Integer>> asListsOfIntegers() {
+        return numbers.asLists(Integer.class);
+    }
+
+    @Benchmark
+    public List<Integer> asListOfIntegers() {
+        return numbers.asList(Integer.class);
+    }
+
+    @Benchmark
+    public Map<String, Integer> asMap() {
+        return keysAndValues.asMap(String.class, Integer.class);
+    }
+
+    @Benchmark
+    public DataTable toTable() {
+        return table.toTable(products);
+    }
+}
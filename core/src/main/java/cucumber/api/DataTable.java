@@ -1,7 +1,7 @@
 package cucumber.api;
 
-import cucumber.runtime.CucumberException;
 import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.table.ColumnarCells;
 import cucumber.runtime.table.DiffableRow;
 import cucumber.runtime.table.TableConverter;
 import cucumber.runtime.table.TableDiffException;
@@ -9,7 +9,6 @@ import cucumber.runtime.table.TableDiffer;
 import cucumber.runtime.xstream.LocalizedXStreams;
 import gherkin.formatter.PrettyFormatter;
 import gherkin.formatter.model.DataTableRow;
-import gherkin.formatter.model.Row;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,6 +22,7 @@ import java.util.Map;
  */
 public class DataTable {
 
+    private final ColumnarCells cells;
     private final List<List<String>> raw;
     private final List<DataTableRow> gherkinRows;
     private final TableConverter tableConverter;
@@ -52,25 +52,14 @@ public class DataTable {
      * @param tableConverter how to convert the rows.
      */
     public DataTable(List<DataTableRow> gherkinRows, TableConverter tableConverter) {
-        this.gherkinRows = gherkinRows;
-        this.tableConverter = tableConverter;
-        int columns = gherkinRows.isEmpty() ? 0 : gherkinRows.get(0).getCells().size();
-        List<List<String>> raw = new ArrayList<List<String>>();
-        for (Row row : gherkinRows) {
-            List<String> list = new ArrayList<String>();
-            list.addAll(row.getCells());
-            if (columns != row.getCells().size()) {
-                throw new CucumberException(String.format("Table is unbalanced: expected %s column(s) but found %s.", columns, row.getCells().size()));
-            }
-            raw.add(Collections.unmodifiableList(list));
-        }
-        this.raw = Collections.unmodifiableList(raw);
+        this(gherkinRows, ColumnarCells.fromRows(gherkinRows), tableConverter);
     }
 
-    private DataTable(List<DataTableRow> gherkinRows, List<List<String>> raw, TableConverter tableConverter) {
+    private DataTable(List<DataTableRow> gherkinRows, ColumnarCells cells, TableConverter tableConverter) {
         this.gherkinRows = gherkinRows;
         this.tableConverter = tableConverter;
-        this.raw = Collections.unmodifiableList(raw);
+        this.cells = cells;
+        this.raw = cells.rows();
     }
 
     /**
@@ -178,9 +167,35 @@ public class DataTable {
         new TableDiffer(this, other).calculateDiffs();
     }
 
+    /**
+     * Diffs this table with {@code other}, which can be a {@code List&lt;List&lt;String&gt;&gt;} or a
+     * {@code List&lt;YourType&gt;}, and reports only the first {@code maxDiffs} missing or extra rows.
+     *
+     * @param other    the other table to diff with.
+     * @param maxDiffs how many missing or extra rows to report at most.
+     * @throws cucumber.runtime.table.TableDiffException if the tables are different.
+     */
+    public void diff(List<?> other, int maxDiffs) throws TableDiffException {
+        List<String> topCells = topCells();
+        DataTable otherTable = toTable(other, topCells.toArray(new String[topCells.size()]));
+        diff(otherTable, maxDiffs);
+    }
+
+    /**
+     * Diffs this table with {@code other}, and reports only the first {@code maxDiffs} missing or extra rows.
+     *
+     * @param other    the other table to diff with.
+     * @param maxDiffs how many missing or extra rows to report at most.
+     * @throws TableDiffException if the tables are different.
+     */
+    public void diff(DataTable other, int maxDiffs) throws TableDiffException {
+        new TableDiffer(this, other, maxDiffs).calculateDiffs();
+    }
+
     /**
      * Diffs this table with {@code other}.
-     * The order is not important. A set-difference is applied.
+     * The order is not important, but duplicate rows are matched one for one: a row that is in this table twice
+     * must be in {@code other} twice too.
      * @param other the other table to diff with.
      * @throws TableDiffException if the tables are different.
      */
@@ -191,6 +206,8 @@ public class DataTable {
     /**
      * Diffs this table with {@code other}, which can be a {@code List&lt;List&lt;String&gt;&gt;} or a
      * {@code List&lt;YourType&gt;}.
+     * The order is not important, but duplicate rows are matched one for one: a row that is in this table twice
+     * must be in {@code other} twice too.
      *
      * @param other the other table to diff with.
      * @throws cucumber.runtime.table.TableDiffException if the tables are different.
@@ -201,6 +218,35 @@ public class DataTable {
         unorderedDiff(otherTable);
     }
 
+    /**
+     * Diffs this table with {@code other}, and reports only the first {@code maxDiffs} missing or extra rows.
+     * The order is not important, but duplicate rows are matched one for one: a row that is in this table twice
+     * must be in {@code other} twice too.
+     *
+     * @param other    the other table to diff with.
+     * @param maxDiffs how many missing or extra rows to report at most.
+     * @throws TableDiffException if the tables are different.
+     */
+    public void unorderedDiff(DataTable other, int maxDiffs) throws TableDiffException {
+        new TableDiffer(this, other, maxDiffs).calculateUnorderedDiffs();
+    }
+
+    /**
+     * Diffs this table with {@code other}, which can be a {@code List&lt;List&lt;String&gt;&gt;} or a
+     * {@code List&lt;YourType&gt;}, and reports only the first {@code maxDiffs} missing or extra rows.
+     * The order is not important, but duplicate rows are matched one for one: a row that is in this table twice
+     * must be in {@code other} twice too.
+     *
+     * @param other    the other table to diff with.
+     * @param maxDiffs how many missing or extra rows to report at most.
+     * @throws cucumber.runtime.table.TableDiffException if the tables are different.
+     */
+    public void unorderedDiff(List<?> other, int maxDiffs) throws TableDiffException {
+        List<String> topCells = topCells();
+        DataTable otherTable = toTable(other, topCells.toArray(new String[topCells.size()]));
+        unorderedDiff(otherTable, maxDiffs);
+    }
+
     /**
      * Internal method. Do not use.
      *
@@ -220,10 +266,9 @@ public class DataTable {
     }
 
     public List<DiffableRow> diffableRows() {
-        List<DiffableRow> result = new ArrayList<DiffableRow>();
-        List<List<String>> convertedRows = raw();
-        for (int i = 0; i < convertedRows.size(); i++) {
-            result.add(new DiffableRow(getGherkinRows().get(i), convertedRows.get(i)));
+        List<DiffableRow> result = new ArrayList<DiffableRow>(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            result.add(new DiffableRow(gherkinRows.get(i), raw.get(i)));
         }
         return result;
     }
@@ -233,22 +278,7 @@ public class DataTable {
     }
 
     public DataTable transpose() {
-        List<List<String>> transposed = new ArrayList<List<String>>();
-        for (int i = 0; i < gherkinRows.size(); i++) {
-            Row gherkinRow = gherkinRows.get(i);
-            for (int j = 0; j < gherkinRow.getCells().size(); j++) {
-                List<String> row = null;
-                if (j < transposed.size()) {
-                    row = transposed.get(j);
-                }
-                if (row == null) {
-                    row = new ArrayList<String>();
-                    transposed.add(row);
-                }
-                row.add(gherkinRow.getCells().get(j));
-            }
-        }
-        return new DataTable(this.gherkinRows, transposed, this.tableConverter);
+        return new DataTable(this.gherkinRows, cells.transpose(), this.tableConverter);
     }
 
     @Override
@@ -4,7 +4,6 @@ import cucumber.runtime.ClassFinder;
 import cucumber.runtime.Runtime;
 import cucumber.runtime.RuntimeOptions;
 import cucumber.runtime.io.MultiLoader;
-import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.io.ResourceLoaderClassFinder;
 
 import java.io.IOException;
@@ -30,9 +29,13 @@ public class Main {
     public static byte run(String[] argv, ClassLoader classLoader) throws IOException {
         RuntimeOptions runtimeOptions = new RuntimeOptions(new ArrayList<String>(asList(argv)));
 
-        ResourceLoader resourceLoader = new MultiLoader(classLoader);
-        ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
-        Runtime runtime = new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions.isDryRun(), runtimeOptions.getGlue());
-        return runtime.run(runtimeOptions).exitStatus;
+        MultiLoader resourceLoader = new MultiLoader(classLoader);
+        try {
+            ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
+            Runtime runtime = new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions);
+            return runtime.run(runtimeOptions).exitStatus;
+        } finally {
+            resourceLoader.close();
+        }
     }
 }
@@ -0,0 +1,70 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Tag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds the hooks that apply to a scenario's tags. Scenarios with the same {@link InternedTags} get the same hooks,
+ * so the hooks are only matched once per distinct set of tags, for as long as the hooks stay the same.
+ * <p/>
+ * Safe to use from several threads, which share a {@link Runtime} when the backends support concurrent worlds.
+ */
+class ApplicableHooks {
+    private volatile Snapshot snapshot = new Snapshot(new HookDefinition[0]);
+
+    List<HookDefinition> get(List<HookDefinition> hooks, Collection<Tag> tags) {
+        if (!(tags instanceof InternedTags)) {
+            // Tags that weren't interned may not have ids, so their bit sets can't tell them apart
+            return match(hooks, tags);
+        }
+        Snapshot snapshot = this.snapshot;
+        if (!snapshot.isOf(hooks)) {
+            snapshot = new Snapshot(hooks.toArray(new HookDefinition[hooks.size()]));
+            this.snapshot = snapshot;
+        }
+        BitSet ids = ((InternedTags) tags).ids();
+        List<HookDefinition> applicable = snapshot.hooksByTags.get(ids);
+        if (applicable == null) {
+            applicable = match(hooks, tags);
+            snapshot.hooksByTags.putIfAbsent(ids, applicable);
+        }
+        return applicable;
+    }
+
+    private static List<HookDefinition> match(List<HookDefinition> hooks, Collection<Tag> tags) {
+        List<HookDefinition> applicable = new ArrayList<HookDefinition>(hooks.size());
+        for (HookDefinition hook : hooks) {
+            if (hook.matches(tags)) {
+                applicable.add(hook);
+            }
+        }
+        return applicable;
+    }
+
+    private static class Snapshot {
+        private final HookDefinition[] hooks;
+        private final ConcurrentMap<BitSet, List<HookDefinition>> hooksByTags = new ConcurrentHashMap<BitSet, List<HookDefinition>>();
+
+        Snapshot(HookDefinition[] hooks) {
+            this.hooks = hooks;
+        }
+
+        boolean isOf(List<HookDefinition> hooks) {
+            if (hooks.size() != this.hooks.length) {
+                return false;
+            }
+            for (int i = 0; i < this.hooks.length; i++) {
+                if (hooks.get(i) != this.hooks[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package cucumber.runtime;
+
+/**
+ * A {@link Backend} that can keep one world per thread.
+ * <p/>
+ * When {@link #supportsConcurrentWorlds()} returns true, {@link #buildWorld()} and {@link #disposeWorld()}
+ * build and dispose the world of the calling thread only, and the step definitions and hooks the backend
+ * added to the glue run against the world of the calling thread. One backend, and the glue it loaded,
+ * can then run scenarios on several threads at the same time.
+ */
+public interface ConcurrentBackend extends Backend {
+    /**
+     * @return true if worlds are confined to the thread that built them, so that scenarios can run
+     * concurrently against this backend.
+     */
+    boolean supportsConcurrentWorlds();
+}
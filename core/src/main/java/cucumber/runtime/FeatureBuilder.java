@@ -1,5 +1,6 @@
 package cucumber.runtime;
 
+import cucumber.runtime.io.FileResource;
 import cucumber.runtime.io.Resource;
 import cucumber.runtime.model.CucumberFeature;
 import gherkin.I18n;
@@ -13,35 +14,55 @@ import gherkin.formatter.model.ScenarioOutline;
 import gherkin.formatter.model.Step;
 import gherkin.lexer.Encoding;
 import gherkin.parser.Parser;
-import gherkin.util.FixJava;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class FeatureBuilder implements Formatter {
     private static final Charset UTF8 = Charset.forName("UTF-8");
     private final List<CucumberFeature> cucumberFeatures;
     private final char fileSeparatorChar;
     private final MessageDigest md5;
+    private final FeatureCache featureCache;
     private final Map<String, String> pathsByChecksum = new HashMap<String, String>();
     private CucumberFeature currentCucumberFeature;
     private String featurePath;
 
     public FeatureBuilder(List<CucumberFeature> cucumberFeatures) {
-        this(cucumberFeatures, File.separatorChar);
+        this(cucumberFeatures, (FeatureCache) null);
+    }
+
+    /**
+     * @param cucumberFeatures where to add the parsed features
+     * @param featureCache     where parsed features are kept between runs, or null to always parse them
+     */
+    public FeatureBuilder(List<CucumberFeature> cucumberFeatures, FeatureCache featureCache) {
+        this(cucumberFeatures, File.separatorChar, featureCache);
     }
 
     FeatureBuilder(List<CucumberFeature> cucumberFeatures, char fileSeparatorChar) {
+        this(cucumberFeatures, fileSeparatorChar, null);
+    }
+
+    FeatureBuilder(List<CucumberFeature> cucumberFeatures, char fileSeparatorChar, FeatureCache featureCache) {
         this.cucumberFeatures = cucumberFeatures;
         this.fileSeparatorChar = fileSeparatorChar;
+        this.featureCache = featureCache;
         try {
             this.md5 = MessageDigest.getInstance("MD5");
         } catch (NoSuchAlgorithmException e) {
@@ -115,24 +136,52 @@ public class FeatureBuilder implements Formatter {
         String gherkin = read(resource);
 
         String checksum = checksum(gherkin);
+        if (isDuplicate(checksum, resource)) {
+            return;
+        }
+        parse(resource, filters, gherkin, checksum);
+    }
+
+    /**
+     * Parses resources on several threads, each resource with a builder of its own. The features are added in
+     * the order of the resources, and duplicates are skipped the same way {@link #parse(Resource, List)} skips them.
+     *
+     * @param resources the resources to parse
+     * @param filters   the filters for each resource
+     * @param executor  where to parse the resources
+     */
+    public void parse(List<Resource> resources, List<List<Object>> filters, ExecutorService executor) {
+        List<Future<ParsedResource>> parsedResources = new ArrayList<Future<ParsedResource>>(resources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            parsedResources.add(executor.submit(new ParseTask(resources.get(i), filters.get(i))));
+        }
+        for (Future<ParsedResource> future : parsedResources) {
+            ParsedResource parsedResource = await(future);
+            if (!isDuplicate(parsedResource.checksum, parsedResource.resource)) {
+                cucumberFeatures.addAll(parsedResource.cucumberFeatures);
+            }
+        }
+    }
+
+    private boolean isDuplicate(String checksum, Resource resource) {
         String path = pathsByChecksum.get(checksum);
         if (path != null) {
-            return;
+            return true;
         }
         pathsByChecksum.put(checksum, resource.getPath());
+        return false;
+    }
 
+    private void parse(Resource resource, List<Object> filters, String gherkin, String checksum) {
         Formatter formatter = this;
         if (!filters.isEmpty()) {
             formatter = new FilterFormatter(this, filters);
         }
-        Parser parser = new Parser(formatter);
-
-        try {
-            parser.parse(gherkin, convertFileSeparatorToForwardSlash(resource.getPath()), 0);
-        } catch (Exception e) {
-            throw new CucumberException(String.format("Error parsing feature file %s", convertFileSeparatorToForwardSlash(resource.getPath())), e);
+        String uri = convertFileSeparatorToForwardSlash(resource.getPath());
+        I18n i18n = featureCache == null ? null : featureCache.replay(checksum, uri, formatter);
+        if (i18n == null) {
+            i18n = parse(gherkin, checksum, uri, formatter);
         }
-        I18n i18n = parser.getI18nLanguage();
         if (currentCucumberFeature != null) {
             // The current feature may be null if we used a very restrictive filter, say a tag that isn't used.
             // Might also happen if the feature file itself is empty.
@@ -140,6 +189,43 @@ public class FeatureBuilder implements Formatter {
         }
     }
 
+    private I18n parse(String gherkin, String checksum, String uri, Formatter formatter) {
+        FeatureCache.Recorder recorder = null;
+        if (featureCache != null) {
+            recorder = featureCache.recorder(checksum, formatter);
+            formatter = recorder;
+        }
+        Parser parser = new Parser(formatter);
+        try {
+            parser.parse(gherkin, uri, 0);
+        } catch (Exception e) {
+            throw new CucumberException(String.format("Error parsing feature file %s", uri), e);
+        }
+        I18n i18n = parser.getI18nLanguage();
+        if (recorder != null) {
+            recorder.save(i18n);
+        }
+        return i18n;
+    }
+
+    private static ParsedResource await(Future<ParsedResource> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CucumberException(cause);
+        }
+    }
+
     private String convertFileSeparatorToForwardSlash(String path) {
         return path.replace(fileSeparatorChar, '/');
     }
@@ -148,16 +234,112 @@ public class FeatureBuilder implements Formatter {
         return new BigInteger(1, md5.digest(gherkin.getBytes(UTF8))).toString(16);
     }
 
+    /**
+     * Reads the source of a feature. The bytes are read once: the encoding comment, if any, is looked for in the
+     * leading comment lines only, and the bytes are then decoded with that encoding.
+     *
+     * @param resource the feature file
+     * @return the source of the feature
+     */
     public String read(Resource resource) {
         try {
-            String source = FixJava.readReader(new InputStreamReader(resource.getInputStream(), "UTF-8"));
-            String encoding = new Encoding().encoding(source);
-            if (!"UTF-8".equals(encoding)) {
-                source = FixJava.readReader(new InputStreamReader(resource.getInputStream(), encoding));
-            }
-            return source;
+            ByteBuffer bytes = bytes(resource);
+            String encoding = new Encoding().encoding(header(bytes));
+            return decode(bytes, Charset.forName(encoding));
         } catch (IOException e) {
             throw new CucumberException("Failed to read resource:" + resource.getPath(), e);
+        } catch (IllegalArgumentException e) {
+            // Unknown or illegal encoding name
+            throw new CucumberException("Failed to read resource:" + resource.getPath(), e);
+        }
+    }
+
+    private static ByteBuffer bytes(Resource resource) throws IOException {
+        if (resource instanceof FileResource) {
+            return ((FileResource) resource).read();
+        }
+        InputStream in = resource.getInputStream();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @return the leading comment and empty lines, up to and including the first other line, which is as far as
+     * {@link Encoding} looks for the encoding comment.
+     */
+    private static String header(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        int i = bytes.position();
+        while (i < limit) {
+            while (i < limit && isWhitespace(bytes.get(i))) {
+                i++;
+            }
+            boolean commentOrEmpty = i == limit || bytes.get(i) == '\n' || bytes.get(i) == '#';
+            while (i < limit && bytes.get(i) != '\n') {
+                i++;
+            }
+            if (i < limit) {
+                i++;
+            }
+            if (!commentOrEmpty) {
+                break;
+            }
+        }
+        ByteBuffer header = bytes.duplicate();
+        header.limit(i);
+        return decode(header, UTF8);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        // The same characters as \s in a regular expression, except for the line separator
+        return b == ' ' || b == '\t' || b == '\r' || b == 0x0B || b == '\f';
+    }
+
+    private static String decode(ByteBuffer bytes, Charset charset) {
+        if (bytes.hasArray()) {
+            return new String(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining(), charset);
+        }
+        return charset.decode(bytes.duplicate()).toString();
+    }
+
+    private class ParseTask implements Callable<ParsedResource> {
+        private final Resource resource;
+        private final List<Object> filters;
+
+        ParseTask(Resource resource, List<Object> filters) {
+            this.resource = resource;
+            this.filters = filters;
+        }
+
+        @Override
+        public ParsedResource call() {
+            List<CucumberFeature> parsedFeatures = new ArrayList<CucumberFeature>();
+            FeatureBuilder builder = new FeatureBuilder(parsedFeatures, fileSeparatorChar, featureCache);
+            String gherkin = builder.read(resource);
+            String checksum = builder.checksum(gherkin);
+            builder.parse(resource, filters, gherkin, checksum);
+            return new ParsedResource(resource, checksum, parsedFeatures);
+        }
+    }
+
+    private static class ParsedResource {
+        private final Resource resource;
+        private final String checksum;
+        private final List<CucumberFeature> cucumberFeatures;
+
+        ParsedResource(Resource resource, String checksum, List<CucumberFeature> cucumberFeatures) {
+            this.resource = resource;
+            this.checksum = checksum;
+            this.cucumberFeatures = cucumberFeatures;
         }
     }
 }
@@ -0,0 +1,479 @@
+package cucumber.runtime;
+
+import gherkin.I18n;
+import gherkin.formatter.Formatter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import gherkin.formatter.model.DocString;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.ExamplesTableRow;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Row;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+import gherkin.formatter.model.Tag;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the gherkin parsed from feature files in a directory, keyed by the checksum of their source, so that
+ * unchanged features don't have to be lexed and parsed again on the next run.
+ * <p/>
+ * An entry holds the events the gherkin {@link gherkin.parser.Parser} sent to its {@link Formatter}, before
+ * any filtering, in a compact binary format. Replaying an entry sends the same events again. Entries that
+ * can't be read, for example because they were written by another version, are ignored and overwritten.
+ */
+public class FeatureCache {
+    private static final int MAGIC = 0x63756b65;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".gherkin";
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final byte FEATURE = 1;
+    private static final byte BACKGROUND = 2;
+    private static final byte SCENARIO = 3;
+    private static final byte SCENARIO_OUTLINE = 4;
+    private static final byte EXAMPLES = 5;
+    private static final byte STEP = 6;
+    private static final byte EOF = 7;
+    private static final byte END = 0;
+
+    private final File dir;
+
+    public FeatureCache(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Sends the cached events for a feature to a formatter.
+     *
+     * @param checksum  checksum of the feature source
+     * @param uri       the uri of the feature
+     * @param formatter where to send the events
+     * @return the language of the feature, or null when there is no (readable) entry. No events are sent then.
+     */
+    public I18n replay(String checksum, String uri, Formatter formatter) {
+        File file = file(checksum);
+        if (!file.isFile()) {
+            return null;
+        }
+        List<Object> events;
+        String isoCode;
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            events = new ArrayList<Object>();
+            byte type;
+            while ((type = in.readByte()) != END) {
+                events.add(readEvent(type, in));
+            }
+            isoCode = in.readUTF();
+        } catch (IOException e) {
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+
+        formatter.uri(uri);
+        for (Object event : events) {
+            send(event, formatter);
+        }
+        return new I18n(isoCode);
+    }
+
+    /**
+     * @param checksum  checksum of the feature source
+     * @param formatter where the parser's events go
+     * @return a formatter that records the events it passes on to {@code formatter}
+     */
+    public Recorder recorder(String checksum, Formatter formatter) {
+        return new Recorder(checksum, formatter);
+    }
+
+    private File file(String checksum) {
+        return new File(dir, checksum + SUFFIX);
+    }
+
+    private void write(String checksum, byte[] entry) {
+        if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory()) {
+            throw new CucumberException("Couldn't create feature cache directory " + dir);
+        }
+        File file = file(checksum);
+        File tmp = new File(dir, checksum + "." + Thread.currentThread().getId() + ".tmp");
+        OutputStream out = null;
+        try {
+            out = new FileOutputStream(tmp);
+            out.write(entry);
+            out.close();
+            out = null;
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                if (!tmp.renameTo(file)) {
+                    tmp.delete();
+                }
+            }
+        } catch (IOException e) {
+            throw new CucumberException("Couldn't write to feature cache " + file, e);
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    private static void send(Object event, Formatter formatter) {
+        if (event instanceof Feature) {
+            formatter.feature((Feature) event);
+        } else if (event instanceof Background) {
+            formatter.background((Background) event);
+        } else if (event instanceof Scenario) {
+            formatter.scenario((Scenario) event);
+        } else if (event instanceof ScenarioOutline) {
+            formatter.scenarioOutline((ScenarioOutline) event);
+        } else if (event instanceof Examples) {
+            formatter.examples((Examples) event);
+        } else if (event instanceof Step) {
+            formatter.step((Step) event);
+        } else {
+            formatter.eof();
+        }
+    }
+
+    private static Object readEvent(byte type, DataInputStream in) throws IOException {
+        switch (type) {
+            case FEATURE:
+                return new Feature(readComments(in), readTags(in), readString(in), readString(in), readString(in), readInteger(in), readString(in));
+            case BACKGROUND:
+                return new Background(readComments(in), readString(in), readString(in), readString(in), readInteger(in));
+            case SCENARIO:
+                return new Scenario(readComments(in), readTags(in), readString(in), readString(in), readString(in), readInteger(in), readString(in));
+            case SCENARIO_OUTLINE:
+                return new ScenarioOutline(readComments(in), readTags(in), readString(in), readString(in), readString(in), readInteger(in), readString(in));
+            case EXAMPLES:
+                return new Examples(readComments(in), readTags(in), readString(in), readString(in), readString(in), readInteger(in), readString(in), readExamplesRows(in));
+            case STEP:
+                return new Step(readComments(in), readString(in), readString(in), readInteger(in), readDataTableRows(in), readDocString(in));
+            case EOF:
+                return EOF;
+            default:
+                throw new IOException("Unknown event " + type);
+        }
+    }
+
+    private static List<Comment> readComments(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<Comment> comments = new ArrayList<Comment>(size);
+        for (int i = 0; i < size; i++) {
+            comments.add(new Comment(readString(in), readInteger(in)));
+        }
+        return comments;
+    }
+
+    private static List<Tag> readTags(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<Tag> tags = new ArrayList<Tag>(size);
+        for (int i = 0; i < size; i++) {
+            tags.add(new Tag(readString(in), readInteger(in)));
+        }
+        return tags;
+    }
+
+    private static List<ExamplesTableRow> readExamplesRows(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<ExamplesTableRow> rows = new ArrayList<ExamplesTableRow>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new ExamplesTableRow(readComments(in), readStrings(in), readInteger(in), readString(in)));
+        }
+        return rows;
+    }
+
+    private static List<DataTableRow> readDataTableRows(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<DataTableRow> rows = new ArrayList<DataTableRow>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new DataTableRow(readComments(in), readStrings(in), readInteger(in)));
+        }
+        return rows;
+    }
+
+    private static DocString readDocString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new DocString(readString(in), readString(in), readInteger(in));
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> strings = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(readString(in));
+        }
+        return strings;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, UTF8);
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    /**
+     * Passes the parser's events on and writes them to the cache when the feature has been parsed.
+     */
+    public class Recorder implements Formatter {
+        private final String checksum;
+        private final Formatter formatter;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private boolean broken;
+
+        private Recorder(String checksum, Formatter formatter) {
+            this.checksum = checksum;
+            this.formatter = formatter;
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+        }
+
+        /**
+         * Writes the recorded events to the cache.
+         *
+         * @param i18n the language the parser found
+         */
+        public void save(I18n i18n) {
+            if (broken) {
+                return;
+            }
+            try {
+                out.writeByte(END);
+                out.writeUTF(i18n.getIsoCode());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            write(checksum, bytes.toByteArray());
+        }
+
+        @Override
+        public void uri(String uri) {
+            formatter.uri(uri);
+        }
+
+        @Override
+        public void feature(Feature feature) {
+            try {
+                out.writeByte(FEATURE);
+                writeTagStatement(feature.getComments(), feature.getTags(), feature.getKeyword(), feature.getName(), feature.getDescription(), feature.getLine(), feature.getId());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.feature(feature);
+        }
+
+        @Override
+        public void background(Background background) {
+            try {
+                out.writeByte(BACKGROUND);
+                writeComments(background.getComments());
+                writeString(background.getKeyword());
+                writeString(background.getName());
+                writeString(background.getDescription());
+                writeInteger(background.getLine());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.background(background);
+        }
+
+        @Override
+        public void scenario(Scenario scenario) {
+            try {
+                out.writeByte(SCENARIO);
+                writeTagStatement(scenario.getComments(), scenario.getTags(), scenario.getKeyword(), scenario.getName(), scenario.getDescription(), scenario.getLine(), scenario.getId());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.scenario(scenario);
+        }
+
+        @Override
+        public void scenarioOutline(ScenarioOutline scenarioOutline) {
+            try {
+                out.writeByte(SCENARIO_OUTLINE);
+                writeTagStatement(scenarioOutline.getComments(), scenarioOutline.getTags(), scenarioOutline.getKeyword(), scenarioOutline.getName(), scenarioOutline.getDescription(), scenarioOutline.getLine(), scenarioOutline.getId());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.scenarioOutline(scenarioOutline);
+        }
+
+        @Override
+        public void examples(Examples examples) {
+            try {
+                out.writeByte(EXAMPLES);
+                writeTagStatement(examples.getComments(), examples.getTags(), examples.getKeyword(), examples.getName(), examples.getDescription(), examples.getLine(), examples.getId());
+                writeRows(examples.getRows());
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.examples(examples);
+        }
+
+        @Override
+        public void step(Step step) {
+            try {
+                out.writeByte(STEP);
+                writeComments(step.getComments());
+                writeString(step.getKeyword());
+                writeString(step.getName());
+                writeInteger(step.getLine());
+                writeRows(step.getRows());
+                DocString docString = step.getDocString();
+                out.writeBoolean(docString != null);
+                if (docString != null) {
+                    writeString(docString.getContentType());
+                    writeString(docString.getValue());
+                    writeInteger(docString.getLine());
+                }
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.step(step);
+        }
+
+        @Override
+        public void eof() {
+            try {
+                out.writeByte(EOF);
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+            formatter.eof();
+        }
+
+        @Override
+        public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
+            broken = true;
+            formatter.syntaxError(state, event, legalEvents, uri, line);
+        }
+
+        @Override
+        public void done() {
+            formatter.done();
+        }
+
+        @Override
+        public void close() {
+            formatter.close();
+        }
+
+        @Override
+        public void startOfScenarioLifeCycle(Scenario scenario) {
+            formatter.startOfScenarioLifeCycle(scenario);
+        }
+
+        @Override
+        public void endOfScenarioLifeCycle(Scenario scenario) {
+            formatter.endOfScenarioLifeCycle(scenario);
+        }
+
+        private void writeTagStatement(List<Comment> comments, List<Tag> tags, String keyword, String name, String description, Integer line, String id) throws IOException {
+            writeComments(comments);
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                writeString(tag.getName());
+                writeInteger(tag.getLine());
+            }
+            writeString(keyword);
+            writeString(name);
+            writeString(description);
+            writeInteger(line);
+            writeString(id);
+        }
+
+        private void writeRows(List<? extends Row> rows) throws IOException {
+            if (rows == null) {
+                out.writeInt(-1);
+                return;
+            }
+            out.writeInt(rows.size());
+            for (Row row : rows) {
+                writeComments(row.getComments());
+                out.writeInt(row.getCells().size());
+                for (String cell : row.getCells()) {
+                    writeString(cell);
+                }
+                writeInteger(row.getLine());
+                if (row instanceof ExamplesTableRow) {
+                    writeString(((ExamplesTableRow) row).getId());
+                }
+            }
+        }
+
+        private void writeComments(List<Comment> comments) throws IOException {
+            out.writeInt(comments.size());
+            for (Comment comment : comments) {
+                writeString(comment.getValue());
+                writeInteger(comment.getLine());
+            }
+        }
+
+        private void writeString(String s) throws IOException {
+            if (s == null) {
+                out.writeInt(-1);
+                return;
+            }
+            byte[] utf8 = s.getBytes(UTF8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+
+        private void writeInteger(Integer i) throws IOException {
+            out.writeBoolean(i != null);
+            if (i != null) {
+                out.writeInt(i);
+            }
+        }
+    }
+}
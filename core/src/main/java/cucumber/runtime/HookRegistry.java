@@ -0,0 +1,84 @@
+package cucumber.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The before or after hooks of a {@link RuntimeGlue}, in the order they run.
+ * <p/>
+ * Global hooks are registered while the glue is loaded, and are sorted once, the first time the hooks are asked for.
+ * Scenario scoped hooks are registered again for every scenario. They are kept apart, and merged with the sorted
+ * global hooks in a single pass, so that removing them at the end of the scenario only has to drop their list.
+ * <p/>
+ * Hooks with the same order run in the order they were added, global hooks first.
+ * <p/>
+ * Safe to use from several threads, which share a {@link Runtime} when the backends support concurrent worlds. The
+ * lists it hands out are never modified, so they can be iterated without holding the lock.
+ */
+class HookRegistry {
+    private final Comparator<HookDefinition> comparator;
+    private final List<HookDefinition> globalHooks = new ArrayList<HookDefinition>();
+    private final List<HookDefinition> scenarioScopedHooks = new ArrayList<HookDefinition>();
+    private List<HookDefinition> sortedGlobalHooks = Collections.emptyList();
+    private List<HookDefinition> hooks = Collections.emptyList();
+
+    HookRegistry(Comparator<HookDefinition> comparator) {
+        this.comparator = comparator;
+    }
+
+    synchronized void add(HookDefinition hook) {
+        if (hook.isScenarioScoped()) {
+            scenarioScopedHooks.add(hook);
+        } else {
+            globalHooks.add(hook);
+            sortedGlobalHooks = null;
+        }
+        hooks = null;
+    }
+
+    synchronized void removeScenarioScopedHooks() {
+        if (!scenarioScopedHooks.isEmpty()) {
+            scenarioScopedHooks.clear();
+            hooks = null;
+        }
+    }
+
+    /**
+     * @return all hooks, in the order they run. The list must not be modified, and stays the same object for as
+     * long as no hooks are added or removed.
+     */
+    synchronized List<HookDefinition> getHooks() {
+        if (hooks == null) {
+            if (sortedGlobalHooks == null) {
+                Collections.sort(globalHooks, comparator);
+                sortedGlobalHooks = Collections.unmodifiableList(new ArrayList<HookDefinition>(globalHooks));
+            }
+            hooks = scenarioScopedHooks.isEmpty() ? sortedGlobalHooks : Collections.unmodifiableList(merge());
+        }
+        return hooks;
+    }
+
+    synchronized int size() {
+        return globalHooks.size() + scenarioScopedHooks.size();
+    }
+
+    private List<HookDefinition> merge() {
+        List<HookDefinition> scenarioScoped = new ArrayList<HookDefinition>(scenarioScopedHooks);
+        Collections.sort(scenarioScoped, comparator);
+        List<HookDefinition> merged = new ArrayList<HookDefinition>(globalHooks.size() + scenarioScoped.size());
+        int global = 0;
+        int scoped = 0;
+        while (global < globalHooks.size() && scoped < scenarioScoped.size()) {
+            if (comparator.compare(globalHooks.get(global), scenarioScoped.get(scoped)) <= 0) {
+                merged.add(globalHooks.get(global++));
+            } else {
+                merged.add(scenarioScoped.get(scoped++));
+            }
+        }
+        merged.addAll(globalHooks.subList(global, globalHooks.size()));
+        merged.addAll(scenarioScoped.subList(scoped, scenarioScoped.size()));
+        return merged;
+    }
+}
@@ -0,0 +1,47 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Tag;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An unmodifiable set of tags that also knows the {@link TagIds} of its tag names. Scenarios build it once when
+ * their feature is loaded, so that hooks and filters can match their tags without hashing tag names again.
+ */
+public class InternedTags extends AbstractSet<Tag> {
+    private final Set<Tag> tags;
+    private final BitSet ids;
+
+    public InternedTags(Collection<Tag> tags) {
+        this.tags = Collections.unmodifiableSet(new HashSet<Tag>(tags));
+        this.ids = TagIds.intern(tags);
+    }
+
+    /**
+     * @return the ids of the tag names. Must not be modified.
+     */
+    BitSet ids() {
+        return ids;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return tags.iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return tags.contains(o);
+    }
+}
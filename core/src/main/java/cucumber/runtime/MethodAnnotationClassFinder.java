@@ -0,0 +1,18 @@
+package cucumber.runtime;
+
+import java.util.Collection;
+
+/**
+ * A {@link ClassFinder} that can tell which classes have annotated methods before loading them.
+ */
+public interface MethodAnnotationClassFinder extends ClassFinder {
+    /**
+     * Finds the classes in a package that declare, or inherit, a method annotated with an annotation from
+     * another package. Classes that can't have such methods are not loaded.
+     *
+     * @param packageName           where to look for classes
+     * @param annotationPackageName the package of the annotations, including its sub packages
+     * @return the classes that may have such methods
+     */
+    Collection<Class<?>> getClassesWithMethodAnnotations(String packageName, String annotationPackageName);
+}
@@ -0,0 +1,70 @@
+package cucumber.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a glue method over and over, without the lookups {@link Utils#invoke} does on every call.
+ * <p/>
+ * The method is made accessible once, and the method to call on a target loaded by another class loader is
+ * looked up once per target class.
+ */
+public class MethodInvoker {
+    private final Method method;
+    private volatile Resolved resolved;
+
+    public MethodInvoker(Method method) {
+        this.method = method;
+        method.setAccessible(true);
+        this.resolved = new Resolved(method.getDeclaringClass(), method);
+    }
+
+    public Object invoke(final Object target, long timeoutMillis, final Object... args) throws Throwable {
+        final Method targetMethod = targetMethod(target);
+        if (timeoutMillis == 0) {
+            return invoke(targetMethod, target, args);
+        }
+        return Timeout.timeout(new Timeout.Callback<Object>() {
+            @Override
+            public Object call() throws Throwable {
+                return invoke(targetMethod, target, args);
+            }
+        }, timeoutMillis);
+    }
+
+    private Method targetMethod(Object target) throws NoSuchMethodException {
+        Resolved current = resolved;
+        Class<?> targetClass = target.getClass();
+        if (current.targetClass == targetClass) {
+            return current.targetMethod;
+        }
+        Method targetMethod = Utils.targetMethod(target, method);
+        if (targetMethod != method) {
+            targetMethod.setAccessible(true);
+        }
+        resolved = new Resolved(targetClass, targetMethod);
+        return targetMethod;
+    }
+
+    private static Object invoke(Method targetMethod, Object target, Object[] args) throws Throwable {
+        try {
+            return targetMethod.invoke(target, args);
+        } catch (IllegalArgumentException e) {
+            throw new CucumberException("Failed to invoke " + MethodFormat.FULL.format(targetMethod), e);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        } catch (IllegalAccessException e) {
+            throw new CucumberException("Failed to invoke " + MethodFormat.FULL.format(targetMethod), e);
+        }
+    }
+
+    private static class Resolved {
+        private final Class<?> targetClass;
+        private final Method targetMethod;
+
+        Resolved(Class<?> targetClass, Method targetMethod) {
+            this.targetClass = targetClass;
+            this.targetMethod = targetMethod;
+        }
+    }
+}
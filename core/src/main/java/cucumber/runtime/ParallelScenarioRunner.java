@@ -0,0 +1,164 @@
+package cucumber.runtime;
+
+import cucumber.runtime.model.CucumberFeature;
+import cucumber.runtime.model.CucumberTagStatement;
+import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
+import gherkin.formatter.Formatter;
+import gherkin.formatter.Reporter;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the scenarios and scenario outlines of features concurrently on a pool of worker threads.
+ * <p/>
+ * When all backends keep one world per thread (see {@link ConcurrentBackend}) the worker threads share the
+ * runtime. Otherwise every worker thread has its own {@link Runtime}, with its own backends, glue and worlds.
+ * Every scenario gets its own {@link UndefinedStepsTracker}. The formatter and reporter calls of a scenario are recorded and
+ * replayed on the calling thread in feature order, so plugins are never called concurrently and produce the
+ * same output as a serial run.
+ */
+class ParallelScenarioRunner {
+    private final Runtime runtime;
+    private final int threads;
+
+    ParallelScenarioRunner(Runtime runtime, int threads) {
+        this.runtime = runtime;
+        this.threads = threads;
+    }
+
+    public RunResult run(List<CucumberFeature> features, Formatter formatter, Reporter reporter, UndefinedStepsTracker tracker) {
+        final boolean shareRuntime = runtime.supportsConcurrentWorlds();
+        final ThreadLocal<Runtime> workerRuntime = new ThreadLocal<Runtime>() {
+            @Override
+            protected Runtime initialValue() {
+                return shareRuntime ? runtime : runtime.createWorker();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory());
+        try {
+            List<List<Future<ScenarioOutcome>>> outcomesByFeature = new ArrayList<List<Future<ScenarioOutcome>>>();
+            for (CucumberFeature cucumberFeature : features) {
+                List<Future<ScenarioOutcome>> outcomes = new ArrayList<Future<ScenarioOutcome>>();
+                for (final CucumberTagStatement cucumberTagStatement : cucumberFeature.getFeatureElements()) {
+                    outcomes.add(executor.submit(new Callable<ScenarioOutcome>() {
+                        @Override
+                        public ScenarioOutcome call() {
+                            return runTagStatement(cucumberTagStatement, workerRuntime.get());
+                        }
+                    }));
+                }
+                outcomesByFeature.add(outcomes);
+            }
+
+            RunResultAccumulator result = new RunResultAccumulator();
+            for (int i = 0; i < features.size(); i++) {
+                CucumberFeature cucumberFeature = features.get(i);
+                formatter.uri(cucumberFeature.getPath());
+                formatter.feature(cucumberFeature.getGherkinFeature());
+                for (Future<ScenarioOutcome> future : outcomesByFeature.get(i)) {
+                    ScenarioOutcome outcome = await(future);
+                    outcome.replay(formatter, reporter);
+                    tracker.addUndefinedSteps(outcome.tracker);
+                    result.add(outcome.runResult);
+                }
+                formatter.eof();
+            }
+            return result.toRunResult();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ScenarioOutcome runTagStatement(CucumberTagStatement cucumberTagStatement, Runtime workerRuntime) {
+        UndefinedStepsTracker tracker = new UndefinedStepsTracker();
+        final List<RecordedCall> calls = new ArrayList<RecordedCall>();
+        Object recorder = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Formatter.class, Reporter.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.invoke(this, args);
+                }
+                calls.add(new RecordedCall(method, args));
+                return null;
+            }
+        });
+        RunResult runResult = cucumberTagStatement.run((Formatter) recorder, (Reporter) recorder, workerRuntime, tracker);
+        return new ScenarioOutcome(calls, runResult, tracker);
+    }
+
+    private static ScenarioOutcome await(Future<ScenarioOutcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CucumberException(cause);
+        }
+    }
+
+    private static class ScenarioOutcome {
+        private final List<RecordedCall> calls;
+        private final RunResult runResult;
+        private final UndefinedStepsTracker tracker;
+
+        ScenarioOutcome(List<RecordedCall> calls, RunResult runResult, UndefinedStepsTracker tracker) {
+            this.calls = calls;
+            this.runResult = runResult;
+            this.tracker = tracker;
+        }
+
+        void replay(Formatter formatter, Reporter reporter) {
+            for (RecordedCall call : calls) {
+                Object target = call.method.getDeclaringClass() == Formatter.class ? formatter : reporter;
+                try {
+                    Utils.invoke(target, call.method, 0, call.args);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new CucumberException(t);
+                }
+            }
+        }
+    }
+
+    private static class RecordedCall {
+        private final Method method;
+        private final Object[] args;
+
+        RecordedCall(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cucumber-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class ParameterInfo {
     private final String delimiter;
     private final boolean transposed;
     private final Transformer<?> transformer;
+    private volatile ResolvedConverter resolvedConverter;
 
     public static List<ParameterInfo> fromMethod(Method method) {
         List<ParameterInfo> result = new ArrayList<ParameterInfo>();
@@ -131,39 +132,70 @@ public class ParameterInfo {
     }
 
     public Object convert(String value, LocalizedXStreams.LocalizedXStream xStream) {
-        try {
-            xStream.setParameterInfo(this);
-            SingleValueConverter converter;
-            xStream.processAnnotations(getRawType());
-            xStream.autodetectAnnotations(true); // Needed to unlock annotation processing
-
-            if (transformer != null) {
-                transformer.setParameterInfoAndLocale(this, xStream.getLocale());
-                converter = transformer;
-            } else {
-                if (List.class.isAssignableFrom(getRawType())) {
-                    converter = getListConverter(type, xStream);
-                } else {
-                    converter = xStream.getSingleValueConverter(getRawType());
+        SingleValueConverter converter = getConverter(xStream);
+        if (converter == null) {
+            throw new CucumberException(String.format(
+                    "Don't know how to convert \"%s\" into %s.\n" +
+                            "Try writing your own converter:\n" +
+                            "\n" +
+                            "@%s(%sConverter.class)\n" +
+                            "public class %s {}\n",
+                    value,
+                    getRawType().getName(),
+                    XStreamConverter.class.getName(),
+                    getRawType().getSimpleName(),
+                    getRawType().getSimpleName()
+            ));
+        }
+        return converter.fromString(value);
+    }
+
+    /**
+     * The converter is looked up the first time a parameter is converted, and reused for as long as the
+     * same xStream is used. Threads have xStreams of their own, so the converter never crosses threads.
+     *
+     * @return the converter for this parameter, or null if there is none.
+     */
+    private SingleValueConverter getConverter(LocalizedXStreams.LocalizedXStream xStream) {
+        ResolvedConverter current = resolvedConverter;
+        if (current != null && current.xStream == xStream) {
+            return current.converter;
+        }
+        SingleValueConverter converter = resolveConverter(xStream);
+        if (converter != null) {
+            resolvedConverter = new ResolvedConverter(xStream, converter);
+        }
+        return converter;
+    }
+
+    private SingleValueConverter resolveConverter(final LocalizedXStreams.LocalizedXStream xStream) {
+        xStream.processAnnotations(getRawType());
+        xStream.autodetectAnnotations(true); // Needed to unlock annotation processing
+
+        if (transformer != null) {
+            final ParameterInfo parameterInfo = this;
+            return new SingleValueConverter() {
+                @Override
+                public Object fromString(String value) {
+                    // The transformer is shared by every xStream this parameter is converted with.
+                    transformer.setParameterInfoAndLocale(parameterInfo, xStream.getLocale());
+                    return transformer.fromString(value);
                 }
-                if (converter == null) {
-                    throw new CucumberException(String.format(
-                            "Don't know how to convert \"%s\" into %s.\n" +
-                                    "Try writing your own converter:\n" +
-                                    "\n" +
-                                    "@%s(%sConverter.class)\n" +
-                                    "public class %s {}\n",
-                            value,
-                            getRawType().getName(),
-                            XStreamConverter.class.getName(),
-                            getRawType().getSimpleName(),
-                            getRawType().getSimpleName()
-                    ));
+
+                @Override
+                public String toString(Object object) {
+                    return transformer.toString(object);
                 }
-            }
-            return converter.fromString(value);
-        } finally {
-            xStream.unsetParameterInfo();
+
+                @Override
+                public boolean canConvert(Class type) {
+                    return transformer.canConvert(type);
+                }
+            };
+        } else if (List.class.isAssignableFrom(getRawType())) {
+            return getListConverter(type, xStream);
+        } else {
+            return xStream.getSingleValueConverter(getRawType(), this);
         }
     }
 
@@ -172,7 +204,7 @@ public class ParameterInfo {
                 ? getRawType(((ParameterizedType) type).getActualTypeArguments()[0])
                 : Object.class;
 
-        SingleValueConverter elementConverter = xStream.getSingleValueConverter(elementType);
+        SingleValueConverter elementConverter = xStream.getSingleValueConverter(elementType, this);
         if (elementConverter == null) {
             return null;
         } else {
@@ -183,4 +215,14 @@ public class ParameterInfo {
     public String getFormat() {
         return format;
     }
+
+    private static class ResolvedConverter {
+        private final LocalizedXStreams.LocalizedXStream xStream;
+        private final SingleValueConverter converter;
+
+        ResolvedConverter(LocalizedXStreams.LocalizedXStream xStream, SingleValueConverter converter) {
+            this.xStream = xStream;
+            this.converter = converter;
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package cucumber.runtime;
+
+import java.util.regex.Pattern;
+
+/**
+ * A {@link StepDefinition} that matches steps by applying a {@link Pattern} with
+ * {@link java.util.regex.Matcher#lookingAt()} to the step name, the way {@link JdkPatternArgumentMatcher} does.
+ * <p/>
+ * Implementing this interface allows {@link RuntimeGlue} to index the step definition by the literal
+ * prefix of its pattern, so it is only tried against steps that can possibly match.
+ */
+public interface PatternStepDefinition extends StepDefinition {
+    /**
+     * @return the pattern used by {@link #matchedArguments(gherkin.formatter.model.Step)}.
+     */
+    Pattern getCompiledPattern();
+}
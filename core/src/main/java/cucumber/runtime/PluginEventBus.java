@@ -0,0 +1,143 @@
+package cucumber.runtime;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Delivers plugin calls on a single consumer thread, so that slow plugins don't hold up the thread
+ * running the scenarios.
+ * <p/>
+ * Calls are queued in a bounded ring buffer and delivered in the order they were published. The
+ * publishing thread blocks while the buffer is full. A plugin that throws fails the next
+ * {@link #publish} or {@link #flush} call on the publishing thread.
+ */
+class PluginEventBus {
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private final BlockingQueue<Event> ringBuffer;
+    private final Thread consumer;
+    private volatile Throwable failure;
+
+    PluginEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    PluginEventBus(int capacity) {
+        ringBuffer = new ArrayBlockingQueue<Event>(capacity);
+        consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "cucumber-plugin-events");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Invokes a plugin method. Failures of the optional lifecycle methods, which not all plugins
+     * implement, are ignored.
+     */
+    static void deliver(Object plugin, Method method, Object[] args) throws Throwable {
+        try {
+            Utils.invoke(plugin, method, 0, args);
+        } catch (Throwable t) {
+            if (!method.getName().equals("startOfScenarioLifeCycle") && !method.getName().equals("endOfScenarioLifeCycle")) {
+                // IntelliJ has its own formatter which doesn't yet implement these methods.
+                throw t;
+            }
+        }
+    }
+
+    public void publish(Object plugin, Method method, Object[] args) {
+        rethrowFailure();
+        put(new Event(plugin, method, args, null));
+    }
+
+    /**
+     * Waits until all calls published so far have been delivered.
+     */
+    public void flush() {
+        CountDownLatch delivered = new CountDownLatch(1);
+        put(new Event(null, null, null, delivered));
+        try {
+            delivered.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Delivers all published calls and stops the consumer thread.
+     */
+    public void close() {
+        try {
+            flush();
+        } finally {
+            consumer.interrupt();
+        }
+    }
+
+    private void put(Event event) {
+        try {
+            ringBuffer.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable t = failure;
+        if (t != null) {
+            failure = null;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new CucumberException(t);
+        }
+    }
+
+    private void consume() {
+        try {
+            while (true) {
+                Event event = ringBuffer.take();
+                if (event.plugin != null) {
+                    try {
+                        deliver(event.plugin, event.method, event.args);
+                    } catch (Throwable t) {
+                        if (failure == null) {
+                            failure = t;
+                        }
+                    }
+                }
+                if (event.delivered != null) {
+                    event.delivered.countDown();
+                }
+            }
+        } catch (InterruptedException stopped) {
+            // Closed
+        }
+    }
+
+    private static class Event {
+        private final Object plugin;
+        private final Method method;
+        private final Object[] args;
+        private final CountDownLatch delivered;
+
+        private Event(Object plugin, Method method, Object[] args, CountDownLatch delivered) {
+            this.plugin = plugin;
+            this.method = method;
+            this.args = args;
+            this.delivered = delivered;
+        }
+    }
+}
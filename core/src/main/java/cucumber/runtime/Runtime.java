@@ -6,7 +6,9 @@ import cucumber.api.SummaryPrinter;
 import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import cucumber.runtime.snippets.FunctionNameGenerator;
+import cucumber.runtime.table.ComplexTypeConverter;
 import cucumber.runtime.xstream.LocalizedXStreams;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
@@ -50,13 +52,23 @@ public class Runtime implements UnreportedStepExecutor {
 
     private final Collection<? extends Backend> backends;
     private final ResourceLoader resourceLoader;
+    private final ClassFinder classFinder;
     private final ClassLoader classLoader;
     private final StopWatch.StopWatchFactory stopWatchFactory;
     private final boolean isDryRun;
+    private final List<String> gluePaths;
+    private final ComplexTypeConverter complexTypeConverter;
+    private final ApplicableHooks applicableBeforeHooks = new ApplicableHooks();
+    private final ApplicableHooks applicableAfterHooks = new ApplicableHooks();
 
 
     public Runtime(ResourceLoader resourceLoader, ClassFinder classFinder, ClassLoader classLoader, boolean isDryRun, List<String> glue) {
-        this(resourceLoader, classLoader, isDryRun, glue, loadBackends(resourceLoader, classFinder));
+        this(resourceLoader, classFinder, classLoader, isDryRun, glue, loadBackends(resourceLoader, classFinder), StopWatch.SIMPLE_FACTORY, null, null);
+    }
+
+    public Runtime(ResourceLoader resourceLoader, ClassFinder classFinder, ClassLoader classLoader, RuntimeOptions runtimeOptions) {
+        this(resourceLoader, classFinder, classLoader, runtimeOptions.isDryRun(), runtimeOptions.getGlue(), loadBackends(resourceLoader, classFinder),
+                StopWatch.SIMPLE_FACTORY, null, runtimeOptions.complexTypeConverter(classLoader));
     }
 
     public Runtime(ResourceLoader resourceLoader, ClassLoader classLoader, boolean isDryRun, List<String> glue, Collection<? extends Backend> backends) {
@@ -70,15 +82,25 @@ public class Runtime implements UnreportedStepExecutor {
     public Runtime(ResourceLoader resourceLoader, ClassLoader classLoader,
                    boolean isDryRun, List<String> glue,
                    Collection<? extends Backend> backends, StopWatch.StopWatchFactory stopWatchFactory, RuntimeGlue optionalGlue) {
+        this(resourceLoader, null, classLoader, isDryRun, glue, backends, stopWatchFactory, optionalGlue, null);
+    }
+
+    private Runtime(ResourceLoader resourceLoader, ClassFinder classFinder, ClassLoader classLoader,
+                    boolean isDryRun, List<String> glue,
+                    Collection<? extends Backend> backends, StopWatch.StopWatchFactory stopWatchFactory, RuntimeGlue optionalGlue,
+                    ComplexTypeConverter complexTypeConverter) {
         if (backends.isEmpty()) {
             throw new CucumberException("No backends were found. Please make sure you have a backend module on your CLASSPATH.");
         }
         this.resourceLoader = resourceLoader;
+        this.classFinder = classFinder;
         this.classLoader = classLoader;
         this.backends = backends;
         this.stopWatchFactory = stopWatchFactory;
-        this.glue = optionalGlue != null ? optionalGlue : new RuntimeGlue(new LocalizedXStreams(classLoader));
+        this.complexTypeConverter = complexTypeConverter;
+        this.glue = optionalGlue != null ? optionalGlue : new RuntimeGlue(new LocalizedXStreams(classLoader, complexTypeConverter));
         this.isDryRun = isDryRun;
+        this.gluePaths = glue;
 
         for (Backend backend : backends) {
             backend.loadGlue(this.glue, glue);
@@ -107,7 +129,7 @@ public class Runtime implements UnreportedStepExecutor {
     public RuntimeRunResult run(RuntimeOptions runtimeOptions) throws IOException {
         // Make sure all features parse before initialising any reporters/formatters
         List<CucumberFeature> features = runtimeOptions.cucumberFeatures(resourceLoader);
-        RunResult runResult = RunResult.IDENTITY;
+        RunResult runResult;
         List<Throwable> errors = new ArrayList<Throwable>();
         UndefinedStepsTracker tracker = new UndefinedStepsTracker();
         final Stats.StatsFormatOptions statsFormatOptions = new Stats.StatsFormatOptions(runtimeOptions.isMonochrome());
@@ -120,9 +142,14 @@ public class Runtime implements UnreportedStepExecutor {
 
         glue.reportStepDefinitions(stepDefinitionReporter);
 
-        for (CucumberFeature cucumberFeature : features) {
-            final RunResult runFeatureResult = cucumberFeature.run(formatter, reporter, this, tracker);
-            runResult = RunResult.append(runResult, runFeatureResult);
+        if (runtimeOptions.getThreads() > 1) {
+            runResult = new ParallelScenarioRunner(this, runtimeOptions.getThreads()).run(features, formatter, reporter, tracker);
+        } else {
+            RunResultAccumulator runResults = new RunResultAccumulator();
+            for (CucumberFeature cucumberFeature : features) {
+                runResults.add(cucumberFeature.run(formatter, reporter, this, tracker));
+            }
+            runResult = runResults.toRunResult();
         }
 
         formatter.done();
@@ -133,6 +160,33 @@ public class Runtime implements UnreportedStepExecutor {
         return new RuntimeRunResult(exitStatus, errors);
     }
 
+    /**
+     * Creates a runtime with its own backends and glue, loaded from the same glue paths as this one.
+     * Used to run scenarios on several threads.
+     *
+     * @return a new runtime.
+     */
+    Runtime createWorker() {
+        if (classFinder == null) {
+            throw new CucumberException("Running scenarios on several threads requires a Runtime that loads its own backends.");
+        }
+        return new Runtime(resourceLoader, classFinder, classLoader, isDryRun, gluePaths, loadBackends(resourceLoader, classFinder), stopWatchFactory, null, complexTypeConverter);
+    }
+
+    /**
+     * @return true if every backend keeps one world per thread, so that this runtime can run scenarios
+     * on several threads at the same time.
+     * @see ConcurrentBackend
+     */
+    boolean supportsConcurrentWorlds() {
+        for (Backend backend : backends) {
+            if (!(backend instanceof ConcurrentBackend) || !((ConcurrentBackend) backend).supportsConcurrentWorlds()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public ScenarioImpl buildBackendWorlds(Reporter reporter, Set<Tag> tags, gherkin.formatter.model.Scenario gherkinScenario) {
         for (Backend backend : backends) {
             backend.buildWorld();
@@ -187,57 +241,54 @@ public class Runtime implements UnreportedStepExecutor {
     }
 
     public RunStepResult runBeforeHooks(ScenarioImpl scenarioResult, Reporter reporter, Set<Tag> tags) {
-        return runHooks(scenarioResult, glue.getBeforeHooks(), reporter, tags, true, isDryRun);
+        return runHooks(scenarioResult, applicableBeforeHooks.get(glue.getBeforeHooks(), tags), reporter, true, isDryRun);
     }
 
     public RunStepResult runAfterHooks(ScenarioImpl scenarioResult, Reporter reporter, Set<Tag> tags) {
-        return runHooks(scenarioResult, glue.getAfterHooks(), reporter, tags, false, isDryRun);
+        return runHooks(scenarioResult, applicableAfterHooks.get(glue.getAfterHooks(), tags), reporter, false, isDryRun);
     }
 
-    private RunStepResult runHooks(ScenarioImpl scenarioResult, List<HookDefinition> hooks, Reporter reporter, Set<Tag> tags, boolean isBefore, boolean isDryRun) {
+    private RunStepResult runHooks(ScenarioImpl scenarioResult, List<HookDefinition> hooks, Reporter reporter, boolean isBefore, boolean isDryRun) {
         boolean skipNextStep = false;
-        Stats stats = Stats.IDENTITY;
-        List<Throwable> errors = Collections.emptyList();
-        if (!isDryRun) {
-            for (HookDefinition hook : hooks) {
-                final RunStepResult runHookResult = runHookIfTagsMatch(scenarioResult, hook, reporter, tags, isBefore);
-                stats = Stats.append(stats, runHookResult.runResult.stats);
-                errors = Utils.append(errors, runHookResult.runResult.errors);
-                if (runHookResult.skipNext) {
-                    skipNextStep = true;
-                }
+        if (isDryRun || hooks.isEmpty()) {
+            return new RunStepResult(skipNextStep, RunResult.IDENTITY);
+        }
+        RunResultAccumulator runResult = new RunResultAccumulator();
+        for (HookDefinition hook : hooks) {
+            final RunStepResult runHookResult = runHook(scenarioResult, hook, reporter, isBefore);
+            runResult.add(runHookResult.runResult);
+            if (runHookResult.skipNext) {
+                skipNextStep = true;
             }
         }
-        return new RunStepResult(skipNextStep, new RunResult(stats, errors));
+        return new RunStepResult(skipNextStep, runResult.toRunResult());
     }
 
-    private RunStepResult runHookIfTagsMatch(ScenarioImpl scenarioResult, HookDefinition hook, Reporter reporter, Set<Tag> tags, boolean isBefore) {
+    private RunStepResult runHook(ScenarioImpl scenarioResult, HookDefinition hook, Reporter reporter, boolean isBefore) {
         Stats stats = new Stats();
         boolean skipNextStep = false;
         final List<Throwable> errors = new ArrayList<Throwable>(1);
-        if (hook.matches(tags)) {
-            String status = Result.PASSED;
-            Throwable error = null;
-            Match match = new Match(Collections.<Argument>emptyList(), hook.getLocation(false));
-            final StopWatch stopWatch = stopWatchFactory.create();
-            stopWatch.start();
-            try {
-                hook.execute(scenarioResult);
-            } catch (Throwable t) {
-                error = t;
-                status = isPending(t) ? "pending" : Result.FAILED;
-                errors.add(t);
-                skipNextStep = true;
-            } finally {
-                long duration = stopWatch.stop();
-                Result result = new Result(status, duration, error, DUMMY_ARG);
-                scenarioResult.add(result);
-                stats.addHookTime(result.getDuration());
-                if (isBefore) {
-                    reporter.before(match, result);
-                } else {
-                    reporter.after(match, result);
-                }
+        String status = Result.PASSED;
+        Throwable error = null;
+        Match match = new Match(Collections.<Argument>emptyList(), hook.getLocation(false));
+        final StopWatch stopWatch = stopWatchFactory.create();
+        stopWatch.start();
+        try {
+            hook.execute(scenarioResult);
+        } catch (Throwable t) {
+            error = t;
+            status = isPending(t) ? "pending" : Result.FAILED;
+            errors.add(t);
+            skipNextStep = true;
+        } finally {
+            long duration = stopWatch.stop();
+            Result result = new Result(status, duration, error, DUMMY_ARG);
+            scenarioResult.add(result);
+            stats.addHookTime(result.getDuration());
+            if (isBefore) {
+                reporter.before(match, result);
+            } else {
+                reporter.after(match, result);
             }
         }
         return new RunStepResult(skipNextStep, new RunResult(stats, errors));
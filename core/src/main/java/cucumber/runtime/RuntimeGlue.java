@@ -8,15 +8,26 @@ import gherkin.formatter.model.Step;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
 public class RuntimeGlue implements Glue {
+    private static final Comparator<StepDefinitionMatch> PATTERN_ORDER = new Comparator<StepDefinitionMatch>() {
+        @Override
+        public int compare(StepDefinitionMatch a, StepDefinitionMatch b) {
+            return a.getPattern().compareTo(b.getPattern());
+        }
+    };
+
     final Map<String, StepDefinition> stepDefinitionsByPattern = new TreeMap<String, StepDefinition>();
-    final List<HookDefinition> beforeHooks = new ArrayList<HookDefinition>();
-    final List<HookDefinition> afterHooks = new ArrayList<HookDefinition>();
+    final HookRegistry beforeHooks = new HookRegistry(new HookComparator(true));
+    final HookRegistry afterHooks = new HookRegistry(new HookComparator(false));
+    final StepDefinitionIndex stepDefinitionIndex = new StepDefinitionIndex();
+    final StepDefinitionIndex scenarioScopedStepDefinitionIndex = new StepDefinitionIndex();
+    final StepDefinitionMatchCache matchCache = new StepDefinitionMatchCache();
 
     private final LocalizedXStreams localizedXStreams;
 
@@ -31,28 +42,32 @@ public class RuntimeGlue implements Glue {
             throw new DuplicateStepDefinitionException(previous, stepDefinition);
         }
         stepDefinitionsByPattern.put(stepDefinition.getPattern(), stepDefinition);
+        if (stepDefinition.isScenarioScoped()) {
+            scenarioScopedStepDefinitionIndex.add(stepDefinition);
+        } else {
+            stepDefinitionIndex.add(stepDefinition);
+            matchCache.clear();
+        }
     }
 
     @Override
     public void addBeforeHook(HookDefinition hookDefinition) {
         beforeHooks.add(hookDefinition);
-        Collections.sort(beforeHooks, new HookComparator(true));
     }
 
     @Override
     public void addAfterHook(HookDefinition hookDefinition) {
         afterHooks.add(hookDefinition);
-        Collections.sort(afterHooks, new HookComparator(false));
     }
 
     @Override
     public List<HookDefinition> getBeforeHooks() {
-        return beforeHooks;
+        return beforeHooks.getHooks();
     }
 
     @Override
     public List<HookDefinition> getAfterHooks() {
-        return afterHooks;
+        return afterHooks.getHooks();
     }
 
     @Override
@@ -75,15 +90,40 @@ public class RuntimeGlue implements Glue {
 
     private List<StepDefinitionMatch> stepDefinitionMatches(String featurePath, Step step) {
         List<StepDefinitionMatch> result = new ArrayList<StepDefinitionMatch>();
-        for (StepDefinition stepDefinition : stepDefinitionsByPattern.values()) {
+        for (StepDefinitionMatchCache.CachedMatch match : cachedMatches(step)) {
+            result.add(new StepDefinitionMatch(match.getArguments(), match.getStepDefinition(), featurePath, step, localizedXStreams));
+        }
+        // Scenario scoped step definitions are new objects in every scenario, so they bypass the cache.
+        for (StepDefinition stepDefinition : scenarioScopedStepDefinitionIndex.candidates(step)) {
             List<Argument> arguments = stepDefinition.matchedArguments(step);
             if (arguments != null) {
                 result.add(new StepDefinitionMatch(arguments, stepDefinition, featurePath, step, localizedXStreams));
             }
         }
+        // Candidates come in index order. Report ambiguous matches in the order of stepDefinitionsByPattern.
+        Collections.sort(result, PATTERN_ORDER);
         return result;
     }
 
+    private List<StepDefinitionMatchCache.CachedMatch> cachedMatches(Step step) {
+        List<StepDefinitionMatchCache.CachedMatch> matches = matchCache.get(step.getName());
+        if (matches == null) {
+            matches = new ArrayList<StepDefinitionMatchCache.CachedMatch>();
+            for (StepDefinition stepDefinition : stepDefinitionIndex.candidates(step)) {
+                List<Argument> arguments = stepDefinition.matchedArguments(step);
+                if (arguments != null) {
+                    matches.add(new StepDefinitionMatchCache.CachedMatch(stepDefinition, arguments));
+                }
+            }
+            matchCache.put(step.getName(), matches);
+        }
+        return matches;
+    }
+
+    public StepDefinitionMatchCache getMatchCache() {
+        return matchCache;
+    }
+
     @Override
     public void reportStepDefinitions(StepDefinitionReporter stepDefinitionReporter) {
         for (StepDefinition stepDefinition : stepDefinitionsByPattern.values()) {
@@ -93,27 +133,18 @@ public class RuntimeGlue implements Glue {
 
     @Override
     public void removeScenarioScopedGlue() {
-        removeScenarioScopedHooks(beforeHooks);
-        removeScenarioScopedHooks(afterHooks);
+        beforeHooks.removeScenarioScopedHooks();
+        afterHooks.removeScenarioScopedHooks();
         removeScenarioScopedStepdefs();
     }
 
-    private void removeScenarioScopedHooks(List<HookDefinition> beforeHooks1) {
-        Iterator<HookDefinition> hookIterator = beforeHooks1.iterator();
-        while(hookIterator.hasNext()) {
-            HookDefinition hook = hookIterator.next();
-            if(hook.isScenarioScoped()) {
-                hookIterator.remove();
-            }
-        }
-    }
-
     private void removeScenarioScopedStepdefs() {
         Iterator<Map.Entry<String, StepDefinition>> stepdefs = stepDefinitionsByPattern.entrySet().iterator();
         while(stepdefs.hasNext()) {
             StepDefinition stepDefinition = stepdefs.next().getValue();
             if(stepDefinition.isScenarioScoped()) {
                 stepdefs.remove();
+                scenarioScopedStepDefinitionIndex.remove(stepDefinition);
             }
         }
     }
@@ -6,14 +6,19 @@ import cucumber.api.SummaryPrinter;
 import cucumber.runtime.formatter.ColorAware;
 import cucumber.runtime.formatter.PluginFactory;
 import cucumber.runtime.formatter.StrictAware;
+import cucumber.runtime.formatter.SynchronousPlugin;
 import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.PathWithLines;
+import cucumber.runtime.model.Shard;
+import cucumber.runtime.table.ComplexTypeConverter;
+import cucumber.runtime.xstream.FieldComplexTypeConverter;
 import gherkin.I18n;
 import gherkin.formatter.Formatter;
 import gherkin.formatter.Reporter;
 import gherkin.util.FixJava;
 
+import java.io.File;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.InvocationHandler;
@@ -45,6 +50,12 @@ public class RuntimeOptions {
     private boolean strict = false;
     private boolean monochrome = false;
     private SnippetType snippetType = SnippetType.UNDERSCORE;
+    private int threads = 1;
+    private Shard shard;
+    private boolean asyncPlugins = false;
+    private File featureCacheDir;
+    private String tableConverter = "xstream";
+    private PluginEventBus pluginEventBus;
     private boolean pluginNamesInstantiated;
 
     /**
@@ -132,6 +143,17 @@ public class RuntimeOptions {
             } else if (arg.equals("--snippets")) {
                 String nextArg = args.remove(0);
                 snippetType = SnippetType.fromString(nextArg);
+            } else if (arg.equals("--no-async-plugins") || arg.equals("--async-plugins")) {
+                asyncPlugins = !arg.startsWith("--no-");
+            } else if (arg.equals("--feature-cache")) {
+                featureCacheDir = new File(args.remove(0));
+            } else if (arg.equals("--table-converter")) {
+                tableConverter = args.remove(0);
+            } else if (arg.equals("--threads")) {
+                String nextArg = args.remove(0);
+                threads = parseThreads(nextArg);
+            } else if (arg.equals("--shard")) {
+                shard = Shard.parse(args.remove(0));
             } else if (arg.equals("--name") || arg.equals("-n")) {
                 String nextArg = args.remove(0);
                 Pattern patternFilter = Pattern.compile(nextArg);
@@ -160,6 +182,17 @@ public class RuntimeOptions {
         }
     }
 
+    private int parseThreads(String threads) {
+        try {
+            int result = Integer.parseInt(threads);
+            if (result > 0) {
+                return result;
+            }
+        } catch (NumberFormatException ignore) {
+        }
+        throw new CucumberException("--threads must be a positive number: " + threads);
+    }
+
     private void addPluginName(String name) {
         if (PluginFactory.isFormatterName(name)) {
             pluginFormatterNames.add(name);
@@ -232,7 +265,8 @@ public class RuntimeOptions {
     }
 
     public List<CucumberFeature> cucumberFeatures(ResourceLoader resourceLoader) {
-        return load(resourceLoader, featurePaths, filters, System.out);
+        FeatureCache featureCache = featureCacheDir == null ? null : new FeatureCache(featureCacheDir);
+        return load(resourceLoader, featurePaths, filters, System.out, featureCache, shard);
     }
 
     List<Object> getPlugins() {
@@ -274,6 +308,10 @@ public class RuntimeOptions {
 
     /**
      * Creates a dynamic proxy that multiplexes method invocations to all plugins of the same type.
+     * <p/>
+     * With --async-plugins, {@link Formatter} and {@link Reporter} calls are delivered on a single
+     * plugin thread, in order, except to plugins that implement {@link SynchronousPlugin}.
+     * {@link Formatter#close()} waits until all calls have been delivered.
      *
      * @param classLoader used to create the proxy
      * @param type        proxy type
@@ -281,27 +319,45 @@ public class RuntimeOptions {
      * @return a proxy
      */
     public <T> T pluginProxy(ClassLoader classLoader, final Class<T> type) {
+        final boolean async = asyncPlugins && (type == Formatter.class || type == Reporter.class);
         Object proxy = Proxy.newProxyInstance(classLoader, new Class<?>[]{type}, new InvocationHandler() {
             @Override
             public Object invoke(Object target, Method method, Object[] args) throws Throwable {
                 for (Object plugin : getPlugins()) {
                     if (type.isInstance(plugin)) {
-                        try {
-                            Utils.invoke(plugin, method, 0, args);
-                        } catch (Throwable t) {
-                            if (!method.getName().equals("startOfScenarioLifeCycle") && !method.getName().equals("endOfScenarioLifeCycle")) {
-                                // IntelliJ has its own formatter which doesn't yet implement these methods.
-                                throw t;
-                            }
+                        if (async && !(plugin instanceof SynchronousPlugin)) {
+                            pluginEventBus().publish(plugin, method, args);
+                        } else {
+                            PluginEventBus.deliver(plugin, method, args);
                         }
                     }
                 }
+                if (async && type == Formatter.class && method.getName().equals("close")) {
+                    closePluginEventBus();
+                }
                 return null;
             }
         });
         return type.cast(proxy);
     }
 
+    private synchronized PluginEventBus pluginEventBus() {
+        if (pluginEventBus == null) {
+            pluginEventBus = new PluginEventBus();
+        }
+        return pluginEventBus;
+    }
+
+    private synchronized void closePluginEventBus() {
+        if (pluginEventBus != null) {
+            try {
+                pluginEventBus.close();
+            } finally {
+                pluginEventBus = null;
+            }
+        }
+    }
+
     private void setMonochromeOnColorAwarePlugins(Object plugin) {
         if (plugin instanceof ColorAware) {
             ColorAware colorAware = (ColorAware) plugin;
@@ -347,4 +403,47 @@ public class RuntimeOptions {
     public SnippetType getSnippetType() {
         return snippetType;
     }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return the shard of the scenarios to run, or null to run them all.
+     */
+    public Shard getShard() {
+        return shard;
+    }
+
+    public boolean isAsyncPlugins() {
+        return asyncPlugins;
+    }
+
+    public File getFeatureCacheDir() {
+        return featureCacheDir;
+    }
+
+    public String getTableConverter() {
+        return tableConverter;
+    }
+
+    /**
+     * @return what converts table rows to objects before XStream is asked to, or null to leave it all to XStream.
+     */
+    public ComplexTypeConverter complexTypeConverter(ClassLoader classLoader) {
+        if (tableConverter.equals("xstream")) {
+            return null;
+        } else if (tableConverter.equals("fields")) {
+            return new FieldComplexTypeConverter();
+        }
+        Class<? extends ComplexTypeConverter> converterClass;
+        try {
+            converterClass = classLoader.loadClass(tableConverter).asSubclass(ComplexTypeConverter.class);
+        } catch (ClassNotFoundException e) {
+            throw new CucumberException("Couldn't load table converter class: " + tableConverter, e);
+        } catch (ClassCastException e) {
+            throw new CucumberException(tableConverter + " is not a " + ComplexTypeConverter.class.getName(), e);
+        }
+        return new Reflections(null).newInstance(new Class<?>[0], new Object[0], converterClass);
+    }
 }
@@ -120,13 +120,13 @@ public class Stats {
     public static final long ONE_SECOND = 1000000000;
     public static final long ONE_MINUTE = 60 * ONE_SECOND;
     public static final String PENDING = "pending";
-    private SubCounts scenarioSubCounts = new SubCounts();
-    private SubCounts stepSubCounts = new SubCounts();
-    private long totalDuration = 0;
-    private List<String> failedScenarios = new ArrayList<String>();
-    private List<String> pendingScenarios = new ArrayList<String>();
-    private List<String> undefinedScenarios = new ArrayList<String>();
-    private List<String> passedScenarios = new ArrayList<String>();
+    SubCounts scenarioSubCounts = new SubCounts();
+    SubCounts stepSubCounts = new SubCounts();
+    long totalDuration = 0;
+    List<String> failedScenarios = new ArrayList<String>();
+    List<String> pendingScenarios = new ArrayList<String>();
+    List<String> undefinedScenarios = new ArrayList<String>();
+    List<String> passedScenarios = new ArrayList<String>();
 
 
     public void addStep(Result result) {
@@ -0,0 +1,82 @@
+package cucumber.runtime;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adds up {@link Stats} in place. Unlike {@link Stats#append(Stats, Stats)}, which copies everything appended so far
+ * into a new instance, adding takes time proportional to the added stats only, so adding up a whole run takes
+ * linear time.
+ * <p/>
+ * Stats may be added from several threads at the same time. Stats added from one thread keep their order.
+ */
+public class StatsAccumulator {
+    private static final int PASSED = 0;
+    private static final int FAILED = 1;
+    private static final int SKIPPED = 2;
+    private static final int PENDING = 3;
+    private static final int UNDEFINED = 4;
+
+    private final AtomicIntegerArray scenarioSubCounts = new AtomicIntegerArray(5);
+    private final AtomicIntegerArray stepSubCounts = new AtomicIntegerArray(5);
+    private final AtomicLong totalDuration = new AtomicLong();
+    private final Queue<String> failedScenarios = new ConcurrentLinkedQueue<String>();
+    private final Queue<String> pendingScenarios = new ConcurrentLinkedQueue<String>();
+    private final Queue<String> undefinedScenarios = new ConcurrentLinkedQueue<String>();
+    private final Queue<String> passedScenarios = new ConcurrentLinkedQueue<String>();
+
+    public void add(Stats stats) {
+        add(scenarioSubCounts, stats.scenarioSubCounts);
+        add(stepSubCounts, stats.stepSubCounts);
+        if (stats.totalDuration != 0) {
+            totalDuration.addAndGet(stats.totalDuration);
+        }
+        failedScenarios.addAll(stats.failedScenarios);
+        pendingScenarios.addAll(stats.pendingScenarios);
+        undefinedScenarios.addAll(stats.undefinedScenarios);
+        passedScenarios.addAll(stats.passedScenarios);
+    }
+
+    /**
+     * @return new stats with everything added so far. Stats that are being added at the same time may or may not
+     * be included, or only partly.
+     */
+    public Stats toStats() {
+        Stats stats = new Stats();
+        stats.scenarioSubCounts = toSubCounts(scenarioSubCounts);
+        stats.stepSubCounts = toSubCounts(stepSubCounts);
+        stats.totalDuration = totalDuration.get();
+        stats.failedScenarios = new ArrayList<String>(failedScenarios);
+        stats.pendingScenarios = new ArrayList<String>(pendingScenarios);
+        stats.undefinedScenarios = new ArrayList<String>(undefinedScenarios);
+        stats.passedScenarios = new ArrayList<String>(passedScenarios);
+        return stats;
+    }
+
+    private static void add(AtomicIntegerArray counts, Stats.SubCounts subCounts) {
+        add(counts, PASSED, subCounts.passed);
+        add(counts, FAILED, subCounts.failed);
+        add(counts, SKIPPED, subCounts.skipped);
+        add(counts, PENDING, subCounts.pending);
+        add(counts, UNDEFINED, subCounts.undefined);
+    }
+
+    private static void add(AtomicIntegerArray counts, int index, int delta) {
+        if (delta != 0) {
+            counts.addAndGet(index, delta);
+        }
+    }
+
+    private static Stats.SubCounts toSubCounts(AtomicIntegerArray counts) {
+        Stats.SubCounts subCounts = new Stats.SubCounts();
+        subCounts.passed = counts.get(PASSED);
+        subCounts.failed = counts.get(FAILED);
+        subCounts.skipped = counts.get(SKIPPED);
+        subCounts.pending = counts.get(PENDING);
+        subCounts.undefined = counts.get(UNDEFINED);
+        return subCounts;
+    }
+}
@@ -0,0 +1,158 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Step;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Narrows down the step definitions that can possibly match a step, so that
+ * {@link StepDefinition#matchedArguments(Step)} doesn't have to be tried for every one of them.
+ * <p/>
+ * Step definitions implementing {@link PatternStepDefinition} are stored in a trie keyed by the
+ * literal prefix of their pattern. All other step definitions are always candidates.
+ */
+class StepDefinitionIndex {
+    private static final String META_CHARACTERS = "\\[](){}.*+?^$|";
+    private static final String QUANTIFIERS = "?*+{";
+
+    private final Node root = new Node();
+    private final Set<StepDefinition> unindexed = new LinkedHashSet<StepDefinition>();
+
+    public void add(StepDefinition stepDefinition) {
+        String prefix = literalPrefix(stepDefinition);
+        if (prefix.length() == 0) {
+            unindexed.add(stepDefinition);
+        } else {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            node.stepDefinitions.add(stepDefinition);
+        }
+    }
+
+    public void remove(StepDefinition stepDefinition) {
+        String prefix = literalPrefix(stepDefinition);
+        if (prefix.length() == 0) {
+            unindexed.remove(stepDefinition);
+        } else {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node != null) {
+                node.stepDefinitions.remove(stepDefinition);
+            }
+        }
+    }
+
+    /**
+     * @param step the step to find candidates for
+     * @return the step definitions that may match the step, in no particular order.
+     */
+    public Collection<StepDefinition> candidates(Step step) {
+        String name = step.getName();
+        List<StepDefinition> result = new ArrayList<StepDefinition>(unindexed);
+        Node node = root;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.get(name.charAt(i));
+            if (node == null) {
+                break;
+            }
+            result.addAll(node.stepDefinitions);
+        }
+        return result;
+    }
+
+    private static String literalPrefix(StepDefinition stepDefinition) {
+        if (stepDefinition instanceof PatternStepDefinition) {
+            return literalPrefix(((PatternStepDefinition) stepDefinition).getCompiledPattern());
+        }
+        return "";
+    }
+
+    /**
+     * Computes the text every string matched by {@code pattern} with {@link java.util.regex.Matcher#lookingAt()}
+     * must start with. Returns an empty string whenever that can't be determined safely.
+     *
+     * @param pattern the pattern to analyse
+     * @return the literal prefix of the pattern, possibly empty.
+     */
+    static String literalPrefix(Pattern pattern) {
+        String regex = pattern.pattern();
+        if (pattern.flags() != 0 || regex.contains("\\Q") || hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            int next;
+            if (c == '\\') {
+                if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // Character classes like \d, back references, \Q..\E quoting
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                next = i + 2;
+            } else if (META_CHARACTERS.indexOf(c) != -1 || Character.isHighSurrogate(c)) {
+                break;
+            } else {
+                literal = c;
+                next = i + 1;
+            }
+            if (next < regex.length() && QUANTIFIERS.indexOf(regex.charAt(next)) != -1) {
+                break;
+            }
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                if (c == ']') {
+                    inCharacterClass = false;
+                }
+            } else if (c == '[') {
+                inCharacterClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<Character, Node>();
+        private final List<StepDefinition> stepDefinitions = new ArrayList<StepDefinition>();
+
+        private Node child(char c) {
+            Node child = children.get(c);
+            if (child == null) {
+                child = new Node();
+                children.put(c, child);
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package cucumber.runtime;
+
+import gherkin.formatter.Argument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers which step definitions matched a step name, and with what arguments.
+ * <p/>
+ * Only holds matches of step definitions that are not scenario scoped. The cache is bounded, and evicts the
+ * least recently used step names first. It must be cleared whenever such step definitions are added or removed.
+ */
+public class StepDefinitionMatchCache {
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<String, List<CachedMatch>> matchesByStepName;
+    private long hits;
+    private long misses;
+
+    public StepDefinitionMatchCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public StepDefinitionMatchCache(final int maxSize) {
+        this.matchesByStepName = new LinkedHashMap<String, List<CachedMatch>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<CachedMatch>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param stepName the name of the step
+     * @return the cached matches, or null if the step name isn't cached.
+     */
+    public synchronized List<CachedMatch> get(String stepName) {
+        List<CachedMatch> matches = matchesByStepName.get(stepName);
+        if (matches == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return matches;
+    }
+
+    public synchronized void put(String stepName, List<CachedMatch> matches) {
+        matchesByStepName.put(stepName, matches);
+    }
+
+    public synchronized void clear() {
+        matchesByStepName.clear();
+    }
+
+    public synchronized int size() {
+        return matchesByStepName.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public static class CachedMatch {
+        private final StepDefinition stepDefinition;
+        private final List<Argument> arguments;
+
+        public CachedMatch(StepDefinition stepDefinition, List<Argument> arguments) {
+            this.stepDefinition = stepDefinition;
+            this.arguments = arguments;
+        }
+
+        public StepDefinition getStepDefinition() {
+            return stepDefinition;
+        }
+
+        public List<Argument> getArguments() {
+            return arguments;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Tag;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gives every tag name a small integer id, so that a set of tags can be kept as a {@link BitSet} and tag
+ * expressions can be evaluated with a few bit operations.
+ * <p/>
+ * Ids are shared by all runtimes in the JVM. There is one per distinct tag name, and they are never reused.
+ */
+public final class TagIds {
+    private static final ConcurrentMap<String, Integer> IDS = new ConcurrentHashMap<String, Integer>();
+
+    private TagIds() {
+    }
+
+    /**
+     * @return the id of the tag name, which is given one if it doesn't have one yet.
+     */
+    public static int intern(String tagName) {
+        Integer id = IDS.get(tagName);
+        if (id == null) {
+            synchronized (IDS) {
+                id = IDS.get(tagName);
+                if (id == null) {
+                    id = IDS.size();
+                    IDS.put(tagName, id);
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @return the ids of the tags, interning names that don't have one yet.
+     */
+    public static BitSet intern(Collection<Tag> tags) {
+        BitSet ids = new BitSet();
+        for (Tag tag : tags) {
+            ids.set(intern(tag.getName()));
+        }
+        return ids;
+    }
+
+    /**
+     * @return the ids of the tags. Tag names that don't have an id yet can't be in any compiled tag expression,
+     * so they are left out rather than given one.
+     */
+    static BitSet lookup(Collection<Tag> tags) {
+        if (tags instanceof InternedTags) {
+            return ((InternedTags) tags).ids();
+        }
+        BitSet ids = new BitSet();
+        for (Tag tag : tags) {
+            Integer id = IDS.get(tag.getName());
+            if (id != null) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,92 @@
+package cucumber.runtime;
+
+import gherkin.TagExpression;
+import gherkin.formatter.model.Tag;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A tag expression compiled to bit sets of {@link TagIds}. It matches the same tags as a {@link TagExpression} made
+ * from the same expressions: every expression must match, and an expression matches if any of its comma separated
+ * tags is present, or any of its negated ({@code ~}) tags is absent.
+ * <p/>
+ * Matching {@link InternedTags} takes a few bit operations per expression and allocates nothing.
+ */
+public class TagPredicate {
+    private static final int[] NO_IDS = new int[0];
+
+    private final BitSet[] anyPresent;
+    private final int[][] anyAbsent;
+
+    /**
+     * @param tagExpressions the expressions, in the format {@link TagExpression} takes. They are validated by a
+     *                       {@link TagExpression} too, so that bad tag limits fail the same way.
+     */
+    public TagPredicate(List<String> tagExpressions) {
+        new TagExpression(tagExpressions);
+        List<BitSet> anyPresent = new ArrayList<BitSet>(tagExpressions.size());
+        List<int[]> anyAbsent = new ArrayList<int[]>(tagExpressions.size());
+        for (String tagExpression : tagExpressions) {
+            BitSet present = new BitSet();
+            List<Integer> absent = new ArrayList<Integer>();
+            for (String tag : tagExpression.split("\\s*,\\s*")) {
+                tag = tag.trim();
+                boolean negated = tag.startsWith("~");
+                if (negated) {
+                    tag = tag.substring(1);
+                }
+                String[] tagAndLimit = tag.split(":");
+                int id = TagIds.intern(tagAndLimit.length == 2 ? tagAndLimit[0] : tag);
+                if (negated) {
+                    absent.add(id);
+                } else {
+                    present.set(id);
+                }
+            }
+            anyPresent.add(present);
+            anyAbsent.add(toArray(absent));
+        }
+        this.anyPresent = anyPresent.toArray(new BitSet[anyPresent.size()]);
+        this.anyAbsent = anyAbsent.toArray(new int[anyAbsent.size()][]);
+    }
+
+    public boolean matches(Collection<Tag> tags) {
+        return isEmpty() || matches(TagIds.lookup(tags));
+    }
+
+    boolean matches(BitSet tagIds) {
+        for (int i = 0; i < anyPresent.length; i++) {
+            if (!anyPresent[i].intersects(tagIds) && !anyAbsent(anyAbsent[i], tagIds)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return anyPresent.length == 0;
+    }
+
+    private static boolean anyAbsent(int[] ids, BitSet tagIds) {
+        for (int id : ids) {
+            if (!tagIds.get(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] result = new int[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+}
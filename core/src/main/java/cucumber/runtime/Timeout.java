@@ -1,43 +1,225 @@
 package cucumber.runtime;
 
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Interrupts calls that take too long.
+ * <p/>
+ * All timed calls share one daemon timer thread. It is started by the first timed call and stops after
+ * {@link #KEEP_ALIVE_MILLIS} without timed calls.
+ * <p/>
+ * Timed calls are counted for the whole JVM, and for every {@link Recording} that has been started and not stopped,
+ * so that a run can report on its own calls.
+ */
 public class Timeout {
+    static final long KEEP_ALIVE_MILLIS = 1000;
+    private static final double NEAR_MISS = 0.8;
+
+    private static final Recording allCalls = new Recording();
+    private static final List<Recording> recordings = new CopyOnWriteArrayList<Recording>();
+    private static ScheduledThreadPoolExecutor timer;
+
     public static <T> T timeout(Callback<T> callback, long timeoutMillis) throws Throwable {
         if (timeoutMillis == 0) {
             return callback.call();
         } else {
-            final Thread executionThread = Thread.currentThread();
-            final AtomicBoolean done = new AtomicBoolean();
-
-            ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-            ScheduledFuture<?> timer = executorService.schedule(new Runnable() {
-                @Override
-                public void run() {
-                    if (!done.get()) {
-                        executionThread.interrupt();
-                    }
-                }
-            }, timeoutMillis, TimeUnit.MILLISECONDS);
+            final Interruption interruption = new Interruption(Thread.currentThread());
+            ScheduledThreadPoolExecutor timer = timer();
+            ScheduledFuture<?> scheduled = timer.schedule(interruption, timeoutMillis, TimeUnit.MILLISECONDS);
+            long start = System.nanoTime();
             try {
                 return callback.call();
             } catch (InterruptedException timeout) {
                 throw new TimeoutException("Timed out after " + timeoutMillis + "ms.");
             } finally {
-                done.set(true);
-                timer.cancel(true);
-                executorService.shutdownNow();
+                boolean interrupted = interruption.done();
+                scheduled.cancel(false);
+                if (scheduled instanceof Runnable) {
+                    timer.remove((Runnable) scheduled);
+                }
+                account(interrupted, System.nanoTime() - start, timeoutMillis);
             }
+        }
+    }
+
+    /**
+     * @return how all timed calls in this JVM have done so far.
+     */
+    public static Statistics getStatistics() {
+        return allCalls.getStatistics();
+    }
 
+    /**
+     * Starts counting timed calls from now on, until the recording is stopped.
+     *
+     * @return the recording.
+     */
+    public static Recording startRecording() {
+        Recording recording = new Recording();
+        recordings.add(recording);
+        return recording;
+    }
+
+    private static synchronized ScheduledThreadPoolExecutor timer() {
+        if (timer == null) {
+            timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "cucumber-timeout");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            timer.setKeepAliveTime(KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS);
+            timer.allowCoreThreadTimeOut(true);
+        }
+        return timer;
+    }
+
+    static void account(boolean interrupted, long elapsedNanos, long timeoutMillis) {
+        allCalls.account(interrupted, elapsedNanos, timeoutMillis);
+        for (Recording recording : recordings) {
+            recording.account(interrupted, elapsedNanos, timeoutMillis);
         }
     }
 
     public interface Callback<T> {
         T call() throws Throwable;
     }
+
+    /**
+     * Counts timed calls from when it was started until it is stopped.
+     */
+    public static class Recording {
+        private final AtomicLong timedCalls = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong nearMisses = new AtomicLong();
+        private final AtomicLong maxPermilleUsed = new AtomicLong();
+
+        private Recording() {
+        }
+
+        /**
+         * @return how the calls made while recording have done.
+         */
+        public Statistics getStatistics() {
+            return new Statistics(timedCalls.get(), timeouts.get(), nearMisses.get(), maxPermilleUsed.get() / 1000.0);
+        }
+
+        /**
+         * Stops counting. The statistics so far stay available.
+         */
+        public void stop() {
+            recordings.remove(this);
+        }
+
+        private void account(boolean interrupted, long elapsedNanos, long timeoutMillis) {
+            timedCalls.incrementAndGet();
+            if (interrupted) {
+                timeouts.incrementAndGet();
+                return;
+            }
+            long permilleUsed = TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / timeoutMillis;
+            if (permilleUsed >= NEAR_MISS * 1000) {
+                nearMisses.incrementAndGet();
+            }
+            long max = maxPermilleUsed.get();
+            while (permilleUsed > max && !maxPermilleUsed.compareAndSet(max, permilleUsed)) {
+                max = maxPermilleUsed.get();
+            }
+        }
+    }
+
+    /**
+     * How timed calls have done.
+     */
+    public static class Statistics {
+        private final long timedCalls;
+        private final long timeouts;
+        private final long nearMisses;
+        private final double maxFractionUsed;
+
+        Statistics(long timedCalls, long timeouts, long nearMisses, double maxFractionUsed) {
+            this.timedCalls = timedCalls;
+            this.timeouts = timeouts;
+            this.nearMisses = nearMisses;
+            this.maxFractionUsed = maxFractionUsed;
+        }
+
+        /**
+         * @return the number of calls made with a timeout.
+         */
+        public long getTimedCalls() {
+            return timedCalls;
+        }
+
+        /**
+         * @return the number of calls that were interrupted because they took too long.
+         */
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        /**
+         * @return the number of calls that finished in time, but used at least 80% of their timeout.
+         */
+        public long getNearMisses() {
+            return nearMisses;
+        }
+
+        /**
+         * @return the largest part of its timeout a call used and still finished in time, 1.0 being all of it.
+         */
+        public double getMaxFractionUsed() {
+            return maxFractionUsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d timed calls, %d timed out, %d used over %d%% of their timeout, at most %.0f%%",
+                    timedCalls, timeouts, nearMisses, (int) (NEAR_MISS * 100), maxFractionUsed * 100);
+        }
+    }
+
+    /**
+     * Interrupts the timed thread, unless the call is done.
+     */
+    private static class Interruption implements Runnable {
+        private final Thread thread;
+        private boolean done;
+        private boolean interrupted;
+
+        Interruption(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!done) {
+                interrupted = true;
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * Marks the call as done, and clears the interrupt if it came after the call had already stopped
+         * waiting for it.
+         *
+         * @return true if the call was interrupted.
+         */
+        synchronized boolean done() {
+            done = true;
+            if (interrupted) {
+                Thread.interrupted();
+            }
+            return interrupted;
+        }
+    }
 }
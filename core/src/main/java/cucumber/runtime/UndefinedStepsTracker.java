@@ -55,6 +55,15 @@ public class UndefinedStepsTracker {
         undefinedSteps.add(givenWhenThenStep(step, i18n));
     }
 
+    /**
+     * Adds the undefined steps found by another tracker, for example one used on another thread.
+     *
+     * @param other the tracker to take undefined steps from
+     */
+    public void addUndefinedSteps(UndefinedStepsTracker other) {
+        undefinedSteps.addAll(other.undefinedSteps);
+    }
+
     private boolean isGivenWhenThenKeyword(String keyword, I18n i18n) {
         for (String gwts : asList("given", "when", "then")) {
             List<String> keywords = i18n.keywords(gwts);
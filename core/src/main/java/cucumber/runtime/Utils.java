@@ -55,7 +55,7 @@ public class Utils {
         }, timeoutMillis);
     }
 
-    private static Method targetMethod(final Object target, final Method method) throws NoSuchMethodException {
+    static Method targetMethod(final Object target, final Method method) throws NoSuchMethodException {
         final Class<?> targetClass = target.getClass();
         final Class<?> declaringClass = method.getDeclaringClass();
 
@@ -1,16 +1,72 @@
 package cucumber.runtime.formatter;
 
 import gherkin.formatter.JSONFormatter;
+import gherkin.formatter.NiceAppendable;
+import gherkin.formatter.model.Background;
 import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
 import gherkin.formatter.model.Scenario;
 import gherkin.formatter.model.ScenarioOutline;
 import gherkin.formatter.model.Step;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the same JSON as gherkin's {@link JSONFormatter}, but streams it instead of keeping every feature in
+ * memory until {@link #done()}.
+ * <p/>
+ * A feature element (background or scenario) is written as soon as the next one starts or its feature ends,
+ * and the output is flushed after each feature. Embeddings are kept as bytes and written as Base64 straight
+ * into the output.
+ */
 public class CucumberJSONFormatter extends JSONFormatter {
+    private static final String ELEMENTS = "elements";
+
+    private final NiceAppendable out;
+    private final JSONStreamWriter json;
+    private String uri;
+    private Map<String, Object> featureMap;
+    private final List<String> keysAfterElements = new ArrayList<String>();
+    private boolean started = false;
+    private Map<String, Object> featureElement;
+    private List<Map<String, Object>> beforeHooks = new ArrayList<Map<String, Object>>();
     private boolean inScenarioOutline = false;
 
     public CucumberJSONFormatter(Appendable out) {
         super(out);
+        this.out = new NiceAppendable(out);
+        this.json = new JSONStreamWriter(out);
+    }
+
+    @Override
+    public void uri(String uri) {
+        this.uri = uri;
+    }
+
+    @Override
+    public void feature(Feature feature) {
+        endFeature();
+        featureMap = feature.toMap();
+        featureMap.put("uri", uri);
+    }
+
+    @Override
+    public void background(Background background) {
+        startFeatureElement(background.toMap());
+    }
+
+    @Override
+    public void scenario(Scenario scenario) {
+        startFeatureElement(scenario.toMap());
+        if (!beforeHooks.isEmpty()) {
+            featureElement.put("before", beforeHooks);
+            beforeHooks = new ArrayList<Map<String, Object>>();
+        }
     }
 
     @Override
@@ -26,13 +82,175 @@ public class CucumberJSONFormatter extends JSONFormatter {
     @Override
     public void startOfScenarioLifeCycle(Scenario scenario) {
         inScenarioOutline = false;
-        super.startOfScenarioLifeCycle(scenario);
+    }
+
+    @Override
+    public void endOfScenarioLifeCycle(Scenario scenario) {
+        // NoOp
     }
 
     @Override
     public void step(Step step) {
         if (!inScenarioOutline) {
-            super.step(step);
+            getSteps().add(step.toMap());
         }
     }
+
+    @Override
+    public void match(Match match) {
+        getCurrentStep("match").put("match", match.toMap());
+    }
+
+    @Override
+    public void embedding(String mimeType, byte[] data) {
+        Map<String, Object> embedding = new HashMap<String, Object>();
+        embedding.put("mime_type", mimeType);
+        embedding.put("data", data);
+        getList(getCurrentStep("result"), "embeddings").add(embedding);
+    }
+
+    @Override
+    public void write(String text) {
+        getList(getCurrentStep("result"), "output").add(text);
+    }
+
+    @Override
+    public void result(Result result) {
+        getCurrentStep("result").put("result", result.toMap());
+    }
+
+    @Override
+    public void before(Match match, Result result) {
+        beforeHooks.add(hookMap(match, result));
+    }
+
+    @Override
+    public void after(Match match, Result result) {
+        getList(featureElement, "after").add(hookMap(match, result));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void appendDuration(int timestamp) {
+        Map<String, Object> result = (Map<String, Object>) getCurrentStep("result").get("result");
+        if (result != null) {
+            result.put("duration", (long) timestamp * 1000000000L);
+        }
+    }
+
+    @Override
+    public void eof() {
+        endFeatureElement();
+    }
+
+    @Override
+    public void done() {
+        endFeature();
+        startDocument();
+        json.endArray();
+        json.flush();
+    }
+
+    @Override
+    public void close() {
+        out.close();
+    }
+
+    private void startFeatureElement(Map<String, Object> element) {
+        endFeatureElement();
+        if (featureMap == null) {
+            throw new IllegalStateException("No feature to add " + element.get("keyword") + " to");
+        }
+        if (!featureMap.containsKey(ELEMENTS)) {
+            startDocument();
+            startElements();
+        }
+        featureElement = element;
+    }
+
+    private void startDocument() {
+        if (!started) {
+            json.beginArray();
+            started = true;
+        }
+    }
+
+    private void endFeatureElement() {
+        if (featureElement != null) {
+            json.value(featureElement);
+            featureElement = null;
+        }
+    }
+
+    /**
+     * Writes the members of the feature that Gson would write before its elements and opens the elements array.
+     * Gson writes a feature's members in the iteration order of its map, including the elements.
+     */
+    private void startElements() {
+        featureMap.put(ELEMENTS, null);
+        json.beginObject();
+        boolean afterElements = false;
+        for (Map.Entry<String, Object> entry : featureMap.entrySet()) {
+            if (entry.getKey().equals(ELEMENTS)) {
+                json.name(ELEMENTS).beginArray();
+                afterElements = true;
+            } else if (afterElements) {
+                keysAfterElements.add(entry.getKey());
+            } else {
+                json.name(entry.getKey()).value(entry.getValue());
+            }
+        }
+    }
+
+    private void endFeature() {
+        endFeatureElement();
+        if (featureMap == null) {
+            return;
+        }
+        startDocument();
+        if (featureMap.containsKey(ELEMENTS)) {
+            json.endArray();
+            for (String key : keysAfterElements) {
+                json.name(key).value(featureMap.get(key));
+            }
+            json.endObject();
+        } else {
+            json.value(featureMap);
+        }
+        keysAfterElements.clear();
+        featureMap = null;
+        json.flush();
+    }
+
+    private List<Map<String, Object>> getSteps() {
+        return getList(featureElement, "steps");
+    }
+
+    private Map<String, Object> getCurrentStep(String phase) {
+        Map<String, Object> last = null;
+        for (Map<String, Object> step : getSteps()) {
+            last = step;
+            if (step.get(phase) == null) {
+                return step;
+            }
+        }
+        return last;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> getList(Map<String, Object> map, String key) {
+        List<T> list = (List<T>) map.get(key);
+        if (list == null) {
+            list = new ArrayList<T>();
+            map.put(key, list);
+        }
+        return list;
+    }
+
+    private static Map<String, Object> hookMap(Match match, Result result) {
+        Map<String, Object> hookMap = new HashMap<String, Object>();
+        hookMap.put("match", match.toMap());
+        hookMap.put("result", result.toMap());
+        return hookMap;
+    }
 }
@@ -0,0 +1,276 @@
+package cucumber.runtime.formatter;
+
+import cucumber.runtime.CucumberException;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes pretty printed JSON to an {@link Appendable} as it goes, the same way gherkin's Gson prints it:
+ * two space indentation, HTML-safe escaping and no {@code null} members.
+ * <p/>
+ * {@code byte[]} values are written as Base64 strings straight from the bytes, a chunk at a time.
+ */
+class JSONStreamWriter {
+    private static final String INDENT = "  ";
+    private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final String BASE64_PADDING = "\\u003d";
+    private static final int BASE64_CHUNK = 3 * 1024;
+
+    private enum Scope {
+        EMPTY_DOCUMENT, NONEMPTY_DOCUMENT, EMPTY_ARRAY, NONEMPTY_ARRAY, EMPTY_OBJECT, NONEMPTY_OBJECT, DANGLING_NAME
+    }
+
+    private final Appendable out;
+    private final List<Scope> stack = new ArrayList<Scope>();
+    private String deferredName;
+
+    JSONStreamWriter(Appendable out) {
+        this.out = out;
+        stack.add(Scope.EMPTY_DOCUMENT);
+    }
+
+    public JSONStreamWriter beginArray() {
+        writeDeferredName();
+        return open(Scope.EMPTY_ARRAY, "[");
+    }
+
+    public JSONStreamWriter endArray() {
+        return close(Scope.EMPTY_ARRAY, Scope.NONEMPTY_ARRAY, "]");
+    }
+
+    public JSONStreamWriter beginObject() {
+        writeDeferredName();
+        return open(Scope.EMPTY_OBJECT, "{");
+    }
+
+    public JSONStreamWriter endObject() {
+        return close(Scope.EMPTY_OBJECT, Scope.NONEMPTY_OBJECT, "}");
+    }
+
+    public JSONStreamWriter name(String name) {
+        if (deferredName != null || (peek() != Scope.EMPTY_OBJECT && peek() != Scope.NONEMPTY_OBJECT)) {
+            throw new IllegalStateException("Not expecting a name here: " + name);
+        }
+        deferredName = name;
+        return this;
+    }
+
+    /**
+     * Writes a {@link Map}, {@link Collection}, {@link String}, {@link Number}, {@link Boolean} or {@code byte[]}
+     * value, recursively. A {@code null} member of an object is left out.
+     */
+    public JSONStreamWriter value(Object value) {
+        if (value == null) {
+            if (deferredName != null) {
+                deferredName = null;
+                return this;
+            }
+            beforeValue();
+            append("null");
+        } else if (value instanceof Map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                name(String.valueOf(entry.getKey()));
+                value(entry.getValue());
+            }
+            endObject();
+        } else if (value instanceof Collection) {
+            beginArray();
+            for (Object element : (Collection<?>) value) {
+                value(element);
+            }
+            endArray();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            writeDeferredName();
+            beforeValue();
+            append(value.toString());
+        } else if (value instanceof byte[]) {
+            writeDeferredName();
+            beforeValue();
+            base64((byte[]) value);
+        } else {
+            writeDeferredName();
+            beforeValue();
+            string(value.toString());
+        }
+        return this;
+    }
+
+    public void flush() {
+        if (out instanceof Flushable) {
+            try {
+                ((Flushable) out).flush();
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+        }
+    }
+
+    private JSONStreamWriter open(Scope empty, String bracket) {
+        beforeValue();
+        stack.add(empty);
+        append(bracket);
+        return this;
+    }
+
+    private JSONStreamWriter close(Scope empty, Scope nonempty, String bracket) {
+        Scope context = peek();
+        if ((context != empty && context != nonempty) || deferredName != null) {
+            throw new IllegalStateException("Nesting problem closing " + bracket);
+        }
+        stack.remove(stack.size() - 1);
+        if (context == nonempty) {
+            newline();
+        }
+        append(bracket);
+        return this;
+    }
+
+    private Scope peek() {
+        return stack.get(stack.size() - 1);
+    }
+
+    private void replaceTop(Scope scope) {
+        stack.set(stack.size() - 1, scope);
+    }
+
+    private void writeDeferredName() {
+        if (deferredName != null) {
+            if (peek() == Scope.NONEMPTY_OBJECT) {
+                append(",");
+            }
+            newline();
+            replaceTop(Scope.DANGLING_NAME);
+            string(deferredName);
+            deferredName = null;
+        }
+    }
+
+    private void beforeValue() {
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                replaceTop(Scope.NONEMPTY_DOCUMENT);
+                break;
+            case EMPTY_ARRAY:
+                replaceTop(Scope.NONEMPTY_ARRAY);
+                newline();
+                break;
+            case NONEMPTY_ARRAY:
+                append(",");
+                newline();
+                break;
+            case DANGLING_NAME:
+                append(": ");
+                replaceTop(Scope.NONEMPTY_OBJECT);
+                break;
+            default:
+                throw new IllegalStateException("Not expecting a value here");
+        }
+    }
+
+    private void newline() {
+        append("\n");
+        for (int i = 1; i < stack.size(); i++) {
+            append(INDENT);
+        }
+    }
+
+    private void string(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                case '<':
+                case '>':
+                case '&':
+                case '=':
+                case '\'':
+                case '\u2028':
+                case '\u2029':
+                    unicodeEscape(sb, c);
+                    break;
+                default:
+                    if (c < 0x20) {
+                        unicodeEscape(sb, c);
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+        append(sb);
+    }
+
+    private static void unicodeEscape(StringBuilder sb, char c) {
+        String hex = Integer.toHexString(c);
+        sb.append("\\u");
+        for (int i = hex.length(); i < 4; i++) {
+            sb.append('0');
+        }
+        sb.append(hex);
+    }
+
+    private void base64(byte[] data) {
+        append("\"");
+        char[] chunk = new char[BASE64_CHUNK / 3 * 4];
+        int whole = data.length - data.length % 3;
+        for (int start = 0; start < whole; start += BASE64_CHUNK) {
+            int end = Math.min(start + BASE64_CHUNK, whole);
+            int n = 0;
+            for (int i = start; i < end; i += 3) {
+                int bits = (data[i] & 0xff) << 16 | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff);
+                chunk[n++] = BASE64[bits >>> 18];
+                chunk[n++] = BASE64[bits >>> 12 & 0x3f];
+                chunk[n++] = BASE64[bits >>> 6 & 0x3f];
+                chunk[n++] = BASE64[bits & 0x3f];
+            }
+            append(CharBuffer.wrap(chunk, 0, n));
+        }
+        int remaining = data.length - whole;
+        if (remaining > 0) {
+            int bits = (data[whole] & 0xff) << 16 | (remaining == 2 ? (data[whole + 1] & 0xff) << 8 : 0);
+            StringBuilder tail = new StringBuilder();
+            tail.append(BASE64[bits >>> 18]).append(BASE64[bits >>> 12 & 0x3f]);
+            tail.append(remaining == 2 ? String.valueOf(BASE64[bits >>> 6 & 0x3f]) : BASE64_PADDING);
+            tail.append(BASE64_PADDING);
+            append(tail);
+        }
+        append("\"");
+    }
+
+    private void append(CharSequence s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new CucumberException(e);
+        }
+    }
+}
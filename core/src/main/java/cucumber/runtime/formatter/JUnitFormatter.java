@@ -13,21 +13,19 @@ import gherkin.formatter.model.Result;
 import gherkin.formatter.model.Scenario;
 import gherkin.formatter.model.ScenarioOutline;
 import gherkin.formatter.model.Step;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
@@ -37,24 +35,50 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
+/**
+ * Writes a JUnit XML report.
+ * <p/>
+ * Every {@code <testcase>} is written as soon as it is complete, so the report is never held in memory. The
+ * {@code <testsuite>} element needs the totals of the whole run:
+ * <ul>
+ * <li>When the report is a file, the test cases go straight into it. The {@code <testsuite>} start tag is padded to
+ * a fixed width, so it can be rewritten with the new totals after every test case, and the end tag is written after
+ * the last test case. The report is complete and well-formed after every test case, even if the run is killed.</li>
+ * <li>Other URLs can't be rewritten. The test cases go to a spool file, and the report is written from the totals
+ * and the spool file in {@link #done()}.</li>
+ * </ul>
+ */
 class JUnitFormatter implements Formatter, Reporter, StrictAware {
-    private final Writer out;
-    private final Document doc;
-    private final Element rootElement;
+    private static final String ENCODING = "UTF-8";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"" + ENCODING + "\" standalone=\"no\"?>\n";
+    private static final String END_TAG = "</testsuite>\n";
+    private static final String DUMMY_TEST_CASE = "" +
+            "    <testcase classname=\"dummy\" name=\"dummy\">\n" +
+            "        <skipped message=\"No features found\"/>\n" +
+            "    </testcase>\n";
+
+    private final Report report;
+    private final StringWriter testCaseXml = new StringWriter();
+    private final XMLStreamWriter xml;
 
     private TestCase testCase;
-    private Element root;
+    private int tests;
+    private int failures;
+    private int skipped;
+    private double time;
 
     public JUnitFormatter(URL out) throws IOException {
-        this.out = new UTF8OutputStreamWriter(new URLOutputStream(out));
         TestCase.treatSkippedAsFailure = false;
         try {
-            doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
-            rootElement = doc.createElement("testsuite");
-            doc.appendChild(rootElement);
-        } catch (ParserConfigurationException e) {
+            xml = XMLOutputFactory.newInstance().createXMLStreamWriter(testCaseXml);
+        } catch (XMLStreamException e) {
             throw new CucumberException("Error while processing unit report", e);
         }
+        if (out.getProtocol().equals("file")) {
+            report = new FileReport(new File(out.getFile()), header());
+        } else {
+            report = new SpooledReport(out);
+        }
     }
 
     @Override
@@ -67,23 +91,20 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
     @Override
     public void background(Background background) {
         if (!isCurrentTestCaseCreatedNameless()) {
+            writeTestCase();
             testCase = new TestCase();
-            root = testCase.createElement(doc);
         }
     }
 
     @Override
     public void scenario(Scenario scenario) {
         if (isCurrentTestCaseCreatedNameless()) {
-            testCase.scenario = scenario;
+            testCase.setScenario(scenario);
         } else {
-            testCase = new TestCase(scenario);
-            root = testCase.createElement(doc);
+            writeTestCase();
+            testCase = new TestCase();
+            testCase.setScenario(scenario);
         }
-        testCase.writeElement(doc, root);
-        rootElement.appendChild(root);
-
-        increaseAttributeValue(rootElement, "tests");
     }
 
     private boolean isCurrentTestCaseCreatedNameless() {
@@ -97,23 +118,14 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
 
     @Override
     public void done() {
+        writeTestCase();
         try {
-            // set up a transformer
-            rootElement.setAttribute("name", JUnitFormatter.class.getName());
-            rootElement.setAttribute("failures", String.valueOf(rootElement.getElementsByTagName("failure").getLength()));
-            rootElement.setAttribute("skipped", String.valueOf(rootElement.getElementsByTagName("skipped").getLength()));
-            rootElement.setAttribute("time", sumTimes(rootElement.getElementsByTagName("testcase")));
-            if (rootElement.getElementsByTagName("testcase").getLength() == 0) {
-                addDummyTestCase(); // to avoid failed Jenkins jobs
+            if (tests == 0) {
+                report.add(DUMMY_TEST_CASE, header()); // to avoid failed Jenkins jobs
             }
-            TransformerFactory transfac = TransformerFactory.newInstance();
-            Transformer trans = transfac.newTransformer();
-            trans.setOutputProperty(OutputKeys.INDENT, "yes");
-            StreamResult result = new StreamResult(out);
-            DOMSource source = new DOMSource(doc);
-            trans.transform(source, result);
-        } catch (TransformerException e) {
-            throw new CucumberException("Error while transforming.", e);
+            report.close(header());
+        } catch (IOException e) {
+            throw new CucumberException("Error while writing unit report", e);
         }
     }
 
@@ -125,31 +137,59 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
     @Override
     public void endOfScenarioLifeCycle(Scenario scenario) {
         if (testCase != null && testCase.steps.isEmpty()) {
-            testCase.handleEmptyTestCase(doc, root);
+            testCase.handleEmptyTestCase();
         }
+        writeTestCase();
     }
 
-    private void addDummyTestCase() {
-        Element dummy = doc.createElement("testcase");
-        dummy.setAttribute("classname", "dummy");
-        dummy.setAttribute("name", "dummy");
-        rootElement.appendChild(dummy);
-        Element skipped = doc.createElement("skipped");
-        skipped.setAttribute("message", "No features found");
-        dummy.appendChild(skipped);
+    private String header() {
+        StringBuilder header = new StringBuilder();
+        header.append("<testsuite failures=\"").append(failures).append("\" name=\"").append(JUnitFormatter.class.getName());
+        header.append("\" skipped=\"").append(skipped).append("\"");
+        if (tests > 0) {
+            header.append(" tests=\"").append(tests).append("\"");
+        }
+        header.append(" time=\"").append(TestCase.NUMBER_FORMAT.format(time)).append("\">");
+        return header.toString();
+    }
+
+    /**
+     * Adds the current test case to the report, unless it has no scenario or has already been written.
+     */
+    private void writeTestCase() {
+        if (testCase == null || testCase.scenario == null || testCase.written) {
+            return;
+        }
+        testCase.written = true;
+        try {
+            testCase.write(xml);
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new CucumberException("Error while writing unit report", e);
+        }
+        tests++;
+        failures += testCase.failures;
+        skipped += testCase.skippedCount;
+        if (testCase.time != null) time += Double.parseDouble(testCase.time);
+        try {
+            report.add(testCaseXml.toString(), header());
+        } catch (IOException e) {
+            throw new CucumberException("Error while writing unit report", e);
+        }
+        testCaseXml.getBuffer().setLength(0);
     }
 
     @Override
     public void result(Result result) {
         testCase.results.add(result);
-        testCase.updateElement(doc, root);
+        testCase.updateElement();
     }
 
     @Override
     public void before(Match match, Result result) {
         if (!isCurrentTestCaseCreatedNameless()) {
+            writeTestCase();
             testCase = new TestCase();
-            root = testCase.createElement(doc);
         }
         handleHook(result);
     }
@@ -161,37 +201,12 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
 
     private void handleHook(Result result) {
         testCase.hookResults.add(result);
-        testCase.updateElement(doc, root);
-    }
-
-    private String sumTimes(NodeList testCaseNodes) {
-        double totalDurationSecondsForAllTimes = 0.0d;
-        for( int i = 0; i < testCaseNodes.getLength(); i++ ) {
-            try {
-                double testCaseTime =
-                        Double.parseDouble(testCaseNodes.item(i).getAttributes().getNamedItem("time").getNodeValue());
-                totalDurationSecondsForAllTimes += testCaseTime;
-            } catch ( NumberFormatException e ) {
-                throw new CucumberException(e);
-            } catch ( NullPointerException e ) {
-                throw new CucumberException(e);
-            }
-        }
-        DecimalFormat nfmt = (DecimalFormat) NumberFormat.getNumberInstance(Locale.US);
-        nfmt.applyPattern("0.######");
-        return nfmt.format(totalDurationSecondsForAllTimes);
-    }
-
-    private void increaseAttributeValue(Element element, String attribute) {
-        int value = 0;
-        if (element.hasAttribute(attribute)) {
-            value = Integer.parseInt(element.getAttribute(attribute));
-        }
-        element.setAttribute(attribute, String.valueOf(++value));
+        testCase.updateElement();
     }
 
     @Override
     public void scenarioOutline(ScenarioOutline scenarioOutline) {
+        writeTestCase();
         testCase = null;
     }
 
@@ -232,18 +247,127 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
         TestCase.treatSkippedAsFailure = strict;
     }
 
-    private static class TestCase {
-        private static final DecimalFormat NUMBER_FORMAT = (DecimalFormat) NumberFormat.getNumberInstance(Locale.US);
+    /**
+     * Where the test cases go. {@link #add} is called after every test case, and {@link #close} at the end of the
+     * run, each with the {@code <testsuite>} start tag with the totals so far.
+     */
+    private interface Report {
+        void add(String testCase, String header) throws IOException;
 
-        static {
-            NUMBER_FORMAT.applyPattern("0.######");
+        void close(String header) throws IOException;
+    }
+
+    private static class FileReport implements Report {
+        private static final int HEADER_WIDTH = 256;
+
+        private final RandomAccessFile file;
+        private final long headerStart;
+        private long testCasesEnd;
+
+        FileReport(File file, String header) throws IOException {
+            if (file.getParentFile() != null && !file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Failed to create directory " + file.getParentFile().getAbsolutePath());
+            }
+            this.file = new RandomAccessFile(file, "rw");
+            this.file.setLength(0);
+            write(XML_DECLARATION);
+            headerStart = this.file.getFilePointer();
+            write(pad(header) + "\n");
+            testCasesEnd = this.file.getFilePointer();
+            write(END_TAG);
         }
 
-        private TestCase(Scenario scenario) {
-            this.scenario = scenario;
+        @Override
+        public void add(String testCase, String header) throws IOException {
+            file.seek(testCasesEnd);
+            write(testCase);
+            testCasesEnd = file.getFilePointer();
+            write(END_TAG);
+            file.seek(headerStart);
+            write(pad(header));
+        }
+
+        @Override
+        public void close(String header) throws IOException {
+            try {
+                file.seek(headerStart);
+                write(pad(header));
+            } finally {
+                file.close();
+            }
+        }
+
+        /**
+         * Pads the start tag with spaces before its {@code >}, so that it always takes the same number of bytes.
+         */
+        private static String pad(String header) {
+            if (header.length() > HEADER_WIDTH) {
+                throw new CucumberException("The testsuite element doesn't fit in " + HEADER_WIDTH + " characters: " + header);
+            }
+            StringBuilder padded = new StringBuilder(HEADER_WIDTH);
+            padded.append(header, 0, header.length() - 1);
+            while (padded.length() < HEADER_WIDTH - 1) {
+                padded.append(' ');
+            }
+            return padded.append('>').toString();
+        }
+
+        private void write(String text) throws IOException {
+            file.write(text.getBytes(ENCODING));
+        }
+    }
+
+    private static class SpooledReport implements Report {
+        private final Writer out;
+        private final File spoolFile;
+        private final Writer spool;
+
+        SpooledReport(URL out) throws IOException {
+            this.out = new UTF8OutputStreamWriter(new URLOutputStream(out));
+            spoolFile = File.createTempFile("cucumber-junit", ".xml");
+            spoolFile.deleteOnExit();
+            spool = new BufferedWriter(new UTF8OutputStreamWriter(new FileOutputStream(spoolFile)));
+        }
+
+        @Override
+        public void add(String testCase, String header) throws IOException {
+            spool.write(testCase);
+            spool.flush();
+        }
+
+        @Override
+        public void close(String header) throws IOException {
+            try {
+                spool.close();
+                out.write(XML_DECLARATION);
+                out.write(header + "\n");
+                copySpool();
+                out.write(END_TAG);
+                out.flush();
+            } finally {
+                spoolFile.delete();
+            }
+        }
+
+        private void copySpool() throws IOException {
+            Reader in = new InputStreamReader(new FileInputStream(spoolFile), ENCODING);
+            try {
+                char[] buffer = new char[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            } finally {
+                in.close();
+            }
         }
+    }
+
+    private static class TestCase {
+        private static final DecimalFormat NUMBER_FORMAT = (DecimalFormat) NumberFormat.getNumberInstance(Locale.US);
 
-        private TestCase() {
+        static {
+            NUMBER_FORMAT.applyPattern("0.######");
         }
 
         Scenario scenario;
@@ -254,14 +378,19 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
         final List<Step> steps = new ArrayList<Step>();
         final List<Result> results = new ArrayList<Result>();
         final List<Result> hookResults = new ArrayList<Result>();
-
-        private Element createElement(Document doc) {
-            return doc.createElement("testcase");
-        }
-
-        private void writeElement(Document doc, Element tc) {
-            tc.setAttribute("classname", feature.getName());
-            tc.setAttribute("name", calculateElementName(scenario));
+        private String className;
+        private String name;
+        private String time;
+        private boolean updated;
+        private boolean empty;
+        private int failures;
+        private int skippedCount;
+        private boolean written;
+
+        private void setScenario(Scenario scenario) {
+            this.scenario = scenario;
+            className = feature.getName();
+            name = calculateElementName(scenario);
         }
 
         private String calculateElementName(Scenario scenario) {
@@ -279,9 +408,37 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
             return scenarioName.indexOf(' ') != -1;
         }
 
-        public void updateElement(Document doc, Element tc) {
-            tc.setAttribute("time", calculateTotalDurationString());
+        public void updateElement() {
+            time = calculateTotalDurationString();
+            updated = true;
+        }
+
+        public void handleEmptyTestCase() {
+            time = calculateTotalDurationString();
+            empty = true;
+        }
 
+        private void write(XMLStreamWriter xml) throws XMLStreamException {
+            xml.writeCharacters("    ");
+            xml.writeStartElement("testcase");
+            xml.writeAttribute("classname", className);
+            xml.writeAttribute("name", name);
+            if (time != null) {
+                xml.writeAttribute("time", time);
+            }
+            xml.writeCharacters("\n");
+            if (updated) {
+                writeResult(xml);
+            }
+            if (empty) {
+                writeElement(xml, "", treatSkippedAsFailure ? "failure" : "skipped", "The scenario has no steps");
+            }
+            xml.writeCharacters("    ");
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+        }
+
+        private void writeResult(XMLStreamWriter xml) throws XMLStreamException {
             StringBuilder sb = new StringBuilder();
             addStepAndResultListing(sb);
             Result skipped = null, failed = null;
@@ -293,36 +450,19 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
                 if (failed == null && "failed".equals(result.getStatus())) failed = result;
                 if (skipped == null && "pending".equals(result.getStatus())) skipped = result;
             }
-            Element child;
             if (failed != null) {
                 addStackTrace(sb, failed);
-                child = createElementWithMessage(doc, sb, "failure", failed.getErrorMessage());
+                writeElement(xml, sb.toString(), "failure", failed.getErrorMessage());
             } else if (skipped != null) {
                 if (treatSkippedAsFailure) {
-                    child = createElementWithMessage(doc, sb, "failure", "The scenario has pending or undefined step(s)");
+                    writeElement(xml, sb.toString(), "failure", "The scenario has pending or undefined step(s)");
                 }
                 else {
-                    child = createElement(doc, sb, "skipped");
+                    writeElement(xml, sb.toString(), "skipped", null);
                 }
             } else {
-                child = createElement(doc, sb, "system-out");
+                writeElement(xml, sb.toString(), "system-out", null);
             }
-
-            Node existingChild = tc.getFirstChild();
-            if (existingChild == null) {
-                tc.appendChild(child);
-            } else {
-                tc.replaceChild(child, existingChild);
-            }
-        }
-
-        public void handleEmptyTestCase(Document doc, Element tc) {
-            tc.setAttribute("time", calculateTotalDurationString());
-
-            String resultType = treatSkippedAsFailure ? "failure" : "skipped";
-            Element child = createElementWithMessage(doc, new StringBuilder(), resultType, "The scenario has no steps");
-
-            tc.appendChild(child);
         }
 
         private String calculateTotalDurationString() {
@@ -361,18 +501,40 @@ class JUnitFormatter implements Formatter, Reporter, StrictAware {
             sb.append(sw.toString());
         }
 
-        private Element createElementWithMessage(Document doc, StringBuilder sb, String elementType, String message) {
-            Element child = createElement(doc, sb, elementType);
-            child.setAttribute("message", message);
-            return child;
+        private void writeElement(XMLStreamWriter xml, String text, String elementType, String message) throws XMLStreamException {
+            if ("failure".equals(elementType)) failures++;
+            if ("skipped".equals(elementType)) skippedCount++;
+            xml.writeCharacters("        ");
+            if (text.length() == 0) {
+                xml.writeEmptyElement(elementType);
+                writeMessage(xml, message);
+            } else {
+                xml.writeStartElement(elementType);
+                writeMessage(xml, message);
+                writeCData(xml, text);
+                xml.writeEndElement();
+            }
+            xml.writeCharacters("\n");
         }
 
-        private Element createElement(Document doc, StringBuilder sb, String elementType) {
-            Element child = doc.createElement(elementType);
-            child.appendChild(doc.createCDATASection(sb.toString()));
-            return child;
+        private void writeMessage(XMLStreamWriter xml, String message) throws XMLStreamException {
+            if (message != null) {
+                xml.writeAttribute("message", message);
+            }
         }
 
+        /**
+         * Writes text as CDATA, splitting any {@code ]]>} in it over two sections.
+         */
+        private void writeCData(XMLStreamWriter xml, String text) throws XMLStreamException {
+            int start = 0;
+            int end;
+            while ((end = text.indexOf("]]>", start)) != -1) {
+                xml.writeCData(text.substring(start, end + 2));
+                start = end + 2;
+            }
+            xml.writeCData(text.substring(start));
+        }
     }
 
 }
@@ -0,0 +1,137 @@
+package cucumber.runtime.formatter;
+
+import cucumber.runtime.StepDefinitionMatch;
+import cucumber.runtime.Timeout;
+import cucumber.runtime.metrics.MetricsRegistry;
+import gherkin.formatter.Formatter;
+import gherkin.formatter.NiceAppendable;
+import gherkin.formatter.Reporter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+
+import java.util.List;
+
+/**
+ * Formatter that records the duration of every step per step definition pattern and of every hook per location,
+ * and counts steps by status, in a {@link MetricsRegistry}. It also records the steps and hooks run with a timeout from
+ * when it is created. The metrics are written as JSON when the run is done.
+ */
+class MetricsFormatter implements Formatter, Reporter {
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final Timeout.Recording timeouts = Timeout.startRecording();
+    private final NiceAppendable out;
+
+    private Match match;
+
+    public MetricsFormatter(Appendable out) {
+        this.out = new NiceAppendable(out);
+    }
+
+    /**
+     * @return the metrics recorded so far.
+     */
+    public MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * @return the metrics in the format this formatter writes.
+     */
+    String export(MetricsRegistry registry) {
+        return registry.toJson();
+    }
+
+    @Override
+    public void uri(String uri) {
+    }
+
+    @Override
+    public void feature(Feature feature) {
+    }
+
+    @Override
+    public void background(Background background) {
+    }
+
+    @Override
+    public void scenario(Scenario scenario) {
+    }
+
+    @Override
+    public void scenarioOutline(ScenarioOutline scenarioOutline) {
+    }
+
+    @Override
+    public void examples(Examples examples) {
+    }
+
+    @Override
+    public void embedding(String mimeType, byte[] data) {
+    }
+
+    @Override
+    public void write(String text) {
+    }
+
+    @Override
+    public void step(Step step) {
+    }
+
+    @Override
+    public void eof() {
+    }
+
+    @Override
+    public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
+    }
+
+    @Override
+    public void startOfScenarioLifeCycle(Scenario scenario) {
+    }
+
+    @Override
+    public void endOfScenarioLifeCycle(Scenario scenario) {
+    }
+
+    @Override
+    public void done() {
+        timeouts.stop();
+        registry.recordTimeouts(timeouts.getStatistics());
+        out.append(export(registry));
+    }
+
+    @Override
+    public void close() {
+        out.close();
+    }
+
+    @Override
+    public void match(Match match) {
+        this.match = match;
+    }
+
+    @Override
+    public void result(Result result) {
+        if (match instanceof StepDefinitionMatch) {
+            registry.recordStep(((StepDefinitionMatch) match).getPattern(), result.getStatus(), result.getDuration());
+        } else if (Result.UNDEFINED.getStatus().equals(result.getStatus())) {
+            registry.recordUndefinedStep();
+        }
+    }
+
+    @Override
+    public void before(Match match, Result result) {
+        registry.recordHook(match.getLocation(), result.getDuration());
+    }
+
+    @Override
+    public void after(Match match, Result result) {
+        registry.recordHook(match.getLocation(), result.getDuration());
+    }
+}
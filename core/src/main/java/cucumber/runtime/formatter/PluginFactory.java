@@ -58,6 +58,8 @@ public class PluginFactory {
         put("progress", ProgressFormatter.class);
         put("json", CucumberJSONFormatter.class);
         put("usage", UsageFormatter.class);
+        put("metrics", MetricsFormatter.class);
+        put("prometheus", PrometheusFormatter.class);
         put("rerun", RerunFormatter.class);
         put("default_summary", DefaultSummaryPrinter.class);
         put("null_summary", NullSummaryPrinter.class);
@@ -0,0 +1,18 @@
+package cucumber.runtime.formatter;
+
+import cucumber.runtime.metrics.MetricsRegistry;
+
+/**
+ * Like {@link MetricsFormatter}, but writes the metrics in the Prometheus text exposition format, for example
+ * for the textfile collector of the node exporter.
+ */
+class PrometheusFormatter extends MetricsFormatter {
+    public PrometheusFormatter(Appendable out) {
+        super(out);
+    }
+
+    @Override
+    String export(MetricsRegistry registry) {
+        return registry.toPrometheus();
+    }
+}
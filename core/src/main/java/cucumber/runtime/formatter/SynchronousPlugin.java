@@ -0,0 +1,8 @@
+package cucumber.runtime.formatter;
+
+/**
+ * Marks a formatter or reporter plugin that must be called on the thread running the scenarios,
+ * even when plugins are called asynchronously (--async-plugins).
+ */
+public interface SynchronousPlugin {
+}
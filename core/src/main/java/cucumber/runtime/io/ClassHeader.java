@@ -0,0 +1,204 @@
+package cucumber.runtime.io;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What a class file says about its class, read from the bytecode without loading the class: its name, its
+ * super class and interfaces, and the annotations on its methods.
+ */
+class ClassHeader {
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final String name;
+    private final String superName;
+    private final List<String> interfaceNames;
+    private final Set<String> methodAnnotationNames;
+    private final boolean isInterface;
+
+    private ClassHeader(String name, String superName, List<String> interfaceNames, Set<String> methodAnnotationNames, boolean isInterface) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = interfaceNames;
+        this.methodAnnotationNames = methodAnnotationNames;
+        this.isInterface = isInterface;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the name of the super class, or null for java.lang.Object and interfaces.
+     */
+    public String getSuperName() {
+        return isInterface ? null : superName;
+    }
+
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * @return the names of the annotation types on the methods declared by this class.
+     */
+    public Set<String> getMethodAnnotationNames() {
+        return methodAnnotationNames;
+    }
+
+    public static ClassHeader read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8s = new String[constantPoolCount];
+        int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7:
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    skip(in, 2);
+                    break;
+                case 15:
+                    skip(in, 3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    skip(in, 4);
+                    break;
+                case 5:
+                case 6:
+                    skip(in, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String name = className(utf8s, classNameIndexes, in.readUnsignedShort());
+        String superName = className(utf8s, classNameIndexes, in.readUnsignedShort());
+        int interfaceCount = in.readUnsignedShort();
+        List<String> interfaceNames = new ArrayList<String>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(className(utf8s, classNameIndexes, in.readUnsignedShort()));
+        }
+
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            skip(in, 6);
+            int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                skipAttribute(in);
+            }
+        }
+
+        Set<String> methodAnnotationNames = new HashSet<String>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            skip(in, 6);
+            int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                String attributeName = utf8s[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    int annotationCount = in.readUnsignedShort();
+                    for (int k = 0; k < annotationCount; k++) {
+                        methodAnnotationNames.add(annotation(utf8s, in));
+                    }
+                } else {
+                    skip(in, length);
+                }
+            }
+        }
+
+        return new ClassHeader(name, superName, Collections.unmodifiableList(interfaceNames),
+                Collections.unmodifiableSet(methodAnnotationNames), (accessFlags & ACC_INTERFACE) != 0);
+    }
+
+    private static String className(String[] utf8s, int[] classNameIndexes, int classIndex) {
+        if (classIndex == 0) {
+            return null;
+        }
+        return utf8s[classNameIndexes[classIndex]].replace('/', '.');
+    }
+
+    /**
+     * Reads an annotation and returns the name of its type.
+     */
+    private static String annotation(String[] utf8s, DataInputStream in) throws IOException {
+        String descriptor = utf8s[in.readUnsignedShort()];
+        int pairCount = in.readUnsignedShort();
+        for (int i = 0; i < pairCount; i++) {
+            skip(in, 2);
+            skipElementValue(utf8s, in);
+        }
+        // Ljava/lang/Deprecated;
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    private static void skipElementValue(String[] utf8s, DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                skip(in, 4);
+                break;
+            case '@':
+                annotation(utf8s, in);
+                break;
+            case '[':
+                int valueCount = in.readUnsignedShort();
+                for (int i = 0; i < valueCount; i++) {
+                    skipElementValue(utf8s, in);
+                }
+                break;
+            default:
+                skip(in, 2);
+        }
+    }
+
+    private static void skipAttribute(DataInputStream in) throws IOException {
+        skip(in, 2);
+        skip(in, in.readInt());
+    }
+
+    private static void skip(DataInputStream in, int bytes) throws IOException {
+        int remaining = bytes;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+}
@@ -10,14 +10,24 @@ import java.util.Enumeration;
 import java.util.Iterator;
 
 public class ClasspathResourceIterable implements Iterable<Resource> {
-    private final ResourceIteratorFactory resourceIteratorFactory =
-            new DelegatingResourceIteratorFactory(new ZipThenFileResourceIteratorFactory());
+    private final ResourceIteratorFactory resourceIteratorFactory;
 
     private final ClassLoader classLoader;
     private final String path;
     private final String suffix;
 
     public ClasspathResourceIterable(ClassLoader classLoader, String path, String suffix) {
+        this(classLoader, path, suffix, new ZipIndexes());
+    }
+
+    /**
+     * @param classLoader where to look for resources
+     * @param path        the path of the resources
+     * @param suffix      the suffix of the resources
+     * @param zipIndexes  where to open the jars the resources are in
+     */
+    public ClasspathResourceIterable(ClassLoader classLoader, String path, String suffix, ZipIndexes zipIndexes) {
+        this.resourceIteratorFactory = new DelegatingResourceIteratorFactory(new ZipThenFileResourceIteratorFactory(zipIndexes));
         this.classLoader = classLoader;
         this.path = path;
         this.suffix = suffix;
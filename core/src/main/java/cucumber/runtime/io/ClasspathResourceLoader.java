@@ -1,6 +1,9 @@
 package cucumber.runtime.io;
 
-public class ClasspathResourceLoader implements ResourceLoader {
+import java.io.Closeable;
+
+public class ClasspathResourceLoader implements ResourceLoader, Closeable {
+    private final ZipIndexes zipIndexes = new ZipIndexes();
     private final ClassLoader classLoader;
 
     public ClasspathResourceLoader(ClassLoader classLoader) {
@@ -9,6 +12,15 @@ public class ClasspathResourceLoader implements ResourceLoader {
 
     @Override
     public Iterable<Resource> resources(String path, String suffix) {
-        return new ClasspathResourceIterable(classLoader, path, suffix);
+        return new ClasspathResourceIterable(classLoader, path, suffix, zipIndexes);
+    }
+
+    /**
+     * Closes the jars resources were loaded from. Resources can still be loaded after this, but the ones that
+     * were loaded from jars before can no longer be read.
+     */
+    @Override
+    public void close() {
+        zipIndexes.close();
     }
 }
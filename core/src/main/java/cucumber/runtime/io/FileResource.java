@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 public class FileResource implements Resource {
     private final File root;
@@ -42,6 +44,27 @@ public class FileResource implements Resource {
         return path.substring(0, path.length() - extension.length()).replace(File.separatorChar, '.');
     }
 
+    /**
+     * Reads the whole file in one go, through its channel into a heap buffer. The file is closed when it returns.
+     *
+     * @return the contents of the file.
+     * @throws IOException if the file can't be read.
+     */
+    public ByteBuffer read() throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            FileChannel channel = in.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading
+            }
+            buffer.flip();
+            return buffer;
+        } finally {
+            in.close();
+        }
+    }
+
     public File getFile() {
         return file;
     }
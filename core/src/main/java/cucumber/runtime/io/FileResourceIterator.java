@@ -1,23 +1,16 @@
 package cucumber.runtime.io;
 
 import java.io.File;
-import java.io.FileFilter;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import static cucumber.runtime.io.Helpers.hasSuffix;
-import static java.util.Arrays.asList;
 
 public class FileResourceIterator implements Iterator<Resource> {
     private final FlatteningIterator<Resource> flatteningIterator = new FlatteningIterator<Resource>();
 
     public FileResourceIterator(File root, File file, final String suffix) {
-        FileFilter filter = new FileFilter() {
-            @Override
-            public boolean accept(File file) {
-                return file.isDirectory() || hasSuffix(suffix, file.getPath());
-            }
-        };
-        flatteningIterator.push(new FileIterator(root, file, filter));
+        flatteningIterator.push(FileIterator.of(root, file, suffix));
     }
 
     @Override
@@ -37,44 +30,74 @@ public class FileResourceIterator implements Iterator<Resource> {
 
     /**
      * Iterator to iterate over all the files contained in a directory. It returns
-     * a File object for non directories or a new FileIterator obejct for directories.
+     * a FileResource object for non directories or a new FileIterator object for directories.
+     * <p/>
+     * The directory is listed by name, and each entry is asked once whether it is a directory,
+     * which is the only file system call made per entry.
      */
     private static class FileIterator implements Iterator<Object> {
-        private final Iterator<File> files;
-        private final FileFilter filter;
         private final File root;
+        private final File dir;
+        private final String[] names;
+        private final String suffix;
+        private int index;
+        private Object next;
 
-        FileIterator(File root, File file, FileFilter filter) {
+        private FileIterator(File root, File dir, String[] names, Object next, String suffix) {
             this.root = root;
+            this.dir = dir;
+            this.names = names;
+            this.next = next;
+            this.suffix = suffix;
+        }
+
+        /**
+         * @return an iterator over the file, or over the files in it if it is a directory.
+         */
+        static FileIterator of(File root, File file, String suffix) {
             if (file.isDirectory()) {
-                this.files = asList(file.listFiles(filter)).iterator();
+                return directory(root, file, suffix);
             } else if (file.isFile()) {
-                this.files = asList(file).iterator();
+                return new FileIterator(root, null, new String[0], new FileResource(root, file), suffix);
             } else {
                 throw new IllegalArgumentException("Not a file or directory: " + file.getAbsolutePath());
             }
-            this.filter = filter;
+        }
+
+        /**
+         * @return an iterator over the files in a directory that is already known to be one, so it isn't asked again.
+         */
+        static FileIterator directory(File root, File dir, String suffix) {
+            String[] names = dir.list();
+            return new FileIterator(root, dir, names == null ? new String[0] : names, null, suffix);
         }
 
         @Override
         public Object next() {
-            File next = files.next();
-
-            if (next.isDirectory()) {
-                return new FileIterator(root, next, filter);
-            } else {
-                return new FileResource(root, next);
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            Object next = this.next;
+            this.next = null;
+            return next;
         }
 
         @Override
         public boolean hasNext() {
-            return files.hasNext();
+            while (next == null && index < names.length) {
+                File file = new File(dir, names[index++]);
+                if (file.isDirectory()) {
+                    next = directory(root, file, suffix);
+                } else if (hasSuffix(suffix, file.getPath())) {
+                    next = new FileResource(root, file);
+                }
+            }
+            return next != null;
         }
 
         @Override
         public void remove() {
-            files.remove();
+            throw new UnsupportedOperationException();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package cucumber.runtime.io;
 
-public class MultiLoader implements ResourceLoader {
+import java.io.Closeable;
+
+public class MultiLoader implements ResourceLoader, Closeable {
     public static final String CLASSPATH_SCHEME = "classpath:";
 
     private final ClasspathResourceLoader classpath;
@@ -20,6 +22,14 @@ public class MultiLoader implements ResourceLoader {
         }
     }
 
+    /**
+     * Closes the jars classpath resources were loaded from, see {@link ClasspathResourceLoader#close()}.
+     */
+    @Override
+    public void close() {
+        classpath.close();
+    }
+
     public static String packageName(String gluePath) {
         if (isClasspathPath(gluePath)) {
             gluePath = stripClasspathPrefix(gluePath);
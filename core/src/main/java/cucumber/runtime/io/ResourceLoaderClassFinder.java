@@ -1,14 +1,28 @@
 package cucumber.runtime.io;
 
-import cucumber.runtime.ClassFinder;
+import cucumber.runtime.MethodAnnotationClassFinder;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-public class ResourceLoaderClassFinder implements ClassFinder {
+/**
+ * Finds classes among the class resources of a package.
+ * <p/>
+ * The class files are read before the classes are loaded, and classes that can't match are never loaded. The
+ * class files, and those of their super types, are read once per finder.
+ */
+public class ResourceLoaderClassFinder implements MethodAnnotationClassFinder {
     private final ResourceLoader resourceLoader;
     private final ClassLoader classLoader;
+    private final ConcurrentMap<String, ClassHeader> headers = new ConcurrentHashMap<String, ClassHeader>();
+    private final Set<String> unreadableClassFiles = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
     public ResourceLoaderClassFinder(ResourceLoader resourceLoader, ClassLoader classLoader) {
         this.resourceLoader = resourceLoader;
@@ -18,9 +32,11 @@ public class ResourceLoaderClassFinder implements ClassFinder {
     @Override
     public <T> Collection<Class<? extends T>> getDescendants(Class<T> parentType, String packageName) {
         Collection<Class<? extends T>> result = new HashSet<Class<? extends T>>();
-        String packagePath = "classpath:" + packageName.replace('.', '/').replace(File.separatorChar, '/');
-        for (Resource classResource : resourceLoader.resources(packagePath, ".class")) {
+        for (Resource classResource : classResources(packageName)) {
             String className = classResource.getClassName(".class");
+            if (!mayBeAssignableTo(header(className, classResource), parentType.getName())) {
+                continue;
+            }
 
             try {
                 Class<?> clazz = loadClass(className);
@@ -34,7 +50,116 @@ public class ResourceLoaderClassFinder implements ClassFinder {
         return result;
     }
 
+    @Override
+    public Collection<Class<?>> getClassesWithMethodAnnotations(String packageName, String annotationPackageName) {
+        Collection<Class<?>> result = new HashSet<Class<?>>();
+        for (Resource classResource : classResources(packageName)) {
+            String className = classResource.getClassName(".class");
+            if (!mayHaveMethodAnnotations(header(className, classResource), annotationPackageName + ".")) {
+                continue;
+            }
+
+            try {
+                Class<?> clazz = loadClass(className);
+                if (clazz != null) {
+                    result.add(clazz);
+                }
+            } catch (ClassNotFoundException ignore) {
+            } catch (NoClassDefFoundError ignore) {
+            }
+        }
+        return result;
+    }
+
     public <T> Class<? extends T> loadClass(String className) throws ClassNotFoundException {
         return (Class<? extends T>) classLoader.loadClass(className);
     }
+
+    private Iterable<Resource> classResources(String packageName) {
+        String packagePath = "classpath:" + packageName.replace('.', '/').replace(File.separatorChar, '/');
+        return resourceLoader.resources(packagePath, ".class");
+    }
+
+    private boolean mayBeAssignableTo(ClassHeader header, String typeName) {
+        if (header == null || typeName.equals(Object.class.getName()) || header.getName().equals(typeName)) {
+            return true;
+        }
+        if (header.getSuperName() != null && mayBeAssignableTo(header(header.getSuperName()), typeName)) {
+            return true;
+        }
+        for (String interfaceName : header.getInterfaceNames()) {
+            if (mayBeAssignableTo(header(interfaceName), typeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayHaveMethodAnnotations(ClassHeader header, String annotationPackagePrefix) {
+        if (header == null) {
+            return true;
+        }
+        for (String annotationName : header.getMethodAnnotationNames()) {
+            if (annotationName.startsWith(annotationPackagePrefix)) {
+                return true;
+            }
+        }
+        if (header.getSuperName() != null && mayHaveMethodAnnotations(header(header.getSuperName()), annotationPackagePrefix)) {
+            return true;
+        }
+        for (String interfaceName : header.getInterfaceNames()) {
+            if (mayHaveMethodAnnotations(header(interfaceName), annotationPackagePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the header of a class in the scanned package, or null if its class file can't be read.
+     */
+    private ClassHeader header(String className, Resource classResource) {
+        ClassHeader header = headers.get(className);
+        if (header == null && !unreadableClassFiles.contains(className)) {
+            try {
+                header = readHeader(classResource.getInputStream());
+            } catch (IOException e) {
+                unreadableClassFiles.add(className);
+                return null;
+            }
+            headers.putIfAbsent(className, header);
+        }
+        return header;
+    }
+
+    /**
+     * @return the header of a super type, or null if its class file can't be found or read.
+     */
+    private ClassHeader header(String className) {
+        ClassHeader header = headers.get(className);
+        if (header == null && !unreadableClassFiles.contains(className)) {
+            InputStream classFile = classLoader.getResourceAsStream(className.replace('.', '/') + ".class");
+            try {
+                if (classFile == null) {
+                    throw new IOException("No class file for " + className);
+                }
+                header = readHeader(classFile);
+            } catch (IOException e) {
+                unreadableClassFiles.add(className);
+                return null;
+            }
+            headers.putIfAbsent(className, header);
+        }
+        return header;
+    }
+
+    private static ClassHeader readHeader(InputStream classFile) throws IOException {
+        try {
+            return ClassHeader.read(classFile);
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed class file", e);
+        } finally {
+            classFile.close();
+        }
+    }
 }
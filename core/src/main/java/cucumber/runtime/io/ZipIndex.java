@@ -0,0 +1,134 @@
+package cucumber.runtime.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An open zip (or jar) file with its entries sorted by name, so that the entries under a path are found without
+ * going through all of them.
+ * <p/>
+ * Indexes are shared: {@link #open(String)} returns the index that is already open for the same file, unless the
+ * file was modified since, and counts a reference to it. The zip file is closed when the last reference is
+ * {@link #release() released}.
+ */
+public class ZipIndex {
+    private static final Map<String, ZipIndex> OPEN = new HashMap<String, ZipIndex>();
+
+    private final String key;
+    private final long lastModified;
+    private final long length;
+    private final ZipFile zipFile;
+    private final String[] names;
+    private final ZipEntry[] entries;
+    private final int[] positions;
+    private int references;
+
+    /**
+     * @param zipPath path of the zip file
+     * @return the index of the zip file, with one more reference counted
+     * @throws IOException if the zip file can't be opened
+     */
+    public static ZipIndex open(String zipPath) throws IOException {
+        File file = new File(zipPath);
+        String key = file.getCanonicalPath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        synchronized (OPEN) {
+            ZipIndex index = OPEN.get(key);
+            if (index == null || index.lastModified != lastModified || index.length != length) {
+                // A modified file gets a new index. The old one is closed when it's released.
+                index = new ZipIndex(key, lastModified, length, new ZipFile(file));
+                OPEN.put(key, index);
+            }
+            index.references++;
+            return index;
+        }
+    }
+
+    private ZipIndex(String key, long lastModified, long length, ZipFile zipFile) {
+        this.key = key;
+        this.lastModified = lastModified;
+        this.length = length;
+        this.zipFile = zipFile;
+
+        final ZipEntry[] entries = new ZipEntry[zipFile.size()];
+        int count = 0;
+        for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements() && count < entries.length; ) {
+            entries[count++] = e.nextElement();
+        }
+        Integer[] byName = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            byName[i] = i;
+        }
+        Arrays.sort(byName, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return entries[a].getName().compareTo(entries[b].getName());
+            }
+        });
+        this.entries = entries;
+        this.names = new String[count];
+        this.positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = byName[i];
+            names[i] = entries[byName[i]].getName();
+        }
+    }
+
+    public ZipFile getZipFile() {
+        return zipFile;
+    }
+
+    /**
+     * @param prefix the start of the entry names
+     * @return the entries whose names start with {@code prefix}, in the order of the zip file
+     */
+    public ZipEntry[] entries(String prefix) {
+        int from = firstAtOrAfter(prefix);
+        int to = from;
+        while (to < names.length && names[to].startsWith(prefix)) {
+            to++;
+        }
+        int[] matching = Arrays.copyOfRange(positions, from, to);
+        Arrays.sort(matching);
+        ZipEntry[] result = new ZipEntry[matching.length];
+        for (int i = 0; i < matching.length; i++) {
+            result[i] = entries[matching[i]];
+        }
+        return result;
+    }
+
+    private int firstAtOrAfter(String name) {
+        int index = Arrays.binarySearch(names, name);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Releases one reference to this index. The zip file is closed when none are left.
+     */
+    public void release() {
+        synchronized (OPEN) {
+            if (references == 0) {
+                throw new IllegalStateException("Already released: " + key);
+            }
+            if (--references > 0) {
+                return;
+            }
+            if (OPEN.get(key) == this) {
+                OPEN.remove(key);
+            }
+        }
+        try {
+            zipFile.close();
+        } catch (IOException ignore) {
+            // Nothing was written, so nothing is lost
+        }
+    }
+}
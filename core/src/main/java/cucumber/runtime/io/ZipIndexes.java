@@ -0,0 +1,39 @@
+package cucumber.runtime.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link ZipIndex}es used by one resource loader. Each zip file is opened once, on first use, and all of
+ * them are released on {@link #close()}. They are opened again if they are used after that.
+ */
+public class ZipIndexes implements Closeable {
+    private final Map<String, ZipIndex> indexes = new HashMap<String, ZipIndex>();
+
+    /**
+     * @param zipPath path of the zip file
+     * @return the index of the zip file
+     * @throws IOException if the zip file can't be opened
+     */
+    public synchronized ZipIndex get(String zipPath) throws IOException {
+        ZipIndex index = indexes.get(zipPath);
+        if (index == null) {
+            index = ZipIndex.open(zipPath);
+            indexes.put(zipPath, index);
+        }
+        return index;
+    }
+
+    /**
+     * Releases the zip files. Resources found in them can't be read after this.
+     */
+    @Override
+    public synchronized void close() {
+        for (ZipIndex index : indexes.values()) {
+            index.release();
+        }
+        indexes.clear();
+    }
+}
@@ -1,24 +1,26 @@
 package cucumber.runtime.io;
 
 import java.io.IOException;
-import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 public class ZipResourceIterator implements Iterator<Resource> {
-    private final String path;
     private final String suffix;
     private final ZipFile jarFile;
-    private final Enumeration<? extends ZipEntry> entries;
+    private final ZipEntry[] entries;
+    private int index;
     private Resource next;
 
     public ZipResourceIterator(String zipPath, String path, String suffix) throws IOException {
-        this.path = path;
+        this(ZipIndex.open(zipPath), path, suffix);
+    }
+
+    public ZipResourceIterator(ZipIndex zipIndex, String path, String suffix) {
         this.suffix = suffix;
-        jarFile = new ZipFile(zipPath);
-        entries = jarFile.entries();
+        jarFile = zipIndex.getZipFile();
+        entries = zipIndex.entries(path);
 
         moveToNext();
     }
@@ -47,10 +49,9 @@ public class ZipResourceIterator implements Iterator<Resource> {
 
     private void moveToNext() {
         next = null;
-        while (entries.hasMoreElements()) {
-            ZipEntry jarEntry = entries.nextElement();
-            String entryName = jarEntry.getName();
-            if (entryName.startsWith(path) && Helpers.hasSuffix(suffix, entryName)) {
+        while (index < entries.length) {
+            ZipEntry jarEntry = entries[index++];
+            if (Helpers.hasSuffix(suffix, jarEntry.getName())) {
                 next = new ZipResource(jarFile, jarEntry);
                 break;
             }
@@ -11,6 +11,18 @@ import cucumber.runtime.CucumberException;
  * protocols.
  */
 public class ZipResourceIteratorFactory implements ResourceIteratorFactory {
+    private final ZipIndexes zipIndexes;
+
+    public ZipResourceIteratorFactory() {
+        this(new ZipIndexes());
+    }
+
+    /**
+     * @param zipIndexes where to open the zip files
+     */
+    public ZipResourceIteratorFactory(ZipIndexes zipIndexes) {
+        this.zipIndexes = zipIndexes;
+    }
 
     @Override
     public boolean isFactoryFor(URL url) {
@@ -21,7 +33,7 @@ public class ZipResourceIteratorFactory implements ResourceIteratorFactory {
     public Iterator<Resource> createIterator(URL url, String path, String suffix) {
         try {
             String jarPath = Helpers.jarFilePath(url);
-            return new ZipResourceIterator(jarPath, path, suffix);
+            return new ZipResourceIterator(zipIndexes.get(jarPath), path, suffix);
         } catch (IOException e) {
             throw new CucumberException(e);
         }
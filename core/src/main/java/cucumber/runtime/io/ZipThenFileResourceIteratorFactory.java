@@ -7,9 +7,20 @@ import java.util.Iterator;
  * Resource iterator factory implementation which delegates to zip then file.
  */
 public class ZipThenFileResourceIteratorFactory implements ResourceIteratorFactory {
-    private final ResourceIteratorFactory zipResourceIteratorFactory = new ZipResourceIteratorFactory();
+    private final ResourceIteratorFactory zipResourceIteratorFactory;
     private final ResourceIteratorFactory fileResourceIteratorFactory = new FileResourceIteratorFactory();
 
+    public ZipThenFileResourceIteratorFactory() {
+        this(new ZipIndexes());
+    }
+
+    /**
+     * @param zipIndexes where to open the zip files
+     */
+    public ZipThenFileResourceIteratorFactory(ZipIndexes zipIndexes) {
+        zipResourceIteratorFactory = new ZipResourceIteratorFactory(zipIndexes);
+    }
+
     @Override
     public boolean isFactoryFor(URL url) {
         return zipResourceIteratorFactory.isFactoryFor(url) || fileResourceIteratorFactory.isFactoryFor(url);
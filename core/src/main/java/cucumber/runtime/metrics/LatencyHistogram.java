@@ -0,0 +1,155 @@
+package cucumber.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A histogram of durations in nanoseconds, bucketed the way HdrHistogram does it: every power of two is split into
+ * the same number of linear sub buckets, so each recorded value is off by less than 1% whatever its magnitude.
+ * <p/>
+ * The buckets of a power of two are only allocated once a value of that magnitude is recorded, so a histogram
+ * of durations that stay within a few orders of magnitude takes a few kilobytes. Recording is lock free and may be
+ * done from several threads while the histogram is read.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    // Values below SUB_BUCKET_COUNT are counted exactly in the first segment, every larger power of two has its own.
+    private static final int SEGMENT_COUNT = 64 - SUB_BUCKET_BITS + 1;
+
+    private final AtomicReferenceArray<AtomicLongArray> segments = new AtomicReferenceArray<AtomicLongArray>(SEGMENT_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param nanos the duration to record. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int segment = segment(value);
+        segment(segment).incrementAndGet(subBucket(value, segment));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        updateMin(value);
+        updateMax(value);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the sum of all recorded durations in nanoseconds.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * @return the shortest recorded duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * @return the longest recorded duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return getCount() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * @return the average duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * @param percentile between 0 and 100.
+     * @return the duration in nanoseconds that the given percentage of the recorded durations don't exceed,
+     * or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        // Rounded the way HdrHistogram does it, so that 99.9 of 1000 is the 999th value
+        long target = Math.max(1, (long) (percentile / 100 * total + 0.5));
+        long seen = 0;
+        for (int segment = 0; segment < SEGMENT_COUNT; segment++) {
+            AtomicLongArray counts = segments.get(segment);
+            if (counts == null) {
+                continue;
+            }
+            for (int subBucket = 0; subBucket < counts.length(); subBucket++) {
+                seen += counts.get(subBucket);
+                if (seen >= target) {
+                    return Math.min(highestValue(segment, subBucket), getMax());
+                }
+            }
+        }
+        // Values were recorded while we were counting
+        return getMax();
+    }
+
+    private AtomicLongArray segment(int segment) {
+        AtomicLongArray counts = segments.get(segment);
+        if (counts == null) {
+            segments.compareAndSet(segment, null, new AtomicLongArray(segment == 0 ? SUB_BUCKET_COUNT : HALF_SUB_BUCKET_COUNT));
+            counts = segments.get(segment);
+        }
+        return counts;
+    }
+
+    private static int segment(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        return exponent - SUB_BUCKET_BITS + 1;
+    }
+
+    private static int subBucket(long value, int segment) {
+        if (segment == 0) {
+            return (int) value;
+        }
+        return (int) (value >>> segment) - HALF_SUB_BUCKET_COUNT;
+    }
+
+    private static long highestValue(int segment, int subBucket) {
+        if (segment == 0) {
+            return subBucket;
+        }
+        long lowest = (long) (subBucket + HALF_SUB_BUCKET_COUNT) << segment;
+        return lowest + (1L << segment) - 1;
+    }
+
+    private void updateMin(long value) {
+        long current;
+        while (value < (current = min.get())) {
+            if (min.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+
+    private void updateMax(long value) {
+        long current;
+        while (value > (current = max.get())) {
+            if (max.compareAndSet(current, value)) {
+                return;
+            }
+        }
+    }
+}
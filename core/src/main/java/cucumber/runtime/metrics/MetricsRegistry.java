@@ -0,0 +1,223 @@
+package cucumber.runtime.metrics;
+
+import cucumber.runtime.Timeout;
+import gherkin.deps.com.google.gson.GsonBuilder;
+import gherkin.formatter.model.Result;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a {@link LatencyHistogram} of durations per step definition pattern and per hook location, counts steps by
+ * status, and keeps how calls with a timeout did. Everything can be recorded from several threads, and exported as
+ * JSON or in the Prometheus text format at any time.
+ */
+public class MetricsRegistry {
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1000000000);
+    private static final String[] QUANTILES = {"0.5", "0.9", "0.99", "0.999"};
+    private static final String[] COUNTED_STATUSES = {Result.PASSED, Result.FAILED, Result.SKIPPED.getStatus(), "pending", Result.UNDEFINED.getStatus()};
+
+    private final ConcurrentMap<String, LatencyHistogram> stepHistograms = new ConcurrentHashMap<String, LatencyHistogram>();
+    private final ConcurrentMap<String, LatencyHistogram> hookHistograms = new ConcurrentHashMap<String, LatencyHistogram>();
+    private final ConcurrentMap<String, AtomicLong> stepCounts = new ConcurrentHashMap<String, AtomicLong>();
+    private volatile Timeout.Statistics timeouts;
+
+    public MetricsRegistry() {
+        for (String status : COUNTED_STATUSES) {
+            stepCounts.put(status, new AtomicLong());
+        }
+    }
+
+    /**
+     * @param pattern  the pattern of the step definition that ran the step.
+     * @param status   the status of the step.
+     * @param duration the duration in nanoseconds, or null if the step didn't run.
+     */
+    public void recordStep(String pattern, String status, Long duration) {
+        countStep(status);
+        if (duration != null) {
+            histogram(stepHistograms, pattern).record(duration);
+        }
+    }
+
+    /**
+     * Counts a step that no step definition matched.
+     */
+    public void recordUndefinedStep() {
+        countStep(Result.UNDEFINED.getStatus());
+    }
+
+    /**
+     * @param location the location of the hook.
+     * @param duration the duration in nanoseconds, or null if the hook didn't run.
+     */
+    public void recordHook(String location, Long duration) {
+        if (duration != null) {
+            histogram(hookHistograms, location).record(duration);
+        }
+    }
+
+    /**
+     * @param timeouts how the calls with a timeout did, replacing what was recorded before.
+     */
+    public void recordTimeouts(Timeout.Statistics timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    /**
+     * @return how the calls with a timeout did, or null if that wasn't recorded.
+     */
+    public Timeout.Statistics getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * @return the histogram of the step definition with the given pattern, or null if none of its steps ran.
+     */
+    public LatencyHistogram getStepHistogram(String pattern) {
+        return stepHistograms.get(pattern);
+    }
+
+    /**
+     * @return the histogram of the hook at the given location, or null if it never ran.
+     */
+    public LatencyHistogram getHookHistogram(String location) {
+        return hookHistograms.get(location);
+    }
+
+    public long getStepCount(String status) {
+        AtomicLong count = stepCounts.get(status);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * @return the counters and histograms as JSON, with durations in seconds.
+     */
+    public String toJson() {
+        Map<String, Object> json = new LinkedHashMap<String, Object>();
+        json.put("steps", stepCounts());
+        json.put("stepDefinitions", histogramsAsJson(stepHistograms));
+        json.put("hooks", histogramsAsJson(hookHistograms));
+        Timeout.Statistics timeouts = this.timeouts;
+        if (timeouts != null) {
+            Map<String, Object> timeoutsJson = new LinkedHashMap<String, Object>();
+            timeoutsJson.put("timedCalls", timeouts.getTimedCalls());
+            timeoutsJson.put("timeouts", timeouts.getTimeouts());
+            timeoutsJson.put("nearMisses", timeouts.getNearMisses());
+            timeoutsJson.put("maxFractionUsed", timeouts.getMaxFractionUsed());
+            json.put("timeouts", timeoutsJson);
+        }
+        return new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(json);
+    }
+
+    /**
+     * @return the counters and histograms in the Prometheus text exposition format. Histograms are exported as
+     * summaries, with durations in seconds.
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP cucumber_steps_total Steps by status.\n");
+        out.append("# TYPE cucumber_steps_total counter\n");
+        for (Map.Entry<String, Long> count : stepCounts().entrySet()) {
+            out.append("cucumber_steps_total{status=\"").append(escape(count.getKey())).append("\"} ").append(count.getValue()).append('\n');
+        }
+        appendSummary(out, "cucumber_step_duration_seconds", "Durations of steps by step definition pattern.", "pattern", stepHistograms);
+        appendSummary(out, "cucumber_hook_duration_seconds", "Durations of hooks by location.", "location", hookHistograms);
+        Timeout.Statistics timeouts = this.timeouts;
+        if (timeouts != null) {
+            appendMetric(out, "cucumber_timed_calls_total", "counter", "Steps and hooks run with a timeout.", timeouts.getTimedCalls());
+            appendMetric(out, "cucumber_timeouts_total", "counter", "Steps and hooks interrupted by their timeout.", timeouts.getTimeouts());
+            appendMetric(out, "cucumber_timeout_near_misses_total", "counter", "Steps and hooks that finished in time, but used at least 80% of their timeout.", timeouts.getNearMisses());
+            appendMetric(out, "cucumber_timeout_max_fraction_used", "gauge", "The largest part of its timeout a step or hook used and still finished in time.", timeouts.getMaxFractionUsed());
+        }
+        return out.toString();
+    }
+
+    private SortedMap<String, Long> stepCounts() {
+        SortedMap<String, Long> counts = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> count : stepCounts.entrySet()) {
+            counts.put(count.getKey(), count.getValue().get());
+        }
+        return counts;
+    }
+
+    private void countStep(String status) {
+        AtomicLong count = stepCounts.get(status);
+        if (count == null) {
+            stepCounts.putIfAbsent(status, new AtomicLong());
+            count = stepCounts.get(status);
+        }
+        count.incrementAndGet();
+    }
+
+    private static LatencyHistogram histogram(ConcurrentMap<String, LatencyHistogram> histograms, String key) {
+        LatencyHistogram histogram = histograms.get(key);
+        if (histogram == null) {
+            histograms.putIfAbsent(key, new LatencyHistogram());
+            histogram = histograms.get(key);
+        }
+        return histogram;
+    }
+
+    private static Map<String, Object> histogramsAsJson(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> json = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, LatencyHistogram> entry : sorted(histograms).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> values = new LinkedHashMap<String, Object>();
+            values.put("count", histogram.getCount());
+            values.put("sum", seconds(histogram.getSum()));
+            values.put("min", seconds(histogram.getMin()));
+            values.put("mean", seconds((long) histogram.getMean()));
+            for (String quantile : QUANTILES) {
+                values.put("p" + percentile(quantile).toPlainString().replace(".", ""), seconds(histogram.getValueAtPercentile(percentile(quantile).doubleValue())));
+            }
+            values.put("max", seconds(histogram.getMax()));
+            json.put(entry.getKey(), values);
+        }
+        return json;
+    }
+
+    private static void appendSummary(StringBuilder out, String name, String help, String label, Map<String, LatencyHistogram> histograms) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" summary\n");
+        for (Map.Entry<String, LatencyHistogram> entry : sorted(histograms).entrySet()) {
+            String labelPair = label + "=\"" + escape(entry.getKey()) + "\"";
+            LatencyHistogram histogram = entry.getValue();
+            for (String quantile : QUANTILES) {
+                out.append(name).append('{').append(labelPair).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.getValueAtPercentile(percentile(quantile).doubleValue())).toPlainString()).append('\n');
+            }
+            out.append(name).append("_sum{").append(labelPair).append("} ").append(seconds(histogram.getSum()).toPlainString()).append('\n');
+            out.append(name).append("_count{").append(labelPair).append("} ").append(histogram.getCount()).append('\n');
+        }
+    }
+
+    private static void appendMetric(StringBuilder out, String name, String type, String help, Object value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static BigDecimal percentile(String quantile) {
+        // 0.999 -> 99.9
+        return new BigDecimal(quantile).movePointRight(2);
+    }
+
+    private static BigDecimal seconds(long nanos) {
+        return BigDecimal.valueOf(nanos).divide(NANOS_PER_SECOND);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static <V> SortedMap<String, V> sorted(Map<String, V> map) {
+        return new TreeMap<String, V>(map);
+    }
+}
@@ -1,6 +1,7 @@
 package cucumber.runtime.model;
 
 import cucumber.runtime.FeatureBuilder;
+import cucumber.runtime.FeatureCache;
 import cucumber.runtime.Runtime;
 import cucumber.runtime.UndefinedStepsTracker;
 import cucumber.runtime.io.MultiLoader;
@@ -21,6 +22,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CucumberFeature {
     private final String path;
@@ -32,9 +37,26 @@ public class CucumberFeature {
     private CucumberScenarioOutline currentScenarioOutline;
 
     public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, final List<Object> filters, PrintStream out) {
-        final List<CucumberFeature> cucumberFeatures = load(resourceLoader, featurePaths, filters);
+        return load(resourceLoader, featurePaths, filters, out, null);
+    }
+
+    public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, final List<Object> filters, PrintStream out, FeatureCache featureCache) {
+        return load(resourceLoader, featurePaths, filters, out, featureCache, null);
+    }
+
+    /**
+     * @param shard the shard whose scenarios to keep, or null to keep them all.
+     */
+    public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, final List<Object> filters, PrintStream out, FeatureCache featureCache, Shard shard) {
+        final List<CucumberFeature> cucumberFeatures = load(resourceLoader, featurePaths, filters, featureCache);
+        boolean foundFeatures = !cucumberFeatures.isEmpty();
+        if (shard != null) {
+            shard.retainOwnScenarios(cucumberFeatures);
+        }
         if (cucumberFeatures.isEmpty()) {
-            if (featurePaths.isEmpty()) {
+            if (foundFeatures) {
+                out.println(String.format("None of the scenarios at %s are in shard %s", featurePaths, shard));
+            } else if (featurePaths.isEmpty()) {
                 out.println(String.format("Got no path to feature directory or feature file"));
             } else if (filters.isEmpty()) {
                 out.println(String.format("No features found at %s", featurePaths));
@@ -46,39 +68,61 @@ public class CucumberFeature {
     }
 
     public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, final List<Object> filters) {
+        return load(resourceLoader, featurePaths, filters, (FeatureCache) null);
+    }
+
+    private static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, final List<Object> filters, FeatureCache featureCache) {
         final List<CucumberFeature> cucumberFeatures = new ArrayList<CucumberFeature>();
-        final FeatureBuilder builder = new FeatureBuilder(cucumberFeatures);
+        final FeatureBuilder builder = new FeatureBuilder(cucumberFeatures, featureCache);
+        final FeatureResources featureResources = new FeatureResources();
         for (String featurePath : featurePaths) {
             if (featurePath.startsWith("@")) {
-                loadFromRerunFile(builder, resourceLoader, featurePath.substring(1), filters);
+                loadFromRerunFile(builder, featureResources, resourceLoader, featurePath.substring(1), filters);
             } else {
-                loadFromFeaturePath(builder, resourceLoader, featurePath, filters, false);
+                loadFromFeaturePath(featureResources, resourceLoader, featurePath, filters, false);
             }
         }
+        parse(builder, featureResources);
         Collections.sort(cucumberFeatures, new CucumberFeatureUriComparator());
         return cucumberFeatures;
     }
 
-    private static void loadFromRerunFile(FeatureBuilder builder, ResourceLoader resourceLoader, String rerunPath, final List<Object> filters) {
+    private static void parse(FeatureBuilder builder, FeatureResources featureResources) {
+        int threads = Math.min(java.lang.Runtime.getRuntime().availableProcessors(), featureResources.resources.size());
+        if (threads < 2) {
+            for (int i = 0; i < featureResources.resources.size(); i++) {
+                builder.parse(featureResources.resources.get(i), featureResources.filters.get(i));
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ParserThreadFactory());
+        try {
+            builder.parse(featureResources.resources, featureResources.filters, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void loadFromRerunFile(FeatureBuilder builder, FeatureResources featureResources, ResourceLoader resourceLoader, String rerunPath, final List<Object> filters) {
         Iterable<Resource> resources = resourceLoader.resources(rerunPath, null);
         for (Resource resource : resources) {
             String source = builder.read(resource);
             if (!source.isEmpty()) {
                 for (String featurePath : source.split(" ")) {
-                    loadFromFileSystemOrClasspath(builder, resourceLoader, featurePath, filters);
+                    loadFromFileSystemOrClasspath(featureResources, resourceLoader, featurePath, filters);
                 }
             }
         }
     }
 
-    private static void loadFromFileSystemOrClasspath(FeatureBuilder builder, ResourceLoader resourceLoader, String featurePath, final List<Object> filters) {
+    private static void loadFromFileSystemOrClasspath(FeatureResources featureResources, ResourceLoader resourceLoader, String featurePath, final List<Object> filters) {
         try {
-            loadFromFeaturePath(builder, resourceLoader, featurePath, filters, false);
+            loadFromFeaturePath(featureResources, resourceLoader, featurePath, filters, false);
         } catch (IllegalArgumentException originalException) {
             if (!featurePath.startsWith(MultiLoader.CLASSPATH_SCHEME) &&
                     originalException.getMessage().contains("Not a file or directory")) {
                 try {
-                    loadFromFeaturePath(builder, resourceLoader, MultiLoader.CLASSPATH_SCHEME + featurePath, filters, true);
+                    loadFromFeaturePath(featureResources, resourceLoader, MultiLoader.CLASSPATH_SCHEME + featurePath, filters, true);
                 } catch (IllegalArgumentException secondException) {
                     if (secondException.getMessage().contains("No resource found for")) {
                         throw new IllegalArgumentException("Neither found on file system or on classpath: " +
@@ -93,7 +137,7 @@ public class CucumberFeature {
         }
     }
 
-    private static void loadFromFeaturePath(FeatureBuilder builder, ResourceLoader resourceLoader, String featurePath, final List<Object> filters, boolean failOnNoResource) {
+    private static void loadFromFeaturePath(FeatureResources featureResources, ResourceLoader resourceLoader, String featurePath, final List<Object> filters, boolean failOnNoResource) {
         PathWithLines pathWithLines = new PathWithLines(featurePath);
         ArrayList<Object> filtersForPath = new ArrayList<Object>(filters);
         filtersForPath.addAll(pathWithLines.lines);
@@ -102,7 +146,7 @@ public class CucumberFeature {
             throw new IllegalArgumentException("No resource found for: " + pathWithLines.path);
         }
         for (Resource resource : resources) {
-            builder.parse(resource, filtersForPath);
+            featureResources.add(resource, filtersForPath);
         }
     }
 
@@ -160,15 +204,38 @@ public class CucumberFeature {
     public RunResult run(Formatter formatter, Reporter reporter, Runtime runtime, UndefinedStepsTracker tracker) {
         formatter.uri(getPath());
         formatter.feature(getGherkinFeature());
-        RunResult result = RunResult.IDENTITY;
+        RunResultAccumulator result = new RunResultAccumulator();
 
         for (CucumberTagStatement cucumberTagStatement : getFeatureElements()) {
             //Run the scenario, it should handle before and after hooks
-            final RunResult runResult = cucumberTagStatement.run(formatter, reporter, runtime, tracker);
-            result = RunResult.append(result, runResult);
+            result.add(cucumberTagStatement.run(formatter, reporter, runtime, tracker));
         }
         formatter.eof();
-        return result;
+        return result.toRunResult();
+    }
+
+    /**
+     * The resources to parse, in the order they were found, with the filters for each.
+     */
+    private static class FeatureResources {
+        private final List<Resource> resources = new ArrayList<Resource>();
+        private final List<List<Object>> filters = new ArrayList<List<Object>>();
+
+        void add(Resource resource, List<Object> filtersForResource) {
+            resources.add(resource);
+            filters.add(filtersForResource);
+        }
+    }
+
+    private static class ParserThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cucumber-parser-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 
     private static class CucumberFeatureUriComparator implements Comparator<CucumberFeature> {
@@ -2,7 +2,6 @@ package cucumber.runtime.model;
 
 import cucumber.runtime.Runtime;
 import cucumber.runtime.ScenarioImpl;
-import cucumber.runtime.Stats;
 import cucumber.runtime.UndefinedStepsTracker;
 import gherkin.formatter.Formatter;
 import gherkin.formatter.Reporter;
@@ -10,7 +9,6 @@ import gherkin.formatter.model.Row;
 import gherkin.formatter.model.Scenario;
 import gherkin.formatter.model.Tag;
 
-import java.util.Collections;
 import java.util.Set;
 
 public class CucumberScenario extends CucumberTagStatement {
@@ -43,30 +41,29 @@ public class CucumberScenario extends CucumberTagStatement {
         tracker.reset();
         formatter.startOfScenarioLifeCycle((Scenario) getGherkinModel());
 
-        RunResult aggregatedRunResult = new RunResult(new Stats(), Collections.<Throwable>emptyList());
+        RunResultAccumulator aggregatedRunResult = new RunResultAccumulator();
 
         final Runtime.RunStepResult beforeHookResult = runtime.runBeforeHooks(scenarioResult, reporter, tags);
-        aggregatedRunResult = RunResult.append(aggregatedRunResult, beforeHookResult.runResult);
+        aggregatedRunResult.add(beforeHookResult.runResult);
         boolean skipNext = beforeHookResult.skipNext;
 
         final Runtime.RunStepResult backgroundResult = runBackground(scenarioResult, formatter, reporter, runtime, tracker, skipNext);
         skipNext = backgroundResult.skipNext;
-        aggregatedRunResult = RunResult.append(aggregatedRunResult, backgroundResult.runResult);
+        aggregatedRunResult.add(backgroundResult.runResult);
 
         format(formatter);
         final Runtime.RunStepResult runStepResult = runSteps(scenarioResult, tracker, reporter, runtime, skipNext);
-        aggregatedRunResult = RunResult.append(aggregatedRunResult, runStepResult.runResult);
+        aggregatedRunResult.add(runStepResult.runResult);
 
         final Runtime.RunStepResult runAfterHooksResult = runtime.runAfterHooks(scenarioResult, reporter, tags);
-        aggregatedRunResult = RunResult.append(aggregatedRunResult, runAfterHooksResult.runResult);
+        aggregatedRunResult.add(runAfterHooksResult.runResult);
 
         formatter.endOfScenarioLifeCycle((Scenario) getGherkinModel());
         runtime.disposeBackendWorlds();
 
-        // TODO this mutates the state
-        aggregatedRunResult.stats.addScenario(scenarioResult.getStatus(), createScenarioDesignation());
-
-        return aggregatedRunResult;
+        RunResult runResult = aggregatedRunResult.toRunResult();
+        runResult.stats.addScenario(scenarioResult.getStatus(), createScenarioDesignation());
+        return runResult;
     }
 
     private String createScenarioDesignation() {
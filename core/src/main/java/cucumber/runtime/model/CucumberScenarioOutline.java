@@ -39,17 +39,16 @@ public class CucumberScenarioOutline extends CucumberTagStatement {
 
     @Override
     public RunResult run(Formatter formatter, Reporter reporter, Runtime runtime, UndefinedStepsTracker tracker) {
-        RunResult runResult = RunResult.IDENTITY;
+        RunResultAccumulator runResult = new RunResultAccumulator();
         formatOutlineScenario(formatter);
         for (CucumberExamples cucumberExamples : cucumberExamplesList) {
             cucumberExamples.format(formatter);
             List<CucumberScenario> exampleScenarios = cucumberExamples.createExampleScenarios();
             for (CucumberScenario exampleScenario : exampleScenarios) {
-                final RunResult exampleScenarioRunResult = exampleScenario.run(formatter, reporter, runtime, tracker);
-                runResult = RunResult.append(runResult, exampleScenarioRunResult);
+                runResult.add(exampleScenario.run(formatter, reporter, runtime, tracker));
             }
         }
-        return runResult;
+        return runResult.toRunResult();
     }
 
     public void formatOutlineScenario(Formatter formatter) {
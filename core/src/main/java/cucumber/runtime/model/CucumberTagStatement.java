@@ -1,5 +1,6 @@
 package cucumber.runtime.model;
 
+import cucumber.runtime.InternedTags;
 import cucumber.runtime.Runtime;
 import cucumber.runtime.UndefinedStepsTracker;
 import gherkin.formatter.Formatter;
@@ -8,7 +9,8 @@ import gherkin.formatter.model.Row;
 import gherkin.formatter.model.Tag;
 import gherkin.formatter.model.TagStatement;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static gherkin.util.FixJava.join;
@@ -16,24 +18,33 @@ import static gherkin.util.FixJava.join;
 public abstract class CucumberTagStatement extends StepContainer {
     private final TagStatement gherkinModel;
     private final String visualName;
+    private final InternedTags tagsAndInheritedTags;
 
     CucumberTagStatement(CucumberFeature cucumberFeature, TagStatement gherkinModel) {
         super(cucumberFeature, gherkinModel);
         this.gherkinModel = gherkinModel;
         this.visualName = gherkinModel.getKeyword() + ": " + gherkinModel.getName();
+        this.tagsAndInheritedTags = internTags(cucumberFeature, gherkinModel);
     }
 
     CucumberTagStatement(CucumberFeature cucumberFeature, TagStatement gherkinModel, Row example) {
         super(cucumberFeature, gherkinModel);
         this.gherkinModel = gherkinModel;
         this.visualName = "| " + join(example.getCells(), " | ") + " |";
+        this.tagsAndInheritedTags = internTags(cucumberFeature, gherkinModel);
     }
 
-    protected Set<Tag> tagsAndInheritedTags() {
-        Set<Tag> tags = new HashSet<Tag>();
-        tags.addAll(cucumberFeature.getGherkinFeature().getTags());
+    private static InternedTags internTags(CucumberFeature cucumberFeature, TagStatement gherkinModel) {
+        List<Tag> tags = new ArrayList<Tag>();
+        if (cucumberFeature != null) {
+            tags.addAll(cucumberFeature.getGherkinFeature().getTags());
+        }
         tags.addAll(gherkinModel.getTags());
-        return tags;
+        return new InternedTags(tags);
+    }
+
+    protected Set<Tag> tagsAndInheritedTags() {
+        return tagsAndInheritedTags;
     }
 
     public String getVisualName() {
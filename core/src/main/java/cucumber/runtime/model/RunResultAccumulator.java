@@ -0,0 +1,33 @@
+package cucumber.runtime.model;
+
+import cucumber.runtime.StatsAccumulator;
+
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Adds up {@link RunResult}s in place, in time proportional to what is added. Use it instead of
+ * {@link RunResult#append(RunResult, RunResult)} to add up the results of many steps or scenarios.
+ * <p/>
+ * Results may be added from several threads at the same time. Results added from one thread keep their order.
+ */
+public class RunResultAccumulator {
+    private final StatsAccumulator stats = new StatsAccumulator();
+    private final Queue<Throwable> errors = new ConcurrentLinkedQueue<Throwable>();
+
+    public void add(RunResult runResult) {
+        stats.add(runResult.stats);
+        if (!runResult.errors.isEmpty()) {
+            errors.addAll(runResult.errors);
+        }
+    }
+
+    /**
+     * @return a new result with everything added so far.
+     * @see StatsAccumulator#toStats()
+     */
+    public RunResult toRunResult() {
+        return new RunResult(stats.toStats(), new ArrayList<Throwable>(errors));
+    }
+}
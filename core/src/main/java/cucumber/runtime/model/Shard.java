@@ -0,0 +1,128 @@
+package cucumber.runtime.model;
+
+import cucumber.runtime.CucumberException;
+import gherkin.formatter.model.ExamplesTableRow;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One of N slices of the scenarios, so that a suite can be split between N machines that each run their own slice.
+ * <p/>
+ * Every machine loads all the features, with the same paths and filters. Their scenarios, and the rows of their
+ * scenario outlines' examples, are then dealt out round-robin in the order the features were loaded: sorted by path,
+ * and in the order they are written in each feature. A machine only keeps the scenarios and rows dealt to its own
+ * shard, so every one of them runs on exactly one machine, and shards differ in size by one scenario at most.
+ */
+public class Shard {
+    private static final Pattern SHARD_PATTERN = Pattern.compile("^(\\d+)/(\\d+)$");
+
+    private final int index;
+    private final int total;
+
+    /**
+     * @param index the shard, from 1 to total.
+     * @param total the number of shards.
+     */
+    public Shard(int index, int total) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new CucumberException("A shard must be i/N, with i from 1 to N: " + index + "/" + total);
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * @param shard a shard like {@code 3/16}.
+     */
+    public static Shard parse(String shard) {
+        Matcher matcher = SHARD_PATTERN.matcher(shard.trim());
+        if (!matcher.matches()) {
+            throw new CucumberException("A shard must be i/N, with i from 1 to N: " + shard);
+        }
+        try {
+            return new Shard(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        } catch (NumberFormatException e) {
+            throw new CucumberException("A shard must be i/N, with i from 1 to N: " + shard);
+        }
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Removes the scenarios and example rows of other shards from the features, and then the examples, scenario
+     * outlines and features that have nothing left to run.
+     *
+     * @param cucumberFeatures all the loaded features, in the order they were loaded.
+     */
+    void retainOwnScenarios(List<CucumberFeature> cucumberFeatures) {
+        Dealer dealer = new Dealer();
+        Iterator<CucumberFeature> features = cucumberFeatures.iterator();
+        while (features.hasNext()) {
+            CucumberFeature cucumberFeature = features.next();
+            Iterator<CucumberTagStatement> tagStatements = cucumberFeature.getFeatureElements().iterator();
+            while (tagStatements.hasNext()) {
+                CucumberTagStatement cucumberTagStatement = tagStatements.next();
+                boolean isOwn;
+                if (cucumberTagStatement instanceof CucumberScenarioOutline) {
+                    isOwn = retainOwnExamples((CucumberScenarioOutline) cucumberTagStatement, dealer);
+                } else {
+                    isOwn = dealer.isOwn();
+                }
+                if (!isOwn) {
+                    tagStatements.remove();
+                }
+            }
+            if (cucumberFeature.getFeatureElements().isEmpty()) {
+                features.remove();
+            }
+        }
+    }
+
+    private boolean retainOwnExamples(CucumberScenarioOutline cucumberScenarioOutline, Dealer dealer) {
+        Iterator<CucumberExamples> examplesIterator = cucumberScenarioOutline.getCucumberExamplesList().iterator();
+        while (examplesIterator.hasNext()) {
+            CucumberExamples cucumberExamples = examplesIterator.next();
+            List<ExamplesTableRow> rows = cucumberExamples.getExamples().getRows();
+            List<ExamplesTableRow> ownRows = new ArrayList<ExamplesTableRow>();
+            // The first row is the header
+            ownRows.add(rows.get(0));
+            for (ExamplesTableRow row : rows.subList(1, rows.size())) {
+                if (dealer.isOwn()) {
+                    ownRows.add(row);
+                }
+            }
+            if (ownRows.size() > 1) {
+                cucumberExamples.getExamples().setRows(ownRows);
+            } else {
+                examplesIterator.remove();
+            }
+        }
+        return !cucumberScenarioOutline.getCucumberExamplesList().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + total;
+    }
+
+    /**
+     * Deals scenarios to the shards, one after the other.
+     */
+    private class Dealer {
+        private int dealt = 0;
+
+        boolean isOwn() {
+            return dealt++ % total == index - 1;
+        }
+    }
+}
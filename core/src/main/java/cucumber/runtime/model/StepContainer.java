@@ -38,15 +38,15 @@ public class StepContainer {
 
     Runtime.RunStepResult runSteps(ScenarioImpl scenarioResult, UndefinedStepsTracker tracker,  Reporter reporter, Runtime runtime, boolean skip) {
         boolean skipNext = skip;
-        RunResult accumulatedRunResult = RunResult.IDENTITY;
+        RunResultAccumulator accumulatedRunResult = new RunResultAccumulator();
         for (Step step : getSteps()) {
             final Runtime.RunStepResult runStepResult = runStep(scenarioResult, tracker, step, reporter, runtime, skipNext);
-            accumulatedRunResult = RunResult.append(accumulatedRunResult, runStepResult.runResult);
+            accumulatedRunResult.add(runStepResult.runResult);
             if (runStepResult.skipNext) {
                 skipNext = true;
             }
         }
-        return new Runtime.RunStepResult(skipNext, accumulatedRunResult);
+        return new Runtime.RunStepResult(skipNext, accumulatedRunResult.toRunResult());
     }
 
     Runtime.RunStepResult runStep(ScenarioImpl scenarioResult, UndefinedStepsTracker tracker, Step step, Reporter reporter, Runtime runtime, boolean skip) {
@@ -0,0 +1,108 @@
+package cucumber.runtime.table;
+
+import cucumber.runtime.CucumberException;
+import gherkin.formatter.model.Row;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The cells of a table, kept in one array per column.
+ * <p/>
+ * The cells are copied out of the rows once. Rows, sub tables and the transposed table are views of the same
+ * arrays, so they cost no copies, and a table of any size takes one object per column rather than several per row.
+ */
+public class ColumnarCells {
+    private final String[][] columns;
+    private final int rowCount;
+    private final boolean transposed;
+
+    /**
+     * @param rows the rows, which must all have the same number of cells
+     * @throws CucumberException if the rows have different numbers of cells
+     */
+    public static ColumnarCells fromRows(List<? extends Row> rows) {
+        int rowCount = rows.size();
+        int columnCount = rows.isEmpty() ? 0 : rows.get(0).getCells().size();
+        String[][] columns = new String[columnCount][rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            List<String> cells = rows.get(r).getCells();
+            if (cells.size() != columnCount) {
+                throw new CucumberException(String.format("Table is unbalanced: expected %s column(s) but found %s.", columnCount, cells.size()));
+            }
+            for (int c = 0; c < columnCount; c++) {
+                columns[c][r] = cells.get(c);
+            }
+        }
+        return new ColumnarCells(columns, rowCount, false);
+    }
+
+    private ColumnarCells(String[][] columns, int rowCount, boolean transposed) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.transposed = transposed;
+    }
+
+    public int rowCount() {
+        return transposed ? columns.length : rowCount;
+    }
+
+    public int columnCount() {
+        return transposed ? rowCount : columns.length;
+    }
+
+    public String get(int row, int column) {
+        return transposed ? columns[row][column] : columns[column][row];
+    }
+
+    /**
+     * @return the same cells, with rows and columns swapped.
+     */
+    public ColumnarCells transpose() {
+        return new ColumnarCells(columns, rowCount, !transposed);
+    }
+
+    /**
+     * @return an unmodifiable view of the rows.
+     */
+    public List<List<String>> rows() {
+        return new Rows();
+    }
+
+    private class Rows extends AbstractList<List<String>> implements RandomAccess {
+        @Override
+        public List<String> get(int row) {
+            if (row < 0 || row >= rowCount()) {
+                throw new IndexOutOfBoundsException("Row: " + row + ", rows: " + rowCount());
+            }
+            return new RowView(row);
+        }
+
+        @Override
+        public int size() {
+            return rowCount();
+        }
+    }
+
+    private class RowView extends AbstractList<String> implements RandomAccess {
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(int column) {
+            if (column < 0 || column >= columnCount()) {
+                throw new IndexOutOfBoundsException("Column: " + column + ", columns: " + columnCount());
+            }
+            return ColumnarCells.this.get(row, column);
+        }
+
+        @Override
+        public int size() {
+            return columnCount();
+        }
+    }
+}
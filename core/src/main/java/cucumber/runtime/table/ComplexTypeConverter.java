@@ -0,0 +1,25 @@
+package cucumber.runtime.table;
+
+import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.xstream.LocalizedXStreams;
+
+import java.util.List;
+
+/**
+ * Converts the rows of a table to objects, one object per row and one field per column. The fields are named
+ * after the header row.
+ * <p/>
+ * The converter is chosen with the {@code --table-converter} option. Whatever it can't convert is converted by
+ * XStream, which is also the default.
+ */
+public interface ComplexTypeConverter {
+    /**
+     * @param itemType      the type of the objects to create
+     * @param fieldNames    the field each column goes into
+     * @param rows          the rows to convert, without the header row
+     * @param xStream       converts the cells to the types of the fields
+     * @param parameterInfo the step definition parameter the table is converted for, or null
+     * @return the objects, or null to leave the conversion to XStream.
+     */
+    <T> List<T> toList(Class<T> itemType, List<String> fieldNames, List<List<String>> rows, LocalizedXStreams.LocalizedXStream xStream, ParameterInfo parameterInfo);
+}
@@ -98,7 +98,16 @@ public class TableConverter {
     }
 
     private <T> List<T> toListOfComplexType(DataTable dataTable, Class<T> itemType) {
-        HierarchicalStreamReader reader = new ListOfComplexTypeReader(itemType, convertTopCellsToFieldNames(dataTable), dataTable.cells(1));
+        List<String> fieldNames = convertTopCellsToFieldNames(dataTable);
+        ComplexTypeConverter complexTypeConverter = xStream.getComplexTypeConverter();
+        if (complexTypeConverter != null) {
+            List<T> items = complexTypeConverter.toList(itemType, fieldNames, dataTable.cells(1), xStream, parameterInfo);
+            if (items != null) {
+                return Collections.unmodifiableList(items);
+            }
+        }
+
+        HierarchicalStreamReader reader = new ListOfComplexTypeReader(itemType, fieldNames, dataTable.cells(1));
         try {
             xStream.setParameterInfo(parameterInfo);
             return Collections.unmodifiableList((List<T>) xStream.unmarshal(reader));
@@ -131,9 +140,10 @@ public class TableConverter {
     }
 
     private <T> List<T> toList(DataTable dataTable, SingleValueConverter itemConverter) {
-        List<T> result = new ArrayList<T>();
+        List<List<String>> raw = dataTable.raw();
+        List<T> result = new ArrayList<T>(raw.isEmpty() ? 0 : raw.size() * raw.get(0).size());
 
-        for (List<String> row : dataTable.raw()) {
+        for (List<String> row : raw) {
             for (String cell : row) {
                 result.add((T) itemConverter.fromString(cell));
             }
@@ -149,9 +159,10 @@ public class TableConverter {
                 throw new CucumberException(String.format("Can't convert DataTable to List<List<%s>>", itemType));
             }
 
-            List<List<T>> result = new ArrayList<List<T>>();
-            for (List<String> row : dataTable.raw()) {
-                List<T> convertedRow = new ArrayList<T>();
+            List<List<String>> raw = dataTable.raw();
+            List<List<T>> result = new ArrayList<List<T>>(raw.size());
+            for (List<String> row : raw) {
+                List<T> convertedRow = new ArrayList<T>(row.size());
                 for (String cell : row) {
                     convertedRow.add((T) itemConverter.fromString(cell));
                 }
@@ -8,7 +8,18 @@ public class TableDiffException extends RuntimeException {
     private final DataTable diff;
 
     public TableDiffException(DataTable from, DataTable to, DataTable diff) {
-        super("Tables were not identical:\n" + diff.toString());
+        this(from, to, diff, "Tables were not identical:\n");
+    }
+
+    /**
+     * @param maxDiffs how many differences the diff was limited to. The diff ends after the last of them.
+     */
+    public TableDiffException(DataTable from, DataTable to, DataTable diff, int maxDiffs) {
+        this(from, to, diff, String.format("Tables were not identical (showing up to %s difference(s)):\n", maxDiffs));
+    }
+
+    private TableDiffException(DataTable from, DataTable to, DataTable diff, String heading) {
+        super(heading + diff.toString());
         this.from = from;
         this.to = to;
         this.diff = diff;
@@ -4,6 +4,7 @@ import cucumber.api.DataTable;
 import cucumber.deps.difflib.Delta;
 import cucumber.deps.difflib.DiffUtils;
 import cucumber.deps.difflib.Patch;
+import gherkin.formatter.model.Comment;
 import gherkin.formatter.model.DataTableRow;
 import gherkin.formatter.model.Row;
 
@@ -17,11 +18,25 @@ public class TableDiffer {
 
     private final DataTable from;
     private final DataTable to;
+    private final int maxDiffs;
 
     public TableDiffer(DataTable fromTable, DataTable toTable) {
+        this(fromTable, toTable, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param fromTable the expected table
+     * @param toTable   the actual table
+     * @param maxDiffs  how many missing or extra rows to report at most. The diff stops after as many.
+     */
+    public TableDiffer(DataTable fromTable, DataTable toTable, int maxDiffs) {
         checkColumns(fromTable, toTable);
+        if (maxDiffs < 1) {
+            throw new IllegalArgumentException("maxDiffs must be at least 1: " + maxDiffs);
+        }
         this.from = fromTable;
         this.to = toTable;
+        this.maxDiffs = maxDiffs;
     }
 
     private void checkColumns(DataTable a, DataTable b) {
@@ -31,56 +46,90 @@ public class TableDiffer {
     }
 
     public void calculateDiffs() throws TableDiffException {
+        if (from.raw().equals(to.raw())) {
+            return;
+        }
         Patch patch = DiffUtils.diff(from.diffableRows(), to.diffableRows());
         List<Delta> deltas = patch.getDeltas();
         if (!deltas.isEmpty()) {
             Map<Integer, Delta> deltasByLine = createDeltasByLine(deltas);
-            throw new TableDiffException(from, to, createTableDiff(deltasByLine));
+            throw tableDiffException(createTableDiff(deltasByLine));
         }
     }
 
     public void calculateUnorderedDiffs() throws TableDiffException {
-        boolean isDifferent = false;
-        List<DataTableRow> diffTableRows = new ArrayList<DataTableRow>();
-        List<List<String>> missingRow    = new ArrayList<List<String>>();
-
-        ArrayList<List<String>> extraRows = new ArrayList<List<String>>();
-
-        // 1. add all "to" row in extra table
-        // 2. iterate over "from", when a common row occurs, remove it from extraRows
-        // finally, only extra rows are kept and in same order that in "to".
-        extraRows.addAll(to.raw());
+        // Count the "to" rows, then take a row off the count for every "from" row. The "from" rows
+        // that find none left are missing, and whatever is left over in the counts is extra.
+        List<List<String>> toRows = to.raw();
+        Map<List<String>, Occurrences> occurrencesByRow = new HashMap<List<String>, Occurrences>(toRows.size() * 2);
+        for (List<String> row : toRows) {
+            Occurrences occurrences = occurrencesByRow.get(row);
+            if (occurrences == null) {
+                occurrences = new Occurrences();
+                occurrencesByRow.put(row, occurrences);
+            }
+            occurrences.count++;
+        }
 
+        List<DataTableRow> diffTableRows = new ArrayList<DataTableRow>();
+        int diffs = 0;
         int i = 1;
         for (DataTableRow r : from.getGherkinRows()) {
-            if (!to.raw().contains(r.getCells())) {
-                missingRow.add(r.getCells());
+            Occurrences occurrences = occurrencesByRow.get(r.getCells());
+            if (occurrences == null || occurrences.matched == occurrences.count) {
                 diffTableRows.add(
                         new DataTableRow(r.getComments(),
                                 r.getCells(),
                                 i,
                                 Row.DiffType.DELETE));
-                isDifferent = true;
+                if (++diffs == maxDiffs) {
+                    throw tableDiffException(diffTableRows);
+                }
             } else {
                 diffTableRows.add(
                         new DataTableRow(r.getComments(),
                                 r.getCells(),
                                 i++));
-                extraRows.remove(r.getCells());
+                occurrences.matched++;
             }
         }
 
-        for (List<String> e : extraRows) {
-            diffTableRows.add(new DataTableRow(Collections.EMPTY_LIST,
+        // The extra rows keep their order in "to". Of equal rows, the first ones are taken as matched.
+        for (List<String> e : toRows) {
+            Occurrences occurrences = occurrencesByRow.get(e);
+            if (occurrences.skipped < occurrences.matched) {
+                occurrences.skipped++;
+                continue;
+            }
+            diffTableRows.add(new DataTableRow(Collections.<Comment>emptyList(),
                     e,
                     i++,
                     Row.DiffType.INSERT));
-            isDifferent = true;
+            if (++diffs == maxDiffs) {
+                break;
+            }
+        }
+
+        if (diffs > 0) {
+            throw tableDiffException(diffTableRows);
         }
+    }
+
+    private static class Occurrences {
+        int count;
+        int matched;
+        int skipped;
+    }
 
-        if (isDifferent) {
-            throw new TableDiffException(from, to, new DataTable(diffTableRows, from.getTableConverter()));
+    private TableDiffException tableDiffException(List<DataTableRow> diffTableRows) {
+        return tableDiffException(new DataTable(diffTableRows, from.getTableConverter()));
+    }
+
+    private TableDiffException tableDiffException(DataTable diff) {
+        if (maxDiffs == Integer.MAX_VALUE) {
+            return new TableDiffException(from, to, diff);
         }
+        return new TableDiffException(from, to, diff, maxDiffs);
     }
 
     private Map<Integer, Delta> createDeltasByLine(List<Delta> deltas) {
@@ -113,7 +162,17 @@ public class TableDiffer {
         if (remainingDelta != null) {
             addRowsToTableDiff(diffTableRows, remainingDelta);
         }
-        return new DataTable(diffTableRows, from.getTableConverter());
+        return new DataTable(firstDiffs(diffTableRows), from.getTableConverter());
+    }
+
+    private List<DataTableRow> firstDiffs(List<DataTableRow> diffTableRows) {
+        int diffs = 0;
+        for (int i = 0; i < diffTableRows.size(); i++) {
+            if (diffTableRows.get(i).getDiffType() != Row.DiffType.NONE && ++diffs == maxDiffs) {
+                return diffTableRows.subList(0, i + 1);
+            }
+        }
+        return diffTableRows;
     }
 
     private void addRowsToTableDiff(List<DataTableRow> diffTableRows, Delta delta) {
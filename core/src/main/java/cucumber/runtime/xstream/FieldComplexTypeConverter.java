@@ -0,0 +1,216 @@
+package cucumber.runtime.xstream;
+
+import cucumber.deps.com.thoughtworks.xstream.converters.Converter;
+import cucumber.deps.com.thoughtworks.xstream.converters.SingleValueConverter;
+import cucumber.deps.com.thoughtworks.xstream.converters.reflection.ReflectionConverter;
+import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.table.ComplexTypeConverter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Converts table rows by setting the fields of each object directly, instead of feeding the rows through XStream's
+ * unmarshalling machinery. The fields of a type are looked up once, and the converter of each column once per
+ * table.
+ * <p/>
+ * Only types that XStream would convert with its reflection converter, and that don't use XStream annotations, are
+ * converted. Whatever could turn out differently from XStream, like a missing field or an empty cell for a
+ * primitive field or a repeated column, is left to XStream, so that the results and errors are the same.
+ */
+public class FieldComplexTypeConverter implements ComplexTypeConverter {
+    private static final String XSTREAM_ANNOTATIONS = "cucumber.deps.com.thoughtworks.xstream.annotations.";
+    private static final Map<String, Field> UNSUPPORTED = Collections.emptyMap();
+
+    private final ConcurrentMap<Class<?>, Map<String, Field>> fieldsByType = new ConcurrentHashMap<Class<?>, Map<String, Field>>();
+
+    @Override
+    public <T> List<T> toList(Class<T> itemType, List<String> fieldNames, List<List<String>> rows, LocalizedXStreams.LocalizedXStream xStream, ParameterInfo parameterInfo) {
+        xStream.processAnnotations(itemType);
+        Converter itemConverter = xStream.getConverterLookup().lookupConverterForType(itemType);
+        if (itemConverter == null || itemConverter.getClass() != ReflectionConverter.class) {
+            return null;
+        }
+        Map<String, Field> fields = fields(itemType);
+        if (fields == UNSUPPORTED) {
+            return null;
+        }
+
+        if (new HashSet<String>(fieldNames).size() != fieldNames.size()) {
+            return null;
+        }
+        int columns = fieldNames.size();
+        Field[] columnFields = new Field[columns];
+        SingleValueConverter[] columnConverters = new SingleValueConverter[columns];
+        for (int i = 0; i < columns; i++) {
+            Field field = fields.get(fieldNames.get(i));
+            if (field == null) {
+                return null;
+            }
+            SingleValueConverter converter = converter(field.getType(), xStream, parameterInfo);
+            if (converter == null) {
+                return null;
+            }
+            columnFields[i] = field;
+            columnConverters[i] = converter;
+        }
+
+        List<T> result = new ArrayList<T>(rows.size());
+        for (List<String> row : rows) {
+            Object item = xStream.getReflectionProvider().newInstance(itemType);
+            for (int i = 0; i < columns; i++) {
+                Object value = columnConverters[i].fromString(row.get(i));
+                if (value == null && columnFields[i].getType().isPrimitive()) {
+                    return null;
+                }
+                try {
+                    columnFields[i].set(item, value);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+            }
+            result.add(itemType.cast(item));
+        }
+        return result;
+    }
+
+    private SingleValueConverter converter(Class<?> fieldType, LocalizedXStreams.LocalizedXStream xStream, ParameterInfo parameterInfo) {
+        if (fieldType == Object.class) {
+            return null;
+        }
+        xStream.processAnnotations(fieldType);
+        SingleValueConverter converter = parameterInfo == null
+                ? xStream.getSingleValueConverter(fieldType)
+                : xStream.getSingleValueConverter(fieldType, parameterInfo);
+        if (converter instanceof SingleValueConverterWrapperExt) {
+            SingleValueConverter wrapped = ((SingleValueConverterWrapperExt) converter).getConverter();
+            if (wrapped instanceof IntegerConverter || wrapped instanceof LongConverter) {
+                return new PlainIntegerConverter(converter, fieldType, xStream.getLocale());
+            }
+        }
+        return converter;
+    }
+
+    /**
+     * @return the fields XStream could set, by name, or UNSUPPORTED if the type can't be converted here.
+     */
+    private Map<String, Field> fields(Class<?> type) {
+        Map<String, Field> fields = fieldsByType.get(type);
+        if (fields == null) {
+            fields = findFields(type);
+            fieldsByType.putIfAbsent(type, fields);
+        }
+        return fields;
+    }
+
+    private static Map<String, Field> findFields(Class<?> type) {
+        Map<String, Field> fields = new HashMap<String, Field>();
+        Set<String> hiddenNames = new HashSet<String>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (hasXStreamAnnotation(c.getAnnotations())) {
+                return UNSUPPORTED;
+            }
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (hasXStreamAnnotation(field.getAnnotations())) {
+                    return UNSUPPORTED;
+                }
+                String name = field.getName();
+                if (name.indexOf('_') != -1 || name.indexOf('$') != -1) {
+                    // XStream decodes these characters in names
+                    continue;
+                }
+                if (fields.containsKey(name)) {
+                    // XStream has its own rules for fields that hide others
+                    hiddenNames.add(name);
+                } else {
+                    field.setAccessible(true);
+                    fields.put(name, field);
+                }
+            }
+        }
+        for (String hiddenName : hiddenNames) {
+            fields.remove(hiddenName);
+        }
+        return fields;
+    }
+
+    private static boolean hasXStreamAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith(XSTREAM_ANNOTATIONS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses plain digits without a NumberFormat, and leaves everything else, like grouping separators, to the
+     * converter for the locale. Plain digits mean the same thing in every locale.
+     */
+    static class PlainIntegerConverter implements SingleValueConverter {
+        private final SingleValueConverter localeConverter;
+        private final boolean isLong;
+        private final boolean minusIsHyphen;
+
+        PlainIntegerConverter(SingleValueConverter localeConverter, Class<?> type, Locale locale) {
+            this.localeConverter = localeConverter;
+            this.isLong = type == Long.class || type == Long.TYPE;
+            this.minusIsHyphen = new DecimalFormatSymbols(locale).getMinusSign() == '-';
+        }
+
+        @Override
+        public Object fromString(String string) {
+            int length = string.length();
+            boolean negative = length > 1 && string.charAt(0) == '-' && minusIsHyphen;
+            int start = negative ? 1 : 0;
+            // Short enough not to overflow
+            if (length == start || length - start > (isLong ? 18 : 9)) {
+                return localeConverter.fromString(string);
+            }
+            long value = 0;
+            for (int i = start; i < length; i++) {
+                char c = string.charAt(i);
+                if (c < '0' || c > '9') {
+                    return localeConverter.fromString(string);
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (isLong) {
+                return value;
+            } else {
+                return (int) value;
+            }
+        }
+
+        @Override
+        public String toString(Object object) {
+            return localeConverter.toString(object);
+        }
+
+        @Override
+        public boolean canConvert(Class type) {
+            return localeConverter.canConvert(type);
+        }
+    }
+}
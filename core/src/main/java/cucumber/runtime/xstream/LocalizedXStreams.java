@@ -7,6 +7,7 @@ import cucumber.deps.com.thoughtworks.xstream.converters.ConverterRegistry;
 import cucumber.deps.com.thoughtworks.xstream.converters.SingleValueConverter;
 import cucumber.deps.com.thoughtworks.xstream.core.DefaultConverterLookup;
 import cucumber.runtime.ParameterInfo;
+import cucumber.runtime.table.ComplexTypeConverter;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -15,30 +16,56 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+/**
+ * Gives every thread its own {@link LocalizedXStream} per locale. The converters of an xStream keep state, like the
+ * {@link java.text.NumberFormat}s and {@link java.text.DateFormat}s they parse with and the format of the table being
+ * converted, so an xStream must not be used by several threads. They are when worker threads share a
+ * {@link cucumber.runtime.Runtime}.
+ */
 public class LocalizedXStreams {
-    private final Map<Locale, LocalizedXStream> xStreamsByLocale = new HashMap<Locale, LocalizedXStream>();
+    private final ThreadLocal<Map<Locale, LocalizedXStream>> xStreamsByLocale = new ThreadLocal<Map<Locale, LocalizedXStream>>() {
+        @Override
+        protected Map<Locale, LocalizedXStream> initialValue() {
+            return new HashMap<Locale, LocalizedXStream>();
+        }
+    };
     private final ClassLoader classLoader;
+    private final ComplexTypeConverter complexTypeConverter;
 
     public LocalizedXStreams(ClassLoader classLoader) {
+        this(classLoader, null);
+    }
+
+    /**
+     * @param classLoader          loads the classes XStream converts to
+     * @param complexTypeConverter converts table rows before XStream is asked to, or null to always use XStream
+     */
+    public LocalizedXStreams(ClassLoader classLoader, ComplexTypeConverter complexTypeConverter) {
         this.classLoader = classLoader;
+        this.complexTypeConverter = complexTypeConverter;
     }
 
+    /**
+     * @return the calling thread's xStream for the locale.
+     */
     public LocalizedXStream get(Locale locale) {
-        LocalizedXStream xStream = xStreamsByLocale.get(locale);
+        Map<Locale, LocalizedXStream> xStreams = xStreamsByLocale.get();
+        LocalizedXStream xStream = xStreams.get(locale);
         if (xStream == null) {
             xStream = newXStream(locale);
-            xStreamsByLocale.put(locale, xStream);
+            xStreams.put(locale, xStream);
         }
         return xStream;
     }
 
     private LocalizedXStream newXStream(Locale locale) {
         DefaultConverterLookup lookup = new DefaultConverterLookup();
-        return new LocalizedXStream(classLoader, lookup, lookup, locale);
+        return new LocalizedXStream(classLoader, lookup, lookup, locale, complexTypeConverter);
     }
 
     public static class LocalizedXStream extends XStream {
         private final Locale locale;
+        private final ComplexTypeConverter complexTypeConverter;
         private final ThreadLocal<List<TimeConverter>> timeConverters = new ThreadLocal<List<TimeConverter>>() {
             @Override
             protected List<TimeConverter> initialValue() {
@@ -47,8 +74,13 @@ public class LocalizedXStreams {
         };
 
         public LocalizedXStream(ClassLoader classLoader, ConverterLookup converterLookup, ConverterRegistry converterRegistry, Locale locale) {
+            this(classLoader, converterLookup, converterRegistry, locale, null);
+        }
+
+        public LocalizedXStream(ClassLoader classLoader, ConverterLookup converterLookup, ConverterRegistry converterRegistry, Locale locale, ComplexTypeConverter complexTypeConverter) {
             super(null, null, classLoader, null, converterLookup, converterRegistry);
             this.locale = locale;
+            this.complexTypeConverter = complexTypeConverter;
             autodetectAnnotations(true);
 
             // Override with our own Locale-aware converters.
@@ -108,6 +140,21 @@ public class LocalizedXStreams {
             }
         }
 
+        /**
+         * @return the converter for a parameter's type, bound to the parameter's format if it is a date or calendar
+         * parameter with a format, or null if there is none.
+         */
+        public SingleValueConverter getSingleValueConverter(Type type, ParameterInfo parameterInfo) {
+            SingleValueConverter converter = getSingleValueConverter(type);
+            if (parameterInfo.getFormat() != null && converter instanceof SingleValueConverterWrapperExt) {
+                SingleValueConverter wrapped = ((SingleValueConverterWrapperExt) converter).getConverter();
+                if (wrapped instanceof TimeConverter) {
+                    return ((TimeConverter<?>) wrapped).forParameter(parameterInfo, locale);
+                }
+            }
+            return converter;
+        }
+
         public SingleValueConverter createListConverter(String delimiter, SingleValueConverter elementConverter) {
             return new ListConverter(delimiter, elementConverter);
         }
@@ -115,5 +162,12 @@ public class LocalizedXStreams {
         public Locale getLocale() {
             return locale;
         }
+
+        /**
+         * @return what converts table rows before XStream is asked to, or null.
+         */
+        public ComplexTypeConverter getComplexTypeConverter() {
+            return complexTypeConverter;
+        }
     }
 }
@@ -64,6 +64,17 @@ abstract class TimeConverter<T> extends ConverterWithFormat<T> {
         }
     }
 
+    /**
+     * @return a new converter of the same type that only uses the parameter's format, leaving this one alone.
+     */
+    TimeConverter<T> forParameter(ParameterInfo parameterInfo, Locale locale) {
+        TimeConverter<T> converter = newConverter(locale);
+        converter.setParameterInfoAndLocale(parameterInfo, locale);
+        return converter;
+    }
+
+    abstract TimeConverter<T> newConverter(Locale locale);
+
     public void removeOnlyFormat() {
         format = null;
     }
@@ -1,16 +1,23 @@
 package cucumber.runtime;
 
+import cucumber.runtime.io.FileResource;
 import cucumber.runtime.io.Resource;
 import cucumber.runtime.model.CucumberFeature;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -60,10 +67,94 @@ public class FeatureBuilderTest {
         assertEquals("path/foo.feature", features.get(0).getPath());
     }
 
+    @Test
+    public void parses_on_several_threads_in_the_order_of_the_resources_without_duplicates() throws IOException {
+        List<Resource> resources = new ArrayList<Resource>();
+        List<List<Object>> filters = new ArrayList<List<Object>>();
+        for (int i = 0; i < 50; i++) {
+            resources.add(createResourceMock("feature" + i + ".feature", "Feature: feature " + i % 40));
+            filters.add(NO_FILTERS);
+        }
+        List<CucumberFeature> features = new ArrayList<CucumberFeature>();
+        FeatureBuilder builder = new FeatureBuilder(features);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            builder.parse(resources, filters, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(40, features.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals("feature" + i + ".feature", features.get(i).getPath());
+            assertEquals("feature " + i, features.get(i).getGherkinFeature().getName());
+        }
+    }
+
+    @Test
+    public void reports_the_first_parse_error_on_several_threads() throws IOException {
+        List<Resource> resources = asList(
+                createResourceMock("good.feature", "Feature: good"),
+                createResourceMock("bad.feature", "Scenario: without a feature"),
+                createResourceMock("worse.feature", "Not gherkin either"));
+        List<List<Object>> filters = asList(NO_FILTERS, NO_FILTERS, NO_FILTERS);
+        FeatureBuilder builder = new FeatureBuilder(new ArrayList<CucumberFeature>());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            builder.parse(resources, filters, executor);
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("Error parsing feature file bad.feature", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void reads_the_source_in_the_encoding_of_its_header() throws IOException {
+        String source = "# language: de\n# encoding: ISO-8859-1\nFunktionalit\u00e4t: \u00c4rger\n";
+        Resource resource = createResourceMock("foo.feature", source.getBytes("ISO-8859-1"));
+
+        assertEquals(source, new FeatureBuilder(new ArrayList<CucumberFeature>()).read(resource));
+    }
+
+    @Test
+    public void reads_the_source_as_utf8_without_an_encoding_header() throws IOException {
+        String source = "Feature: \u00c4rger\n# encoding: ISO-8859-1\n";
+        Resource resource = createResourceMock("foo.feature", source);
+
+        assertEquals(source, new FeatureBuilder(new ArrayList<CucumberFeature>()).read(resource));
+    }
+
+    @Test
+    public void reads_feature_files() throws IOException {
+        File file = File.createTempFile("cucumber", ".feature");
+        try {
+            String source = "# encoding: ISO-8859-1\nFeature: \u00c4rger\n";
+            FileOutputStream out = new FileOutputStream(file);
+            out.write(source.getBytes("ISO-8859-1"));
+            out.close();
+
+            assertEquals(source, new FeatureBuilder(new ArrayList<CucumberFeature>()).read(new FileResource(file.getParentFile(), file)));
+        } finally {
+            file.delete();
+        }
+    }
+
     private Resource createResourceMock(String featurePath) throws IOException {
+        return createResourceMock(featurePath, "Feature: foo");
+    }
+
+    private Resource createResourceMock(String featurePath, String source) throws IOException {
+        return createResourceMock(featurePath, source.getBytes("UTF-8"));
+    }
+
+    private Resource createResourceMock(String featurePath, byte[] source) throws IOException {
         Resource resource = mock(Resource.class);
         when(resource.getPath()).thenReturn(featurePath);
-        ByteArrayInputStream feature = new ByteArrayInputStream("Feature: foo".getBytes("UTF-8"));
+        ByteArrayInputStream feature = new ByteArrayInputStream(source);
         when(resource.getInputStream()).thenReturn(feature);
         return resource;
     }
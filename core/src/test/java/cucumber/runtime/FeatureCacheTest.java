@@ -0,0 +1,142 @@
+package cucumber.runtime;
+
+import cucumber.runtime.formatter.TempDir;
+import cucumber.runtime.io.Resource;
+import cucumber.runtime.model.CucumberFeature;
+import gherkin.I18n;
+import gherkin.formatter.JSONFormatter;
+import gherkin.parser.Parser;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FeatureCacheTest {
+    private static final List<Object> NO_FILTERS = emptyList();
+    private static final String FEATURE = "" +
+            "# language: fr\n" +
+            "# A comment\n" +
+            "@feature_tag\n" +
+            "Fonctionnalité: Cache\n" +
+            "  A description\n" +
+            "\n" +
+            "  Contexte:\n" +
+            "    Soit a background step\n" +
+            "\n" +
+            "  @scenario_tag\n" +
+            "  Scénario: A scenario\n" +
+            "    Soit a data table\n" +
+            "      | a | b |\n" +
+            "      # A row comment\n" +
+            "      | 1 | 2 |\n" +
+            "    Et a doc string\n" +
+            "      \"\"\"text\n" +
+            "      Héllo\n" +
+            "      \"\"\"\n" +
+            "\n" +
+            "  Plan du scénario: An outline\n" +
+            "    Soit <x> cukes\n" +
+            "\n" +
+            "    @examples_tag\n" +
+            "    Exemples: Some examples\n" +
+            "      | x |\n" +
+            "      | 1 |\n" +
+            "      | 2 |\n";
+
+    @Test
+    public void replays_the_events_of_the_parser() throws IOException {
+        File dir = TempDir.createTempDirectory();
+        List<CucumberFeature> parsed = parse(new FeatureCache(dir), NO_FILTERS);
+        assertEquals(1, dir.listFiles().length);
+        String checksum = checksum(dir);
+
+        StringBuilder expected = new StringBuilder();
+        JSONFormatter parserEvents = new JSONFormatter(expected);
+        new Parser(parserEvents).parse(FEATURE, "cache.feature", 0);
+        parserEvents.done();
+        StringBuilder actual = new StringBuilder();
+        JSONFormatter replayedEvents = new JSONFormatter(actual);
+        I18n i18n = new FeatureCache(dir).replay(checksum, "cache.feature", replayedEvents);
+        replayedEvents.done();
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals("fr", i18n.getIsoCode());
+        assertEquals("fr", parsed.get(0).getI18n().getIsoCode());
+    }
+
+    @Test
+    public void builds_features_from_the_cache() throws IOException {
+        File dir = TempDir.createTempDirectory();
+        parse(new FeatureCache(dir), NO_FILTERS);
+
+        List<CucumberFeature> features = parse(new FeatureCache(dir), NO_FILTERS);
+
+        assertEquals("Cache", features.get(0).getGherkinFeature().getName());
+        assertEquals("cache.feature", features.get(0).getPath());
+        assertEquals("fr", features.get(0).getI18n().getIsoCode());
+        assertEquals(2, features.get(0).getFeatureElements().size());
+    }
+
+    @Test
+    public void filters_replayed_features() throws IOException {
+        File dir = TempDir.createTempDirectory();
+        parse(new FeatureCache(dir), NO_FILTERS);
+
+        List<CucumberFeature> features = parse(new FeatureCache(dir), asList((Object) "@scenario_tag"));
+
+        assertEquals(1, features.get(0).getFeatureElements().size());
+        assertEquals("A scenario", features.get(0).getFeatureElements().get(0).getGherkinModel().getName());
+    }
+
+    @Test
+    public void ignores_and_overwrites_unreadable_entries() throws IOException {
+        File dir = TempDir.createTempDirectory();
+        parse(new FeatureCache(dir), NO_FILTERS);
+        String checksum = checksum(dir);
+        FileOutputStream out = new FileOutputStream(dir.listFiles()[0]);
+        out.write(new byte[]{1, 2, 3});
+        out.close();
+
+        assertNull(new FeatureCache(dir).replay(checksum, "cache.feature", new JSONFormatter(new StringBuilder())));
+
+        List<CucumberFeature> features = parse(new FeatureCache(dir), NO_FILTERS);
+        assertEquals(2, features.get(0).getFeatureElements().size());
+        assertNotNull(new FeatureCache(dir).replay(checksum, "cache.feature", new JSONFormatter(new StringBuilder())));
+    }
+
+    @Test
+    public void does_not_replay_missing_entries() throws IOException {
+        FeatureCache cache = new FeatureCache(new File(TempDir.createTempDirectory(), "missing"));
+        List<CucumberFeature> features = new ArrayList<CucumberFeature>();
+
+        assertNull(cache.replay("0123", "cache.feature", new FeatureBuilder(features)));
+        assertTrue(features.isEmpty());
+    }
+
+    private List<CucumberFeature> parse(FeatureCache cache, List<Object> filters) throws IOException {
+        Resource resource = mock(Resource.class);
+        when(resource.getPath()).thenReturn("cache.feature");
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(FEATURE.getBytes("UTF-8")));
+        List<CucumberFeature> features = new ArrayList<CucumberFeature>();
+        new FeatureBuilder(features, cache).parse(resource, filters);
+        return features;
+    }
+
+    private String checksum(File dir) {
+        String name = dir.listFiles()[0].getName();
+        return name.substring(0, name.indexOf('.'));
+    }
+}
@@ -0,0 +1,65 @@
+package cucumber.runtime;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HookRegistryTest {
+    @Test
+    public void merges_scenario_scoped_hooks_into_the_global_hooks_in_order() {
+        HookRegistry registry = new HookRegistry(new HookComparator(true));
+        HookDefinition global10 = hook(10, false);
+        HookDefinition global1 = hook(1, false);
+        HookDefinition global5 = hook(5, false);
+        HookDefinition scoped5 = hook(5, true);
+        HookDefinition scoped0 = hook(0, true);
+        HookDefinition scoped20 = hook(20, true);
+        for (HookDefinition hook : asList(global10, global1, global5, scoped5, scoped0, scoped20)) {
+            registry.add(hook);
+        }
+
+        assertEquals(asList(scoped0, global1, global5, scoped5, global10, scoped20), registry.getHooks());
+    }
+
+    @Test
+    public void keeps_the_order_of_hooks_with_the_same_order_when_descending() {
+        HookRegistry registry = new HookRegistry(new HookComparator(false));
+        HookDefinition first = hook(0, false);
+        HookDefinition second = hook(0, false);
+        HookDefinition scoped = hook(0, true);
+        HookDefinition last = hook(-1, false);
+        for (HookDefinition hook : asList(scoped, last, first, second)) {
+            registry.add(hook);
+        }
+
+        assertEquals(asList(first, second, scoped, last), registry.getHooks());
+    }
+
+    @Test
+    public void goes_back_to_the_sorted_global_hooks_when_scenario_scoped_hooks_are_removed() {
+        HookRegistry registry = new HookRegistry(new HookComparator(true));
+        registry.add(hook(2, false));
+        registry.add(hook(1, false));
+        List<HookDefinition> globalHooks = registry.getHooks();
+
+        registry.add(hook(0, true));
+        assertEquals(3, registry.getHooks().size());
+
+        registry.removeScenarioScopedHooks();
+        assertSame(globalHooks, registry.getHooks());
+        assertEquals(2, registry.size());
+    }
+
+    private static HookDefinition hook(int order, boolean scenarioScoped) {
+        HookDefinition hook = mock(HookDefinition.class);
+        when(hook.getOrder()).thenReturn(order);
+        when(hook.isScenarioScoped()).thenReturn(scenarioScoped);
+        return hook;
+    }
+}
@@ -0,0 +1,65 @@
+package cucumber.runtime;
+
+import cucumber.runtime.UtilsTest.MyAbstractClass;
+import cucumber.runtime.UtilsTest.MyClass;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class MethodInvokerTest {
+    @Test
+    public void invokes_methods_on_targets_from_the_same_class_loader() throws Throwable {
+        Object target = new MyClass();
+
+        assertEquals(Boolean.TRUE, new MethodInvoker(MyClass.class.getMethod("publicInterfaceMethod")).invoke(target, 0));
+        assertEquals(Boolean.TRUE, new MethodInvoker(MyClass.class.getDeclaredMethod("protectedAbstractMethod")).invoke(target, 1000));
+        assertEquals(Boolean.TRUE, new MethodInvoker(MyAbstractClass.class.getDeclaredMethod("privateMethod")).invoke(target, 0));
+    }
+
+    @Test
+    public void invokes_methods_on_targets_from_other_class_loaders() throws Throwable {
+        URL[] urls = ((URLClassLoader) ClassLoader.getSystemClassLoader()).getURLs();
+        Object otherTarget = new URLClassLoader(urls, null).loadClass(MyClass.class.getName()).getConstructor().newInstance();
+        MethodInvoker invoker = new MethodInvoker(MyAbstractClass.class.getDeclaredMethod("privateMethod"));
+
+        assertEquals(Boolean.TRUE, invoker.invoke(otherTarget, 0));
+        assertEquals(Boolean.TRUE, invoker.invoke(new MyClass(), 0));
+        assertEquals(Boolean.TRUE, invoker.invoke(otherTarget, 0));
+    }
+
+    @Test
+    public void rethrows_exceptions_of_the_method() throws Throwable {
+        MethodInvoker invoker = new MethodInvoker(Failing.class.getMethod("fail"));
+        try {
+            invoker.invoke(new Failing(), 0);
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("failed", expected.getMessage());
+        }
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void times_out() throws Throwable {
+        new MethodInvoker(Failing.class.getMethod("sleep")).invoke(new Failing(), 10);
+    }
+
+    @Test(expected = CucumberException.class)
+    public void fails_on_wrong_arguments() throws Throwable {
+        new MethodInvoker(Failing.class.getMethod("fail")).invoke(new Failing(), 0, "argument");
+    }
+
+    public static class Failing {
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public void sleep() throws InterruptedException {
+            Thread.sleep(5000);
+        }
+    }
+}
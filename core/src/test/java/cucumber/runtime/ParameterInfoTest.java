@@ -149,4 +149,29 @@ public class ParameterInfoTest {
         Date sampleDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.ENGLISH).parse("1985-02-12T16:05:12");
         assertEquals(sampleDate, parameterInfo.convert("1985-02-12T16:05:12", US));
     }
+
+    public void withDate(Date date) {
+    }
+
+    @Test
+    public void keeps_the_format_of_a_parameter_to_itself() throws NoSuchMethodException, ParseException {
+        ParameterInfo formatted = ParameterInfo.fromMethod(getClass().getMethod("withDateAndAnnotationFormat", Date.class)).get(0);
+        ParameterInfo unformatted = ParameterInfo.fromMethod(getClass().getMethod("withDate", Date.class)).get(0);
+        Date sampleDate = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.ENGLISH).parse("1985-02-12T16:05:12");
+        Date shortDate = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).parse("1985-02-12");
+
+        assertEquals(sampleDate, formatted.convert("1985-02-12T16:05:12", US));
+        assertEquals(shortDate, unformatted.convert("2/12/85", US));
+        assertEquals(sampleDate, formatted.convert("1985-02-12T16:05:12", US));
+    }
+
+    @Test
+    public void reuses_the_converter_of_a_parameter() throws NoSuchMethodException {
+        ParameterInfo pt = ParameterInfo.fromMethod(getClass().getMethod("withInt", Integer.TYPE)).get(0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, pt.convert(String.valueOf(i), US));
+        }
+        assertEquals(23, pt.convert("23", FR));
+        assertEquals(1000, pt.convert("1,000", US));
+    }
 }
@@ -0,0 +1,76 @@
+package cucumber.runtime;
+
+import gherkin.formatter.Formatter;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+public class PluginEventBusTest {
+    private static final Method URI = method("uri", String.class);
+    private static final Method EOF = method("eof");
+
+    @Test
+    public void delivers_calls_in_publish_order_on_one_thread() {
+        Formatter formatter = mock(Formatter.class);
+        final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                threadNames.add(Thread.currentThread().getName());
+                return null;
+            }
+        }).when(formatter).uri(anyString());
+        PluginEventBus bus = new PluginEventBus(2);
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(formatter, URI, new Object[]{"uri" + i});
+        }
+        bus.publish(formatter, EOF, new Object[0]);
+        bus.close();
+
+        InOrder inOrder = inOrder(formatter);
+        for (int i = 0; i < 100; i++) {
+            inOrder.verify(formatter).uri("uri" + i);
+        }
+        inOrder.verify(formatter).eof();
+        assertEquals(Collections.singleton("cucumber-plugin-events"), threadNames);
+    }
+
+    @Test
+    public void rethrows_plugin_failures_on_the_publishing_thread() {
+        Formatter formatter = mock(Formatter.class);
+        CucumberException failure = new CucumberException("formatter failed");
+        doThrow(failure).when(formatter).eof();
+        PluginEventBus bus = new PluginEventBus();
+
+        bus.publish(formatter, EOF, new Object[0]);
+        try {
+            bus.close();
+            fail("should have failed");
+        } catch (CucumberException expected) {
+            assertEquals(failure, expected);
+        }
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Formatter.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package cucumber.runtime;
 
 import cucumber.runtime.xstream.LocalizedXStreams;
+import gherkin.I18n;
+import gherkin.formatter.Argument;
+import gherkin.formatter.model.Step;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.regex.Pattern;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RuntimeGlueTest {
@@ -29,6 +38,80 @@ public class RuntimeGlueTest {
         }
     }
 
+    @Test
+    public void reports_ambiguous_matches_in_pattern_order() {
+        RuntimeGlue glue = new RuntimeGlue(new LocalizedXStreams(Thread.currentThread().getContextClassLoader()));
+        Step step = new Step(null, "Given ", "I have 4 cukes", 1, null, null);
+
+        StepDefinition b = mock(StepDefinition.class);
+        when(b.getPattern()).thenReturn("b");
+        when(b.matchedArguments(step)).thenReturn(Collections.<Argument>emptyList());
+        glue.addStepDefinition(b);
+
+        PatternStepDefinition a = mock(PatternStepDefinition.class);
+        when(a.getPattern()).thenReturn("^I have (\\d+) cukes$");
+        when(a.getCompiledPattern()).thenReturn(Pattern.compile("^I have (\\d+) cukes$"));
+        when(a.matchedArguments(step)).thenReturn(Collections.<Argument>emptyList());
+        glue.addStepDefinition(a);
+
+        try {
+            glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class));
+            fail("should have failed");
+        } catch (AmbiguousStepDefinitionsException expected) {
+            assertEquals("^I have (\\d+) cukes$", expected.getMatches().get(0).getPattern());
+            assertEquals("b", expected.getMatches().get(1).getPattern());
+        }
+    }
+
+    @Test
+    public void caches_matches_of_global_step_definitions() {
+        RuntimeGlue glue = new RuntimeGlue(new LocalizedXStreams(Thread.currentThread().getContextClassLoader()));
+        Step step = new Step(null, "Given ", "I have 4 cukes", 1, null, null);
+
+        StepDefinition global = mock(StepDefinition.class);
+        when(global.getPattern()).thenReturn("global");
+        when(global.matchedArguments(step)).thenReturn(Collections.<Argument>emptyList());
+        glue.addStepDefinition(global);
+
+        glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class));
+        glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class));
+
+        verify(global, times(1)).matchedArguments(step);
+        assertEquals(1, glue.getMatchCache().getHits());
+        assertEquals(1, glue.getMatchCache().getMisses());
+    }
+
+    @Test
+    public void does_not_cache_matches_of_scenario_scoped_step_definitions() {
+        RuntimeGlue glue = new RuntimeGlue(new LocalizedXStreams(Thread.currentThread().getContextClassLoader()));
+        Step step = new Step(null, "Given ", "I have 4 cukes", 1, null, null);
+
+        StepDefinition scoped = mock(StepDefinition.class);
+        when(scoped.isScenarioScoped()).thenReturn(true);
+        when(scoped.getPattern()).thenReturn("scoped");
+        when(scoped.matchedArguments(step)).thenReturn(Collections.<Argument>emptyList());
+        glue.addStepDefinition(scoped);
+
+        assertEquals("scoped", glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class)).getPattern());
+        glue.removeScenarioScopedGlue();
+        assertNull(glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class)));
+    }
+
+    @Test
+    public void invalidates_cache_when_global_step_definitions_are_added() {
+        RuntimeGlue glue = new RuntimeGlue(new LocalizedXStreams(Thread.currentThread().getContextClassLoader()));
+        Step step = new Step(null, "Given ", "I have 4 cukes", 1, null, null);
+
+        assertNull(glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class)));
+
+        StepDefinition global = mock(StepDefinition.class);
+        when(global.getPattern()).thenReturn("global");
+        when(global.matchedArguments(step)).thenReturn(Collections.<Argument>emptyList());
+        glue.addStepDefinition(global);
+
+        assertEquals("global", glue.stepDefinitionMatch("some.feature", step, new I18n("en"), mock(UndefinedStepsTracker.class)).getPattern());
+    }
+
     @Test
     public void removes_glue_that_is_scenario_scoped() {
         // This test is a bit fragile - it is testing state, not behaviour.
@@ -13,13 +13,16 @@ import cucumber.api.SnippetType;
 import cucumber.runtime.formatter.ColorAware;
 import cucumber.runtime.formatter.PluginFactory;
 import cucumber.runtime.formatter.StrictAware;
+import cucumber.runtime.formatter.SynchronousPlugin;
 import cucumber.runtime.io.Resource;
 import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.model.CucumberFeature;
+import cucumber.runtime.xstream.FieldComplexTypeConverter;
 import gherkin.formatter.Formatter;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
@@ -33,6 +36,7 @@ import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -132,6 +136,83 @@ public class RuntimeOptionsTest {
         assertFalse(options.isStrict());
     }
 
+    @Test
+    public void assigns_threads() {
+        RuntimeOptions options = new RuntimeOptions(asList("--threads", "4", "--glue", "somewhere"));
+        assertEquals(4, options.getThreads());
+    }
+
+    @Test
+    public void default_threads() {
+        RuntimeOptions options = new RuntimeOptions(asList("--glue", "somewhere"));
+        assertEquals(1, options.getThreads());
+    }
+
+    @Test(expected = CucumberException.class)
+    public void rejects_non_positive_threads() {
+        new RuntimeOptions(asList("--threads", "0", "--glue", "somewhere"));
+    }
+
+    @Test
+    public void assigns_shard() {
+        RuntimeOptions options = new RuntimeOptions(asList("--shard", "3/16", "--glue", "somewhere"));
+        assertEquals(3, options.getShard().getIndex());
+        assertEquals(16, options.getShard().getTotal());
+    }
+
+    @Test
+    public void default_shard() {
+        RuntimeOptions options = new RuntimeOptions(asList("--glue", "somewhere"));
+        assertNull(options.getShard());
+    }
+
+    @Test(expected = CucumberException.class)
+    public void rejects_shards_out_of_range() {
+        new RuntimeOptions(asList("--shard", "17/16", "--glue", "somewhere"));
+    }
+
+    @Test
+    public void assigns_async_plugins() {
+        RuntimeOptions options = new RuntimeOptions(asList("--async-plugins", "--glue", "somewhere"));
+        assertTrue(options.isAsyncPlugins());
+    }
+
+    @Test
+    public void default_sync_plugins() {
+        RuntimeOptions options = new RuntimeOptions(asList("--glue", "somewhere"));
+        assertFalse(options.isAsyncPlugins());
+    }
+
+    @Test
+    public void assigns_feature_cache_dir() {
+        RuntimeOptions options = new RuntimeOptions(asList("--feature-cache", "target/features", "--glue", "somewhere"));
+        assertEquals(new File("target/features"), options.getFeatureCacheDir());
+    }
+
+    @Test
+    public void default_no_feature_cache_dir() {
+        RuntimeOptions options = new RuntimeOptions(asList("--glue", "somewhere"));
+        assertNull(options.getFeatureCacheDir());
+    }
+
+    @Test
+    public void default_table_converter_is_xstream() {
+        RuntimeOptions options = new RuntimeOptions(asList("--glue", "somewhere"));
+        assertNull(options.complexTypeConverter(getClass().getClassLoader()));
+    }
+
+    @Test
+    public void assigns_field_table_converter() {
+        RuntimeOptions options = new RuntimeOptions(asList("--table-converter", "fields", "--glue", "somewhere"));
+        assertTrue(options.complexTypeConverter(getClass().getClassLoader()) instanceof FieldComplexTypeConverter);
+    }
+
+    @Test
+    public void assigns_table_converter_class() {
+        RuntimeOptions options = new RuntimeOptions(asList("--table-converter", FieldComplexTypeConverter.class.getName(), "--glue", "somewhere"));
+        assertTrue(options.complexTypeConverter(getClass().getClassLoader()) instanceof FieldComplexTypeConverter);
+    }
+
     @Test
     public void name_without_spaces_is_preserved() {
         RuntimeOptions options = new RuntimeOptions(asList("--name", "someName"));
@@ -359,6 +440,46 @@ public class RuntimeOptionsTest {
                 "close\n", formatterSpy.toString());
     }
 
+    @Test
+    public void delivers_plugin_calls_in_order_with_async_plugins() throws Throwable {
+        CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
+                "Feature: feature name\n" +
+                "  Scenario: scenario name\n" +
+                "    Given step\n");
+
+        FormatterSpy formatterSpy = new FormatterSpy();
+        RuntimeOptions runtimeOptions = new RuntimeOptions("--async-plugins");
+        runtimeOptions.addPlugin(new FormatterMissingLifecycleMethods());
+        runtimeOptions.addPlugin(formatterSpy);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        TestHelper.runFeatureWithFormatter(feature, new HashMap<String, String>(),
+                                           runtimeOptions.formatter(classLoader), runtimeOptions.reporter(classLoader));
+
+        assertEquals("" +
+                "uri\n" +
+                "feature\n" +
+                "  startOfScenarioLifeCycle\n" +
+                "  scenario\n" +
+                "    step\n" +
+                "    match\n" +
+                "    result\n" +
+                "  endOfScenarioLifeCycle\n" +
+                "eof\n" +
+                "done\n" +
+                "close\n", formatterSpy.toString());
+    }
+
+    @Test
+    public void calls_synchronous_plugins_on_the_calling_thread_with_async_plugins() {
+        Formatter synchronousFormatter = mock(Formatter.class, withSettings().extraInterfaces(SynchronousPlugin.class));
+        RuntimeOptions runtimeOptions = new RuntimeOptions("--async-plugins");
+        runtimeOptions.addPlugin(synchronousFormatter);
+
+        runtimeOptions.formatter(Thread.currentThread().getContextClassLoader()).uri("path/test.feature");
+
+        verify(synchronousFormatter).uri("path/test.feature");
+    }
+
     private void assertOnlyScenarioName(CucumberFeature feature, String scenarioName) {
         assertEquals("Wrong number of scenarios loaded for feature", 1, feature.getFeatureElements().size());
         assertEquals("Scenario: " + scenarioName, feature.getFeatureElements().get(0).getVisualName());
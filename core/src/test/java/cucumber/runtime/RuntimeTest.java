@@ -1,5 +1,6 @@
 package cucumber.runtime;
 
+import cucumber.api.Format;
 import cucumber.api.PendingException;
 import cucumber.api.Scenario;
 import cucumber.api.StepDefinitionReporter;
@@ -10,7 +11,9 @@ import cucumber.runtime.io.Resource;
 import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.snippets.FunctionNameGenerator;
 import gherkin.I18n;
+import gherkin.formatter.Argument;
 import gherkin.formatter.Formatter;
 import gherkin.formatter.JSONFormatter;
 import gherkin.formatter.Reporter;
@@ -21,12 +24,18 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.internal.AssumptionViolatedException;
 import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import static cucumber.runtime.TestHelper.feature;
 import static cucumber.runtime.TestHelper.result;
@@ -34,15 +43,19 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -235,6 +248,291 @@ public class RuntimeTest {
     }
 
 
+    @Test
+    public void runs_scenarios_on_several_threads_with_same_formatter_output() throws IOException {
+        List<Resource> features = asList(
+                featureResource("a.feature", "" +
+                        "Feature: a\n" +
+                        "  Scenario: a1\n" +
+                        "    Given a step\n" +
+                        "  Scenario: a2\n" +
+                        "    Given a step\n"),
+                featureResource("b.feature", "" +
+                        "Feature: b\n" +
+                        "  Background:\n" +
+                        "    Given a step\n" +
+                        "  Scenario Outline: b1\n" +
+                        "    Given <x>\n" +
+                        "    Examples:\n" +
+                        "      | x      |\n" +
+                        "      | a step |\n" +
+                        "      | a step |\n"));
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.resources(anyString(), eq(".feature"))).thenReturn(features);
+        ClassFinder classFinder = mock(ClassFinder.class);
+        when(classFinder.getDescendants(Backend.class, "cucumber.runtime")).thenReturn(Collections.<Class<? extends Backend>>singletonList(ThreadRecordingBackend.class));
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        FormatterSpy serial = new FormatterSpy();
+        RuntimeOptions serialOptions = createRuntimeOptions("-p", "null_summary", "features");
+        serialOptions.addPlugin(serial);
+        new Runtime(resourceLoader, classFinder, classLoader, false, serialOptions.getGlue()).run(serialOptions);
+
+        ThreadRecordingBackend.threadNames.clear();
+        FormatterSpy parallel = new FormatterSpy();
+        RuntimeOptions parallelOptions = createRuntimeOptions("-p", "null_summary", "--threads", "3", "features");
+        parallelOptions.addPlugin(parallel);
+        new Runtime(resourceLoader, classFinder, classLoader, false, parallelOptions.getGlue()).run(parallelOptions);
+
+        assertEquals(serial.toString(), parallel.toString());
+        assertFalse(ThreadRecordingBackend.threadNames.isEmpty());
+        for (String threadName : ThreadRecordingBackend.threadNames) {
+            assertThat(threadName, startsWith("cucumber-worker-"));
+        }
+    }
+
+    @Test
+    public void shares_runtime_between_threads_when_backends_keep_one_world_per_thread() throws IOException {
+        List<Resource> features = asList(featureResource("a.feature", "" +
+                "Feature: a\n" +
+                "  Scenario: a1\n" +
+                "    Given a step\n" +
+                "  Scenario: a2\n" +
+                "    Given a step\n"));
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.resources(anyString(), eq(".feature"))).thenReturn(features);
+        ConcurrentBackend backend = mock(ConcurrentBackend.class);
+        when(backend.supportsConcurrentWorlds()).thenReturn(true);
+        when(backend.getSnippet(any(Step.class), any(FunctionNameGenerator.class))).thenReturn("snippet");
+        RuntimeOptions runtimeOptions = createRuntimeOptions("-p", "null_summary", "--threads", "2", "features");
+
+        // This runtime can't create workers of its own, so the worker threads must share it.
+        Runtime runtime = new Runtime(resourceLoader, Thread.currentThread().getContextClassLoader(), false, runtimeOptions.getGlue(), asList(backend));
+        runtime.run(runtimeOptions);
+
+        verify(backend, times(2)).buildWorld();
+        verify(backend, times(2)).disposeWorld();
+    }
+
+    @Test
+    public void runs_hooks_in_order_on_threads_that_share_the_runtime() throws IOException {
+        StringBuilder feature = new StringBuilder("Feature: a\n");
+        int scenarios = 40;
+        for (int i = 0; i < scenarios; i++) {
+            feature.append("  Scenario: a").append(i).append("\n    Given a step\n");
+        }
+        List<Resource> features = asList(featureResource("a.feature", feature.toString()));
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.resources(anyString(), eq(".feature"))).thenReturn(features);
+        final List<OrderRecordingHook> beforeHooks = asList(
+                new OrderRecordingHook(3), new OrderRecordingHook(1), new OrderRecordingHook(2));
+        final OrderRecordingHook afterHook = new OrderRecordingHook(0);
+        ConcurrentBackend backend = mock(ConcurrentBackend.class);
+        when(backend.supportsConcurrentWorlds()).thenReturn(true);
+        when(backend.getSnippet(any(Step.class), any(FunctionNameGenerator.class))).thenReturn("snippet");
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Glue glue = (Glue) invocation.getArguments()[0];
+                for (HookDefinition hook : beforeHooks) {
+                    glue.addBeforeHook(hook);
+                }
+                glue.addAfterHook(afterHook);
+                return null;
+            }
+        }).when(backend).loadGlue(any(Glue.class), anyListOf(String.class));
+        RuntimeOptions runtimeOptions = createRuntimeOptions("-p", "null_summary", "--threads", "4", "features");
+
+        Runtime runtime = new Runtime(resourceLoader, Thread.currentThread().getContextClassLoader(), false, runtimeOptions.getGlue(), asList(backend));
+        runtime.run(runtimeOptions);
+
+        for (OrderRecordingHook hook : beforeHooks) {
+            assertEquals(scenarios, hook.executions.get());
+        }
+        assertEquals(scenarios, afterHook.executions.get());
+        assertEquals(Collections.<List<Integer>>emptyList(), OrderRecordingHook.wrongOrders);
+    }
+
+    @Test
+    public void converts_step_arguments_on_threads_that_share_the_runtime() throws Exception {
+        StringBuilder feature = new StringBuilder("Feature: a\n");
+        int scenarios = 200;
+        for (int i = 0; i < scenarios; i++) {
+            int day = i % 28 + 1;
+            feature.append("  Scenario: a").append(i).append("\n")
+                    .append("    Given the number ").append(day).append(" on 1/").append(day).append("/15\n")
+                    .append("    And the items\n")
+                    .append("      | name | count | date |\n")
+                    .append(String.format("      | item %d | %d | %02d/01/2015 |\n", day, day, day));
+        }
+        List<Resource> features = asList(featureResource("a.feature", feature.toString()));
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.resources(anyString(), eq(".feature"))).thenReturn(features);
+        final ArgumentCheckingStepdefs stepdefs = new ArgumentCheckingStepdefs();
+        ConcurrentBackend backend = mock(ConcurrentBackend.class);
+        when(backend.supportsConcurrentWorlds()).thenReturn(true);
+        when(backend.getSnippet(any(Step.class), any(FunctionNameGenerator.class))).thenReturn("snippet");
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                Glue glue = (Glue) invocation.getArguments()[0];
+                glue.addStepDefinition(patternStepDefinition(stepdefs, "the number (\\d+) on (.*)",
+                        ArgumentCheckingStepdefs.class.getMethod("numberAndDate", Integer.class, Date.class)));
+                glue.addStepDefinition(patternStepDefinition(stepdefs, "the items",
+                        ArgumentCheckingStepdefs.class.getMethod("items", List.class)));
+                return null;
+            }
+        }).when(backend).loadGlue(any(Glue.class), anyListOf(String.class));
+        RuntimeOptions runtimeOptions = createRuntimeOptions("-p", "null_summary", "--threads", "4", "features");
+
+        Runtime runtime = new Runtime(resourceLoader, Thread.currentThread().getContextClassLoader(), false, runtimeOptions.getGlue(), asList(backend));
+        runtime.run(runtimeOptions);
+
+        // Steps whose arguments were converted wrongly, or couldn't be converted, aren't counted
+        assertEquals(2 * scenarios, stepdefs.steps.get());
+    }
+
+    private static StepDefinition patternStepDefinition(Object target, String pattern, Method method) {
+        final JdkPatternArgumentMatcher argumentMatcher = new JdkPatternArgumentMatcher(Pattern.compile(pattern));
+        return new StubStepDefinition(target, method, pattern) {
+            @Override
+            public List<Argument> matchedArguments(Step step) {
+                return argumentMatcher.argumentsFrom(step.getName());
+            }
+        };
+    }
+
+    public static class ArgumentCheckingStepdefs {
+        private final AtomicInteger steps = new AtomicInteger();
+
+        public void numberAndDate(Integer number, Date date) {
+            assertEquals(date(number), date);
+            steps.incrementAndGet();
+        }
+
+        public void items(@Format("dd/MM/yyyy") List<Item> items) {
+            Item item = items.get(0);
+            assertEquals("item " + item.count, item.name);
+            assertEquals(date(item.count), item.date);
+            steps.incrementAndGet();
+        }
+
+        private static Date date(int day) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.clear();
+            calendar.set(2015, Calendar.JANUARY, day);
+            return calendar.getTime();
+        }
+    }
+
+    public static class Item {
+        private String name;
+        private int count;
+        private Date date;
+    }
+
+    private static class OrderRecordingHook implements HookDefinition {
+        static final List<List<Integer>> wrongOrders = Collections.synchronizedList(new ArrayList<List<Integer>>());
+        private static final ThreadLocal<List<Integer>> ORDERS = new ThreadLocal<List<Integer>>() {
+            @Override
+            protected List<Integer> initialValue() {
+                return new ArrayList<Integer>();
+            }
+        };
+
+        private final int order;
+        private final AtomicInteger executions = new AtomicInteger();
+
+        OrderRecordingHook(int order) {
+            this.order = order;
+        }
+
+        @Override
+        public String getLocation(boolean detail) {
+            return "hook" + order;
+        }
+
+        @Override
+        public void execute(Scenario scenario) {
+            executions.incrementAndGet();
+            List<Integer> orders = ORDERS.get();
+            if (order == 0) {
+                // The after hook checks the before hooks of its scenario, which ran on the same thread
+                if (!orders.equals(asList(1, 2, 3))) {
+                    wrongOrders.add(new ArrayList<Integer>(orders));
+                }
+                orders.clear();
+            } else {
+                orders.add(order);
+            }
+        }
+
+        @Override
+        public boolean matches(Collection<Tag> tags) {
+            return true;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public boolean isScenarioScoped() {
+            return false;
+        }
+    }
+
+    public static class ThreadRecordingBackend implements Backend {
+        static final Set<String> threadNames = Collections.synchronizedSet(new HashSet<String>());
+
+        public ThreadRecordingBackend(ResourceLoader resourceLoader) {
+        }
+
+        @Override
+        public void loadGlue(Glue glue, List<String> gluePaths) {
+            StepDefinition stepDefinition = mock(StepDefinition.class);
+            when(stepDefinition.getPattern()).thenReturn("a step");
+            when(stepDefinition.matchedArguments(any(Step.class))).thenReturn(Collections.<Argument>emptyList());
+            when(stepDefinition.getParameterCount()).thenReturn(0);
+            glue.addStepDefinition(stepDefinition);
+        }
+
+        @Override
+        public void setUnreportedStepExecutor(UnreportedStepExecutor executor) {
+        }
+
+        @Override
+        public void buildWorld() {
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void disposeWorld() {
+        }
+
+        @Override
+        public String getSnippet(Step step, FunctionNameGenerator functionNameGenerator) {
+            return "";
+        }
+    }
+
+    private Resource featureResource(final String path, final String source) {
+        Resource resource = mock(Resource.class);
+        when(resource.getPath()).thenReturn(path);
+        try {
+            when(resource.getInputStream()).thenAnswer(new Answer<Object>() {
+                @Override
+                public Object answer(InvocationOnMock invocation) throws Throwable {
+                    return new ByteArrayInputStream(source.getBytes("UTF-8"));
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return resource;
+    }
+
     @Test
     public void should_throw_cucumer_exception_if_no_backends_are_found() throws Exception {
         try {
@@ -0,0 +1,89 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Result;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class StatsAccumulatorTest {
+    @Test
+    public void adds_up_like_append() {
+        List<Stats> scenarios = asList(
+                scenario(Result.PASSED, "a.feature:1"),
+                scenario(Result.FAILED, "a.feature:5"),
+                scenario(Stats.PENDING, "b.feature:1"),
+                scenario(Result.UNDEFINED.getStatus(), "b.feature:7"),
+                scenario(Result.FAILED, "c.feature:3"));
+
+        Stats appended = Stats.IDENTITY;
+        StatsAccumulator accumulator = new StatsAccumulator();
+        for (Stats scenario : scenarios) {
+            appended = Stats.append(appended, scenario);
+            accumulator.add(scenario);
+        }
+        Stats accumulated = accumulator.toStats();
+
+        assertSameCounts(appended.scenarioSubCounts, accumulated.scenarioSubCounts);
+        assertSameCounts(appended.stepSubCounts, accumulated.stepSubCounts);
+        assertEquals(appended.totalDuration, accumulated.totalDuration);
+        assertEquals(asList("a.feature:5", "c.feature:3"), accumulated.failedScenarios);
+        assertEquals(appended.pendingScenarios, accumulated.pendingScenarios);
+        assertEquals(appended.undefinedScenarios, accumulated.undefinedScenarios);
+        assertEquals(appended.passedScenarios, accumulated.passedScenarios);
+    }
+
+    @Test
+    public void adds_up_stats_from_several_threads() throws Exception {
+        final StatsAccumulator accumulator = new StatsAccumulator();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int i = 0; i < 1000; i++) {
+                            accumulator.add(scenario(Result.PASSED, "a.feature:" + i));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Stats stats = accumulator.toStats();
+        assertEquals(4000, stats.scenarioSubCounts.passed);
+        assertEquals(4000, stats.stepSubCounts.passed);
+        assertEquals(4000 * 10L, stats.totalDuration);
+        assertEquals(4000, stats.passedScenarios.size());
+    }
+
+    private static Stats scenario(String status, String designation) {
+        Stats stats = new Stats();
+        stats.addStep(new Result(status, 10L, null));
+        stats.addScenario(status, designation);
+        return stats;
+    }
+
+    private static void assertSameCounts(Stats.SubCounts expected, Stats.SubCounts actual) {
+        assertEquals(expected.passed, actual.passed);
+        assertEquals(expected.failed, actual.failed);
+        assertEquals(expected.skipped, actual.skipped);
+        assertEquals(expected.pending, actual.pending);
+        assertEquals(expected.undefined, actual.undefined);
+    }
+}
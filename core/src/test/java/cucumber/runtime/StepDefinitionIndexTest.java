@@ -0,0 +1,73 @@
+package cucumber.runtime;
+
+import gherkin.formatter.model.Step;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StepDefinitionIndexTest {
+    @Test
+    public void extracts_literal_prefix() {
+        assertEquals("I have ", literalPrefix("^I have (\\d+) cukes$"));
+        assertEquals("I have ", literalPrefix("I have (\\d+) cukes"));
+        assertEquals("a.b", literalPrefix("a\\.b\\d"));
+        assertEquals("I have a ", literalPrefix("I have a (?:cuke|gherkin)"));
+    }
+
+    @Test
+    public void stops_before_quantified_characters() {
+        assertEquals("I have cuke", literalPrefix("I have cukes?"));
+        assertEquals("I hav", literalPrefix("I have* cukes"));
+        assertEquals("I hav", literalPrefix("I have{1,2} cukes"));
+    }
+
+    @Test
+    public void has_no_prefix_when_unsafe() {
+        assertEquals("", literalPrefix("(?i)I have cukes"));
+        assertEquals("", literalPrefix("I have cukes|I have gherkins"));
+        assertEquals("", literalPrefix("\\QI have\\E cukes"));
+        assertEquals("", literalPrefix("[Ii] have cukes"));
+        assertEquals("", StepDefinitionIndex.literalPrefix(Pattern.compile("I have cukes", Pattern.CASE_INSENSITIVE)));
+    }
+
+    @Test
+    public void only_returns_candidates_with_matching_prefix() {
+        StepDefinitionIndex index = new StepDefinitionIndex();
+        PatternStepDefinition cukes = patternStepDefinition("^I have (\\d+) cukes$");
+        PatternStepDefinition gherkins = patternStepDefinition("^I eat (\\d+) gherkins$");
+        StepDefinition unknown = mock(StepDefinition.class);
+        index.add(cukes);
+        index.add(gherkins);
+        index.add(unknown);
+
+        assertEquals(asList(unknown, cukes), index.candidates(step("I have 3 cukes")));
+        assertEquals(Collections.singletonList(unknown), index.candidates(step("You have 3 cukes")));
+
+        index.remove(cukes);
+        assertFalse(index.candidates(step("I have 3 cukes")).contains(cukes));
+        assertTrue(index.candidates(step("I eat 3 gherkins")).contains(gherkins));
+    }
+
+    private String literalPrefix(String regex) {
+        return StepDefinitionIndex.literalPrefix(Pattern.compile(regex));
+    }
+
+    private PatternStepDefinition patternStepDefinition(String regex) {
+        PatternStepDefinition stepDefinition = mock(PatternStepDefinition.class);
+        when(stepDefinition.getCompiledPattern()).thenReturn(Pattern.compile(regex));
+        when(stepDefinition.getPattern()).thenReturn(regex);
+        return stepDefinition;
+    }
+
+    private Step step(String name) {
+        return new Step(null, "Given ", name, 1, null, null);
+    }
+}
@@ -0,0 +1,86 @@
+package cucumber.runtime;
+
+import gherkin.TagExpression;
+import gherkin.formatter.model.Tag;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TagPredicateTest {
+    private static final List<List<String>> EXPRESSIONS = asList(
+            Collections.<String>emptyList(),
+            asList("@foo"),
+            asList("~@foo"),
+            asList("@foo,@bar"),
+            asList("@foo", "@bar"),
+            asList("~@foo", "~@bar"),
+            asList("@foo,~@bar"),
+            asList(" @foo , @bar ", "~@baz"),
+            asList("@foo:3,@bar", "~@baz:1"),
+            asList("@never_seen_in_a_feature"),
+            asList("~@never_seen_in_a_feature_either"));
+
+    private static final List<List<String>> TAG_NAMES = asList(
+            Collections.<String>emptyList(),
+            asList("@foo"),
+            asList("@bar"),
+            asList("@baz"),
+            asList("@foo", "@bar"),
+            asList("@foo", "@baz"),
+            asList("@bar", "@baz"),
+            asList("@foo", "@bar", "@baz"),
+            asList("@not_in_any_expression"));
+
+    @Test
+    public void matches_like_a_tag_expression() {
+        for (List<String> expression : EXPRESSIONS) {
+            TagExpression tagExpression = new TagExpression(expression);
+            TagPredicate tagPredicate = new TagPredicate(expression);
+            for (List<String> tagNames : TAG_NAMES) {
+                List<Tag> tags = tags(tagNames);
+                boolean expected = tagExpression.evaluate(tags);
+                String message = expression + " " + tagNames;
+                assertEquals(message, expected, tagPredicate.matches(tags));
+                assertEquals(message, expected, tagPredicate.matches(new InternedTags(tags)));
+            }
+        }
+    }
+
+    @Test
+    public void is_empty_without_expressions() {
+        assertTrue(new TagPredicate(Collections.<String>emptyList()).isEmpty());
+        assertFalse(new TagPredicate(asList("@foo")).isEmpty());
+    }
+
+    @Test
+    public void interned_tags_are_a_set_of_the_tags() {
+        List<Tag> tags = tags(asList("@foo", "@bar", "@foo"));
+        InternedTags internedTags = new InternedTags(tags);
+
+        assertEquals(2, internedTags.size());
+        assertTrue(internedTags.contains(new Tag("@foo", 1)));
+        assertFalse(internedTags.contains(new Tag("@baz", 1)));
+    }
+
+    @Test
+    public void gives_every_tag_name_one_id() {
+        assertEquals(TagIds.intern("@foo"), TagIds.intern("@foo"));
+        assertTrue(TagIds.intern("@foo") != TagIds.intern("@bar"));
+    }
+
+    private static List<Tag> tags(Collection<String> tagNames) {
+        List<Tag> tags = new ArrayList<Tag>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName, 1));
+        }
+        return tags;
+    }
+}
@@ -3,6 +3,7 @@ package cucumber.runtime;
 import org.junit.Test;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static java.lang.Thread.sleep;
@@ -62,12 +63,51 @@ public class TimeoutTest {
     }
 
     @Test
-    public void doesnt_leak_threads() throws Throwable {
+    public void counts_timed_calls_and_timeouts() throws Throwable {
+        final Slow slow = new Slow();
+        Timeout.Statistics before = Timeout.getStatistics();
+        Timeout.timeout(new Timeout.Callback<String>() {
+            @Override
+            public String call() throws Throwable {
+                return slow.slow(1);
+            }
+        }, 1000);
+        try {
+            Timeout.timeout(new Timeout.Callback<Void>() {
+                @Override
+                public Void call() throws Throwable {
+                    slow.infinite();
+                    return null;
+                }
+            }, 10);
+            fail();
+        } catch (TimeoutException expected) {
+        }
+        Timeout.Statistics after = Timeout.getStatistics();
 
-        long initialNumberOfThreads = Thread.getAllStackTraces().size();
-        long currentNumberOfThreads = Long.MAX_VALUE;
+        assertEquals(2, after.getTimedCalls() - before.getTimedCalls());
+        assertEquals(1, after.getTimeouts() - before.getTimeouts());
+    }
 
-        boolean cleanedUp = false;
+    @Test
+    public void tells_how_close_calls_came_to_their_timeout() {
+        Timeout.Recording recording = Timeout.startRecording();
+        Timeout.account(false, TimeUnit.MILLISECONDS.toNanos(100), 120);
+        Timeout.account(false, TimeUnit.MILLISECONDS.toNanos(10), 120);
+        Timeout.account(true, TimeUnit.MILLISECONDS.toNanos(120), 120);
+        recording.stop();
+        Timeout.account(false, TimeUnit.MILLISECONDS.toNanos(120), 120);
+        Timeout.Statistics statistics = recording.getStatistics();
+
+        assertEquals(3, statistics.getTimedCalls());
+        assertEquals(1, statistics.getTimeouts());
+        assertEquals(1, statistics.getNearMisses());
+        assertEquals(0.833, statistics.getMaxFractionUsed(), 0.0005);
+    }
+
+    @Test
+    public void shares_one_timer_thread_and_stops_it_when_idle() throws Throwable {
+        long initialNumberOfThreads = Thread.getAllStackTraces().size();
         for (int i = 0; i < 1000; i++) {
             Timeout.timeout(new Timeout.Callback<String>() {
                 @Override
@@ -75,9 +115,18 @@ public class TimeoutTest {
                     return null;
                 }
             }, 10);
-            Thread.sleep(5);
+        }
+        long busyNumberOfThreads = Thread.getAllStackTraces().size();
+        assertTrue(String.format("More than one timer thread, initial count: %d busy count: %d",
+                        initialNumberOfThreads, busyNumberOfThreads),
+                busyNumberOfThreads <= initialNumberOfThreads + 1);
+
+        long currentNumberOfThreads = Long.MAX_VALUE;
+        boolean cleanedUp = false;
+        for (int i = 0; i < 100; i++) {
+            Thread.sleep(Timeout.KEEP_ALIVE_MILLIS / 10);
             currentNumberOfThreads = Thread.getAllStackTraces().size();
-            if (i > 20 && currentNumberOfThreads <= initialNumberOfThreads) {
+            if (currentNumberOfThreads <= initialNumberOfThreads) {
                 cleanedUp = true;
                 break;
             }
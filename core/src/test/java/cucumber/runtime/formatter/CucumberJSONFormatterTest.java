@@ -0,0 +1,165 @@
+package cucumber.runtime.formatter;
+
+import gherkin.formatter.Argument;
+import gherkin.formatter.JSONFormatter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import gherkin.formatter.model.Scenario;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+import gherkin.formatter.model.Tag;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CucumberJSONFormatterTest {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+    private static final List<Tag> NO_TAGS = Collections.emptyList();
+
+    @Test
+    public void writes_the_same_json_as_gherkin() {
+        StringBuilder expected = new StringBuilder();
+        StringBuilder actual = new StringBuilder();
+
+        run(new InMemoryJSONFormatter(expected));
+        run(new CucumberJSONFormatter(actual));
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void writes_an_empty_array_without_features() {
+        StringBuilder out = new StringBuilder();
+        CucumberJSONFormatter formatter = new CucumberJSONFormatter(out);
+        formatter.done();
+        formatter.close();
+
+        assertEquals("[]", out.toString());
+    }
+
+    @Test
+    public void writes_finished_feature_elements_before_done() {
+        StringBuilder out = new StringBuilder();
+        CucumberJSONFormatter formatter = new CucumberJSONFormatter(out);
+        formatter.uri("first.feature");
+        formatter.feature(new Feature(NO_COMMENTS, NO_TAGS, "Feature", "First", "", 1, "first"));
+        formatter.startOfScenarioLifeCycle(scenario("Streamed", 3));
+        formatter.scenario(scenario("Streamed", 3));
+        formatter.step(step("a step", 4));
+        formatter.endOfScenarioLifeCycle(scenario("Streamed", 3));
+        formatter.startOfScenarioLifeCycle(scenario("Pending", 6));
+        formatter.scenario(scenario("Pending", 6));
+
+        assertTrue(out.toString(), out.toString().contains("\"name\": \"Streamed\""));
+        assertTrue(out.toString(), !out.toString().contains("\"name\": \"Pending\""));
+    }
+
+    private void run(JSONFormatter formatter) {
+        formatter.uri("cucumber/first.feature");
+        formatter.feature(new Feature(NO_COMMENTS, NO_TAGS, "Feature", "First <&'=>", "Quote \" and \\ and\ttab\n ", 1, "first"));
+
+        formatter.startOfScenarioLifeCycle(scenario("Passing", 6));
+        formatter.before(match("Hooks.before()"), result(Result.PASSED));
+        formatter.background(new Background(NO_COMMENTS, "Background", "", "", 3));
+        formatter.step(step("a background step", 4));
+        formatter.match(match("Steps.background()"));
+        formatter.result(result(Result.PASSED));
+        formatter.scenario(scenario("Passing", 6));
+        formatter.step(step("an embedding", 7));
+        formatter.step(step("some output", 8));
+        formatter.match(match("Steps.embedding()"));
+        for (int length = 0; length < 7; length++) {
+            formatter.embedding("image/png", bytes(length));
+        }
+        formatter.embedding("application/octet-stream", bytes(10000));
+        formatter.result(result(Result.PASSED));
+        formatter.appendDuration(2);
+        formatter.match(match("Steps.output()"));
+        formatter.write("Hello <world>");
+        formatter.result(new Result(Result.FAILED, 5L, "boom\n\tat Steps.output()"));
+        formatter.after(match("Hooks.after()"), result(Result.PASSED));
+        formatter.endOfScenarioLifeCycle(scenario("Passing", 6));
+
+        formatter.scenarioOutline(new ScenarioOutline(NO_COMMENTS, NO_TAGS, "Scenario Outline", "Outline", "", 10, "first;outline"));
+        formatter.step(step("an outline step with <x>", 11));
+        formatter.startOfScenarioLifeCycle(scenario("Outline", 15));
+        formatter.scenario(scenario("Outline", 15));
+        formatter.step(step("an outline step with 1", 11));
+        formatter.match(match(null));
+        formatter.result(result(Result.UNDEFINED.getStatus()));
+        formatter.endOfScenarioLifeCycle(scenario("Outline", 15));
+        formatter.eof();
+
+        formatter.uri("cucumber/empty.feature");
+        formatter.feature(new Feature(NO_COMMENTS, NO_TAGS, "Feature", "Empty", "", 1, "empty"));
+        formatter.eof();
+
+        formatter.done();
+        formatter.close();
+    }
+
+    /**
+     * The formatter as it was before it streamed: gherkin's, leaving out scenario outlines.
+     */
+    private static class InMemoryJSONFormatter extends JSONFormatter {
+        private boolean inScenarioOutline = false;
+
+        public InMemoryJSONFormatter(Appendable out) {
+            super(out);
+        }
+
+        @Override
+        public void scenarioOutline(ScenarioOutline scenarioOutline) {
+            inScenarioOutline = true;
+        }
+
+        @Override
+        public void examples(Examples examples) {
+        }
+
+        @Override
+        public void startOfScenarioLifeCycle(Scenario scenario) {
+            inScenarioOutline = false;
+            super.startOfScenarioLifeCycle(scenario);
+        }
+
+        @Override
+        public void step(Step step) {
+            if (!inScenarioOutline) {
+                super.step(step);
+            }
+        }
+    }
+
+    private static Scenario scenario(String name, int line) {
+        return new Scenario(NO_COMMENTS, NO_TAGS, "Scenario", name, "", line, "first;" + name.toLowerCase());
+    }
+
+    private static Step step(String name, int line) {
+        return new Step(NO_COMMENTS, "Given ", name, line, null, null);
+    }
+
+    private static Match match(String location) {
+        return new Match(Collections.<Argument>emptyList(), location);
+    }
+
+    private static Result result(String status) {
+        return new Result(status, 1L, null);
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 37);
+        }
+        return bytes;
+    }
+}
@@ -18,6 +18,10 @@ import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import java.io.File;
@@ -35,6 +39,7 @@ import java.util.Scanner;
 
 import static cucumber.runtime.TestHelper.result;
 import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -557,6 +562,52 @@ public class JUnitFormatterTest {
         assertXmlEqual(expected, actual);
     }
 
+    @Test
+    public void should_keep_a_complete_report_after_every_test_case() throws Exception {
+        final File report = File.createTempFile("cucumber-jvm-junit", ".xml");
+        final JUnitFormatter junitFormatter = createJUnitFormatter(report);
+
+        junitFormatter.uri(uri());
+        junitFormatter.feature(feature("feature name"));
+        junitFormatter.scenario(scenario("first scenario"));
+        junitFormatter.step(step("keyword ", "step name"));
+        junitFormatter.match(match());
+        junitFormatter.result(result("failed", new AssertionError("failed")));
+        junitFormatter.endOfScenarioLifeCycle(scenario("first scenario"));
+        junitFormatter.scenario(scenario("second scenario"));
+        junitFormatter.step(step("keyword ", "step name"));
+        junitFormatter.match(match());
+        junitFormatter.result(result("passed"));
+        junitFormatter.endOfScenarioLifeCycle(scenario("second scenario"));
+        // The run is killed before done()
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(report);
+        Element testSuite = document.getDocumentElement();
+        assertEquals("2", testSuite.getAttribute("tests"));
+        assertEquals("1", testSuite.getAttribute("failures"));
+        assertEquals(2, testSuite.getElementsByTagName("testcase").getLength());
+    }
+
+    @Test
+    public void should_split_cdata_end_markers_in_step_names() throws Exception {
+        final File report = File.createTempFile("cucumber-jvm-junit", ".xml");
+        final JUnitFormatter junitFormatter = createJUnitFormatter(report);
+
+        junitFormatter.uri(uri());
+        junitFormatter.feature(feature("feature name"));
+        junitFormatter.scenario(scenario("scenario name"));
+        junitFormatter.step(step("keyword ", "step name ]]> with cdata end"));
+        junitFormatter.match(match());
+        junitFormatter.result(result("passed"));
+        junitFormatter.eof();
+        junitFormatter.done();
+        junitFormatter.close();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(report);
+        assertEquals("keyword step name ]]> with cdata end........................................passed\n",
+                document.getElementsByTagName("system-out").item(0).getTextContent());
+    }
+
     @Test
     public void should_handle_empty_scenarios() throws Throwable {
         CucumberFeature feature = TestHelper.feature("path/test.feature",
@@ -0,0 +1,65 @@
+package cucumber.runtime.formatter;
+
+import cucumber.runtime.StepDefinitionMatch;
+import cucumber.runtime.Timeout;
+import cucumber.runtime.metrics.MetricsRegistry;
+import gherkin.formatter.Argument;
+import gherkin.formatter.model.Match;
+import gherkin.formatter.model.Result;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsFormatterTest {
+    @Test
+    public void records_steps_hooks_and_undefined_steps() {
+        MetricsFormatter formatter = new MetricsFormatter(new StringBuilder());
+        StepDefinitionMatch match = mock(StepDefinitionMatch.class);
+        when(match.getPattern()).thenReturn("stepDef");
+
+        formatter.match(match);
+        formatter.result(new Result(Result.PASSED, 12345L, null));
+        formatter.match(match);
+        formatter.result(new Result("pending", 100L, null));
+        formatter.match(Match.UNDEFINED);
+        formatter.result(Result.UNDEFINED);
+        formatter.before(new Match(Collections.<Argument>emptyList(), "Hooks.before()"), new Result(Result.PASSED, 10L, null));
+
+        MetricsRegistry registry = formatter.getRegistry();
+        assertEquals(2, registry.getStepHistogram("stepDef").getCount());
+        assertEquals(1, registry.getStepCount("pending"));
+        assertEquals(1, registry.getStepCount(Result.UNDEFINED.getStatus()));
+        assertEquals(1, registry.getHookHistogram("Hooks.before()").getCount());
+    }
+
+    @Test
+    public void records_the_calls_with_a_timeout_made_during_the_run() throws Throwable {
+        MetricsFormatter formatter = new MetricsFormatter(new StringBuilder());
+        Timeout.timeout(new Timeout.Callback<Void>() {
+            @Override
+            public Void call() {
+                return null;
+            }
+        }, 10000);
+        formatter.done();
+
+        assertEquals(1, formatter.getRegistry().getTimeouts().getTimedCalls());
+        assertEquals(0, formatter.getRegistry().getTimeouts().getTimeouts());
+    }
+
+    @Test
+    public void writes_metrics_when_done() {
+        StringBuilder json = new StringBuilder();
+        new MetricsFormatter(json).done();
+        assertTrue(json.toString(), json.toString().startsWith("{"));
+
+        StringBuilder text = new StringBuilder();
+        new PrometheusFormatter(text).done();
+        assertTrue(text.toString(), text.toString().startsWith("# HELP cucumber_steps_total"));
+    }
+}
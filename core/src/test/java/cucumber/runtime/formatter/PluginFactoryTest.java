@@ -77,6 +77,12 @@ public class PluginFactoryTest {
         assertEquals(UsageFormatter.class, plugin.getClass());
     }
 
+    @Test
+    public void instantiates_metrics_plugins_with_file_arg() throws IOException {
+        assertEquals(MetricsFormatter.class, fc.create("metrics:" + TempDir.createTempFile().getAbsolutePath()).getClass());
+        assertEquals(PrometheusFormatter.class, fc.create("prometheus:" + TempDir.createTempFile().getAbsolutePath()).getClass());
+    }
+
     @Test
     public void plugin_does_not_buffer_its_output() throws IOException {
         PrintStream previousSystemOut = System.out;
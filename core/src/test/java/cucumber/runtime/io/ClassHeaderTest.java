@@ -0,0 +1,62 @@
+package cucumber.runtime.io;
+
+import cucumber.runtime.io.scanned.AnnotatedMethods;
+import cucumber.runtime.io.scanned.Implementation;
+import cucumber.runtime.io.scanned.Unrelated;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClassHeaderTest {
+    @Test
+    public void reads_names_of_the_class_and_its_super_types() throws IOException {
+        ClassHeader header = read(Implementation.class);
+
+        assertEquals(Implementation.class.getName(), header.getName());
+        assertEquals(Object.class.getName(), header.getSuperName());
+        assertEquals(singletonList("cucumber.runtime.io.scanned.Base"), header.getInterfaceNames());
+    }
+
+    @Test
+    public void reads_annotations_of_methods() throws IOException {
+        ClassHeader header = read(AnnotatedMethods.class);
+
+        assertEquals(new HashSet<String>(asList("org.junit.Test", "java.lang.Deprecated")), header.getMethodAnnotationNames());
+    }
+
+    @Test
+    public void reads_classes_with_wide_constants() throws IOException {
+        ClassHeader header = read(Unrelated.class);
+
+        assertEquals(Unrelated.class.getName(), header.getName());
+        assertTrue(header.getMethodAnnotationNames().isEmpty());
+    }
+
+    @Test
+    public void has_no_super_class_for_interfaces() throws IOException {
+        assertNull(read(Runnable.class).getSuperName());
+    }
+
+    @Test(expected = IOException.class)
+    public void fails_on_other_files() throws IOException {
+        ClassHeader.read(new ByteArrayInputStream("Feature: not a class".getBytes("UTF-8")));
+    }
+
+    private ClassHeader read(Class<?> clazz) throws IOException {
+        InputStream classFile = getClass().getClassLoader().getResourceAsStream(clazz.getName().replace('.', '/') + ".class");
+        try {
+            return ClassHeader.read(classFile);
+        } finally {
+            classFile.close();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package cucumber.runtime.io;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertEquals;
 
@@ -25,4 +28,24 @@ public class FileResourceTest {
         // test
         assertEquals("test.feature", toTest.getPath());
     }
+
+    @Test
+    public void reads_small_and_large_files() throws IOException {
+        for (int size : new int[]{0, 10, 1024 * 1024}) {
+            File file = File.createTempFile("cucumber", ".feature");
+            try {
+                byte[] bytes = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    bytes[i] = (byte) i;
+                }
+                FileOutputStream out = new FileOutputStream(file);
+                out.write(bytes);
+                out.close();
+
+                assertEquals(ByteBuffer.wrap(bytes), new FileResource(file.getParentFile(), file).read());
+            } finally {
+                file.delete();
+            }
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package cucumber.runtime.io;
+
+import cucumber.runtime.io.scanned.AnnotatedMethods;
+import cucumber.runtime.io.scanned.Base;
+import cucumber.runtime.io.scanned.Implementation;
+import cucumber.runtime.io.scanned.InheritedAnnotatedMethods;
+import cucumber.runtime.io.scanned.SubImplementation;
+import cucumber.runtime.io.scanned.Unrelated;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ResourceLoaderClassFinderTest {
+    private final RecordingClassLoader classLoader = new RecordingClassLoader(getClass().getClassLoader());
+    private final ResourceLoaderClassFinder classFinder = new ResourceLoaderClassFinder(new MultiLoader(classLoader), classLoader);
+
+    @Test
+    public void finds_descendants_without_loading_other_classes() {
+        assertEquals(new HashSet<Class<?>>(asList(Implementation.class, SubImplementation.class)),
+                new HashSet<Class<?>>(classFinder.getDescendants(Base.class, "cucumber.runtime.io.scanned")));
+
+        assertEquals(new HashSet<String>(asList(Base.class.getName(), Implementation.class.getName(), SubImplementation.class.getName())),
+                new HashSet<String>(classLoader.loadedClassNames));
+    }
+
+    @Test
+    public void finds_all_classes_as_descendants_of_object() {
+        assertEquals(6, classFinder.getDescendants(Object.class, "cucumber.runtime.io.scanned").size());
+    }
+
+    @Test
+    public void finds_classes_with_method_annotations_without_loading_other_classes() {
+        assertEquals(new HashSet<Class<?>>(asList(AnnotatedMethods.class, InheritedAnnotatedMethods.class)),
+                new HashSet<Class<?>>(classFinder.getClassesWithMethodAnnotations("cucumber.runtime.io.scanned", "org.junit")));
+
+        assertFalse(classLoader.loadedClassNames.contains(Unrelated.class.getName()));
+        assertFalse(classLoader.loadedClassNames.contains(Implementation.class.getName()));
+    }
+
+    @Test
+    public void does_not_match_annotations_from_other_packages() {
+        assertEquals(0, classFinder.getClassesWithMethodAnnotations("cucumber.runtime.io.scanned", "org.jun").size());
+    }
+
+    private static class RecordingClassLoader extends ClassLoader {
+        private final List<String> loadedClassNames = new ArrayList<String>();
+
+        RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Class<?> loadClass(String name) throws ClassNotFoundException {
+            loadedClassNames.add(name);
+            return super.loadClass(name);
+        }
+    }
+}
@@ -7,8 +7,10 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 
 public class ResourceLoaderTest {
@@ -31,6 +33,34 @@ public class ResourceLoaderTest {
         assertEquals(1, toList(files).size());
     }
 
+    @Test
+    public void loads_resources_from_nested_filesystem_dirs() throws IOException {
+        File root = File.createTempFile("cucumber", "");
+        root.delete();
+        File nested = new File(root, "a/b.feature");
+        try {
+            nested.mkdirs();
+            new File(root, "c.feature").createNewFile();
+            new File(root, "a/d.txt").createNewFile();
+            new File(nested, "e.feature").createNewFile();
+
+            List<String> paths = new ArrayList<String>();
+            for (Resource resource : new FileResourceLoader().resources(root.getPath(), ".feature")) {
+                paths.add(resource.getPath());
+            }
+            Collections.sort(paths);
+
+            assertEquals(asList("a" + File.separator + "b.feature" + File.separator + "e.feature", "c.feature"), paths);
+        } finally {
+            new File(nested, "e.feature").delete();
+            nested.delete();
+            new File(root, "a/d.txt").delete();
+            new File(root, "a").delete();
+            new File(root, "c.feature").delete();
+            root.delete();
+        }
+    }
+
     @Test
     public void loads_resources_from_jar_on_classpath() throws IOException {
         Iterable<Resource> files = new ClasspathResourceLoader(Thread.currentThread().getContextClassLoader()).resources("cucumber", ".properties");
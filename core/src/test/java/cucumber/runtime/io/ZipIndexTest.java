@@ -0,0 +1,117 @@
+package cucumber.runtime.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ZipIndexTest {
+    private File jar;
+
+    @Before
+    public void createJar() throws IOException {
+        jar = File.createTempFile("cucumber", ".jar");
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+        for (String name : asList("b/two.feature", "a/one.feature", "b/one.feature", "bc/three.feature", "c/four.feature")) {
+            out.putNextEntry(new ZipEntry(name));
+            out.closeEntry();
+        }
+        out.close();
+    }
+
+    @After
+    public void deleteJar() {
+        jar.delete();
+    }
+
+    @Test
+    public void finds_the_entries_under_a_path_in_the_order_of_the_jar() throws IOException {
+        ZipIndex index = ZipIndex.open(jar.getPath());
+        try {
+            assertEquals(asList("b/two.feature", "b/one.feature", "bc/three.feature"), names(index.entries("b")));
+            assertEquals(asList("b/two.feature", "b/one.feature"), names(index.entries("b/")));
+            assertEquals(asList("c/four.feature"), names(index.entries("c")));
+            assertEquals(0, index.entries("d").length);
+            assertEquals(5, index.entries("").length);
+        } finally {
+            index.release();
+        }
+    }
+
+    @Test
+    public void shares_the_index_until_the_last_reference_is_released() throws IOException {
+        ZipIndex first = ZipIndex.open(jar.getPath());
+        ZipIndex second = ZipIndex.open(jar.getPath());
+        assertSame(first, second);
+
+        first.release();
+        assertEquals(5, second.getZipFile().size());
+
+        second.release();
+        assertClosed(second);
+        assertNotSame(second, reopenAndRelease());
+    }
+
+    @Test
+    public void opens_a_new_index_for_a_modified_jar() throws IOException {
+        ZipIndex before = ZipIndex.open(jar.getPath());
+        try {
+            assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+            ZipIndex after = ZipIndex.open(jar.getPath());
+            assertNotSame(before, after);
+            after.release();
+            assertClosed(after);
+            assertEquals(5, before.getZipFile().size());
+        } finally {
+            before.release();
+        }
+        assertClosed(before);
+    }
+
+    @Test
+    public void releases_the_indexes_of_a_loader_on_close() throws IOException {
+        ZipIndexes indexes = new ZipIndexes();
+        ZipIndex index = indexes.get(jar.getPath());
+        assertSame(index, indexes.get(jar.getPath()));
+
+        indexes.close();
+
+        assertClosed(index);
+    }
+
+    private ZipIndex reopenAndRelease() throws IOException {
+        ZipIndex index = ZipIndex.open(jar.getPath());
+        index.release();
+        return index;
+    }
+
+    private static void assertClosed(ZipIndex index) {
+        try {
+            index.getZipFile().size();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    private static List<String> names(ZipEntry[] entries) {
+        List<String> names = new ArrayList<String>();
+        for (ZipEntry entry : entries) {
+            names.add(entry.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,10 @@
+package cucumber.runtime.io.scanned;
+
+import org.junit.Test;
+
+public class AnnotatedMethods {
+    @Test(expected = IllegalStateException.class, timeout = 1L)
+    @Deprecated
+    public void annotated() {
+    }
+}
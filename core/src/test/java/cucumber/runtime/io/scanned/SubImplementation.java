@@ -0,0 +1,4 @@
+package cucumber.runtime.io.scanned;
+
+public class SubImplementation extends Implementation {
+}
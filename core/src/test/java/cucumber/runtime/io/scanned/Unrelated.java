@@ -0,0 +1,6 @@
+package cucumber.runtime.io.scanned;
+
+public class Unrelated {
+    public static final long LONG = 42L;
+    public static final double DOUBLE = 4.2;
+}
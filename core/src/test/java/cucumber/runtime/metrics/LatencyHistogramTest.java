@@ -0,0 +1,77 @@
+package cucumber.runtime.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test
+    public void is_empty_before_anything_is_recorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void counts_small_values_exactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0.0);
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void keeps_large_values_within_one_percent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = {1000, 123456, 98765432, 3000000000L, Long.MAX_VALUE};
+        for (long value : values) {
+            LatencyHistogram single = new LatencyHistogram();
+            single.record(value);
+            single.record(value);
+            histogram.record(value);
+
+            long recorded = single.getValueAtPercentile(50);
+            assertTrue(value + " was " + recorded, recorded <= value && recorded >= value - value / 100);
+        }
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    public void finds_the_tail() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(1000000);
+        }
+        histogram.record(2000000000);
+
+        assertEquals(1000000, histogram.getValueAtPercentile(99.9), 10000);
+        assertEquals(2000000000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void records_negative_durations_as_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getMax());
+        assertEquals(1, histogram.getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_percentiles_above_100() {
+        new LatencyHistogram().getValueAtPercentile(101);
+    }
+}
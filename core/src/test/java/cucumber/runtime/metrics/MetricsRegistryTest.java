@@ -0,0 +1,85 @@
+package cucumber.runtime.metrics;
+
+import cucumber.runtime.Timeout;
+import gherkin.formatter.model.Result;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+    @Test
+    public void records_steps_per_pattern_and_counts_them_by_status() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordStep("^I have (\\d+) cukes$", Result.PASSED, 1000L);
+        registry.recordStep("^I have (\\d+) cukes$", Result.FAILED, 3000L);
+        registry.recordStep("^I have (\\d+) cukes$", Result.SKIPPED.getStatus(), null);
+        registry.recordUndefinedStep();
+
+        LatencyHistogram histogram = registry.getStepHistogram("^I have (\\d+) cukes$");
+        assertEquals(2, histogram.getCount());
+        assertEquals(3000, histogram.getMax());
+        assertEquals(1, registry.getStepCount(Result.PASSED));
+        assertEquals(1, registry.getStepCount(Result.FAILED));
+        assertEquals(1, registry.getStepCount(Result.SKIPPED.getStatus()));
+        assertEquals(1, registry.getStepCount(Result.UNDEFINED.getStatus()));
+        assertEquals(0, registry.getStepCount("pending"));
+    }
+
+    @Test
+    public void records_hooks_per_location() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordHook("Hooks.before()", 500L);
+        registry.recordHook("Hooks.before()", null);
+
+        assertEquals(1, registry.getHookHistogram("Hooks.before()").getCount());
+        assertNull(registry.getHookHistogram("Hooks.after()"));
+    }
+
+    @Test
+    public void exports_json() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordStep("a step", Result.PASSED, 2000000000L);
+        registry.recordHook("Hooks.before()", 1000L);
+
+        String json = registry.toJson();
+        assertTrue(json, json.contains("\"undefined\": 0"));
+        assertTrue(json, json.contains("\"passed\": 1"));
+        assertTrue(json, json.contains("\"a step\": {"));
+        assertTrue(json, json.contains("\"p99\": 2"));
+        assertTrue(json, json.contains("\"p999\": 2"));
+        assertTrue(json, json.contains("\"Hooks.before()\": {"));
+    }
+
+    @Test
+    public void exports_prometheus_text() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordStep("I say \"hi\"", Result.PASSED, 2000000000L);
+        registry.recordStep("pending step", "pending", 100L);
+
+        String text = registry.toPrometheus();
+        assertTrue(text, text.contains("# TYPE cucumber_steps_total counter\n"));
+        assertTrue(text, text.contains("cucumber_steps_total{status=\"pending\"} 1\n"));
+        assertTrue(text, text.contains("cucumber_steps_total{status=\"failed\"} 0\n"));
+        assertTrue(text, text.contains("# TYPE cucumber_step_duration_seconds summary\n"));
+        assertTrue(text, text.contains("cucumber_step_duration_seconds{pattern=\"I say \\\"hi\\\"\",quantile=\"0.99\"} 2\n"));
+        assertTrue(text, text.contains("cucumber_step_duration_seconds_sum{pattern=\"I say \\\"hi\\\"\"} 2\n"));
+        assertTrue(text, text.contains("cucumber_step_duration_seconds_count{pattern=\"pending step\"} 1\n"));
+        assertTrue(text, text.contains("# TYPE cucumber_hook_duration_seconds summary\n"));
+    }
+
+    @Test
+    public void exports_how_calls_with_a_timeout_did() {
+        Timeout.Recording recording = Timeout.startRecording();
+        recording.stop();
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordTimeouts(recording.getStatistics());
+
+        String json = registry.toJson();
+        assertTrue(json, json.contains("\"timedCalls\": 0"));
+        String text = registry.toPrometheus();
+        assertTrue(text, text.contains("# TYPE cucumber_timeouts_total counter\ncucumber_timeouts_total 0\n"));
+        assertTrue(text, text.contains("# TYPE cucumber_timeout_max_fraction_used gauge\ncucumber_timeout_max_fraction_used 0.0\n"));
+    }
+}
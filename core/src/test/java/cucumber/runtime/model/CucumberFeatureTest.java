@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
@@ -226,6 +227,78 @@ public class CucumberFeatureTest {
         }
     }
 
+    @Test
+    public void deals_scenarios_and_example_rows_to_shards_in_turn() throws Exception {
+        String featurePath1 = "path/bar.feature";
+        String feature1 = "" +
+                "Feature: bar\n" +
+                "  Scenario: scenario 1\n" +
+                "    * step\n" +
+                "  Scenario Outline: outline\n" +
+                "    * step <n>\n" +
+                "    Examples:\n" +
+                "      | n |\n" +
+                "      | 1 |\n" +
+                "      | 2 |\n" +
+                "      | 3 |\n";
+        String featurePath2 = "path/foo.feature";
+        String feature2 = "" +
+                "Feature: foo\n" +
+                "  Scenario: scenario 2\n" +
+                "    * step\n";
+        List<String> featurePaths = asList(featurePath2, featurePath1);
+
+        ResourceLoader resourceLoader1 = mockFeatureFileResource(featurePath1, feature1);
+        mockFeatureFileResource(resourceLoader1, featurePath2, feature2);
+        List<CucumberFeature> shard1 = CucumberFeature.load(resourceLoader1, featurePaths, emptyList(),
+                new PrintStream(new ByteArrayOutputStream()), null, new Shard(1, 2));
+
+        ResourceLoader resourceLoader2 = mockFeatureFileResource(featurePath1, feature1);
+        mockFeatureFileResource(resourceLoader2, featurePath2, feature2);
+        List<CucumberFeature> shard2 = CucumberFeature.load(resourceLoader2, featurePaths, emptyList(),
+                new PrintStream(new ByteArrayOutputStream()), null, new Shard(2, 2));
+
+        assertEquals(2, shard1.size());
+        assertEquals(asList("Scenario: scenario 1", "Scenario Outline: outline"), visualNames(shard1.get(0)));
+        assertEquals(asList("| 2 |"), exampleScenarioNames(shard1.get(0).getFeatureElements().get(1)));
+        assertEquals(asList("Scenario: scenario 2"), visualNames(shard1.get(1)));
+
+        assertEquals(1, shard2.size());
+        assertEquals(asList("Scenario Outline: outline"), visualNames(shard2.get(0)));
+        assertEquals(asList("| 1 |", "| 3 |"), exampleScenarioNames(shard2.get(0).getFeatureElements().get(0)));
+    }
+
+    @Test
+    public void logs_message_if_a_shard_has_no_scenarios() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ResourceLoader resourceLoader = mockFeatureFileResource("features", "" +
+                "Feature: foo\n" +
+                "  Scenario: scenario\n" +
+                "    * step\n");
+
+        CucumberFeature.load(resourceLoader, singletonList("features"), emptyList(), new PrintStream(baos), null, new Shard(2, 2));
+
+        assertEquals(String.format("None of the scenarios at [features] are in shard 2/2%n"), baos.toString());
+    }
+
+    private static List<String> visualNames(CucumberFeature cucumberFeature) {
+        List<String> visualNames = new ArrayList<String>();
+        for (CucumberTagStatement cucumberTagStatement : cucumberFeature.getFeatureElements()) {
+            visualNames.add(cucumberTagStatement.getVisualName());
+        }
+        return visualNames;
+    }
+
+    private static List<String> exampleScenarioNames(CucumberTagStatement cucumberScenarioOutline) {
+        List<String> visualNames = new ArrayList<String>();
+        for (CucumberExamples cucumberExamples : ((CucumberScenarioOutline) cucumberScenarioOutline).getCucumberExamplesList()) {
+            for (CucumberScenario exampleScenario : cucumberExamples.createExampleScenarios()) {
+                visualNames.add(exampleScenario.getVisualName());
+            }
+        }
+        return visualNames;
+    }
+
     private ResourceLoader mockFeatureFileResource(String featurePath, String feature)
             throws IOException {
         ResourceLoader resourceLoader = mock(ResourceLoader.class);
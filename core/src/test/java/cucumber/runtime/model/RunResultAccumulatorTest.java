@@ -0,0 +1,43 @@
+package cucumber.runtime.model;
+
+import cucumber.runtime.Stats;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RunResultAccumulatorTest {
+    @Test
+    public void is_empty_when_nothing_was_added() {
+        RunResult runResult = new RunResultAccumulator().toRunResult();
+
+        assertTrue(runResult.errors.isEmpty());
+    }
+
+    @Test
+    public void keeps_errors_in_the_order_they_were_added() {
+        Throwable first = new Exception("first");
+        Throwable second = new Exception("second");
+        Throwable third = new Exception("third");
+
+        RunResultAccumulator accumulator = new RunResultAccumulator();
+        accumulator.add(new RunResult(new Stats(), asList(first, second)));
+        accumulator.add(RunResult.IDENTITY);
+        accumulator.add(new RunResult(new Stats(), Collections.singletonList(third)));
+
+        assertEquals(asList(first, second, third), accumulator.toRunResult().errors);
+    }
+
+    @Test
+    public void returns_a_new_result_every_time() {
+        RunResultAccumulator accumulator = new RunResultAccumulator();
+        RunResult before = accumulator.toRunResult();
+        accumulator.add(new RunResult(new Stats(), Collections.<Throwable>singletonList(new Exception())));
+
+        assertTrue(before.errors.isEmpty());
+        assertEquals(1, accumulator.toRunResult().errors.size());
+    }
+}
@@ -0,0 +1,81 @@
+package cucumber.runtime.table;
+
+import cucumber.runtime.CucumberException;
+import gherkin.formatter.model.Comment;
+import gherkin.formatter.model.DataTableRow;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ColumnarCellsTest {
+    private static final List<Comment> NO_COMMENTS = Collections.emptyList();
+
+    @Test
+    public void rows_are_views_of_the_cells() {
+        ColumnarCells cells = ColumnarCells.fromRows(rows(asList("a", "b", "c"), asList("1", "2", "3")));
+
+        assertEquals(2, cells.rowCount());
+        assertEquals(3, cells.columnCount());
+        assertEquals(asList(asList("a", "b", "c"), asList("1", "2", "3")), cells.rows());
+    }
+
+    @Test
+    public void keeps_the_cell_strings_of_the_rows() {
+        String cell = new String("a");
+        ColumnarCells cells = ColumnarCells.fromRows(rows(asList(cell)));
+
+        assertSame(cell, cells.rows().get(0).get(0));
+    }
+
+    @Test
+    public void transposes_without_copying() {
+        ColumnarCells cells = ColumnarCells.fromRows(rows(asList("a", "b", "c"), asList("1", "2", "3")));
+
+        ColumnarCells transposed = cells.transpose();
+
+        assertEquals(asList(asList("a", "1"), asList("b", "2"), asList("c", "3")), transposed.rows());
+        assertEquals(cells.rows(), transposed.transpose().rows());
+    }
+
+    @Test
+    public void supports_empty_tables() {
+        ColumnarCells cells = ColumnarCells.fromRows(Collections.<DataTableRow>emptyList());
+
+        assertEquals(0, cells.rows().size());
+        assertEquals(0, cells.transpose().rows().size());
+    }
+
+    @Test(expected = CucumberException.class)
+    public void rejects_unbalanced_rows() {
+        ColumnarCells.fromRows(rows(asList("a", "b"), asList("1")));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void rows_are_immutable() {
+        ColumnarCells.fromRows(rows(asList("a"))).rows().remove(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cells_are_immutable() {
+        ColumnarCells.fromRows(rows(asList("a"))).rows().get(0).set(0, "b");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void checks_column_bounds() {
+        ColumnarCells.fromRows(rows(asList("a", "b"))).transpose().rows().get(0).get(1);
+    }
+
+    private static List<DataTableRow> rows(List<String>... cells) {
+        List<DataTableRow> rows = new ArrayList<DataTableRow>();
+        for (int i = 0; i < cells.length; i++) {
+            rows.add(new DataTableRow(NO_COMMENTS, cells[i], i + 1));
+        }
+        return rows;
+    }
+}
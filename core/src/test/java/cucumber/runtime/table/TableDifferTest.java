@@ -4,6 +4,7 @@ import cucumber.api.DataTable;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.Arrays.asList;
@@ -160,6 +161,21 @@ public class TableDifferTest {
         }
     }
 
+    @Test(expected = TableDiffException.class)
+    public void should_report_only_the_first_differences() {
+        try {
+            new TableDiffer(table(), otherTableWithDeletedAndInserted(), 2).calculateDiffs();
+        } catch (TableDiffException e) {
+            String expected = "" +
+                    "Tables were not identical (showing up to 2 difference(s)):\n" +
+                    "      | Aslak | aslak@email.com | 123 |\n" +
+                    "    - | Joe   | joe@email.com   | 234 |\n" +
+                    "    + | Doe   | joe@email.com   | 234 |\n";
+            assertEquals(expected, e.getMessage());
+            throw e;
+        }
+    }
+
     @Test
     public void considers_same_table_as_equal() {
         table().diff(table().raw());
@@ -439,4 +455,50 @@ public class TableDifferTest {
             throw e;
         }
     }
+
+    @Test(expected = TableDiffException.class)
+    public void unordered_diff_with_duplicate_missing_in_other() {
+        try {
+            tableWithDuplicate().unorderedDiff(otherTableWithDifferentOrder());
+        } catch (TableDiffException e) {
+            String expected = "" +
+                    "Tables were not identical:\n" +
+                    "      | Aslak | aslak@email.com | 123 |\n" +
+                    "      | Joe   | joe@email.com   | 234 |\n" +
+                    "      | Bryan | bryan@email.org | 456 |\n" +
+                    "    - | Joe   | joe@email.com   | 234 |\n" +
+                    "      | Ni    | ni@email.com    | 654 |\n" +
+                    "    - | Ni    | ni@email.com    | 654 |\n";
+            assertEquals(expected, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test(expected = TableDiffException.class)
+    public void unordered_diff_reports_only_the_first_differences() {
+        try {
+            table().unorderedDiff(otherTableWithDeletedAndInsertedDifferentOrder(), 3);
+        } catch (TableDiffException e) {
+            String expected = "" +
+                    "Tables were not identical (showing up to 3 difference(s)):\n" +
+                    "      | Aslak | aslak@email.com | 123 |\n" +
+                    "    - | Joe   | joe@email.com   | 234 |\n" +
+                    "      | Bryan | bryan@email.org | 456 |\n" +
+                    "    - | Ni    | ni@email.com    | 654 |\n" +
+                    "    + | Doe   | joe@email.com   | 234 |\n";
+            assertEquals(expected, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Test
+    public void unordered_diff_of_large_tables() {
+        List<List<String>> rows = new ArrayList<List<String>>();
+        for (int i = 0; i < 20000; i++) {
+            rows.add(asList(String.valueOf(i), "user " + i));
+        }
+        DataTable expected = DataTable.create(rows);
+        Collections.reverse(rows);
+        expected.unorderedDiff(rows);
+    }
 }
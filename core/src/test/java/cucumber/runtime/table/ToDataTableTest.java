@@ -24,10 +24,14 @@ public class ToDataTableTest {
 
     @Before
     public void createTableConverterWithDateFormat() {
-        LocalizedXStreams.LocalizedXStream xStream = new LocalizedXStreams(Thread.currentThread().getContextClassLoader()).get(Locale.US);
+        LocalizedXStreams.LocalizedXStream xStream = new LocalizedXStreams(Thread.currentThread().getContextClassLoader(), complexTypeConverter()).get(Locale.US);
         tc = new TableConverter(xStream, new ParameterInfo(null, DD_MM_YYYY, null, null));
     }
 
+    protected ComplexTypeConverter complexTypeConverter() {
+        return null;
+    }
+
     @Test
     public void converts_list_of_beans_to_table() {
         List<UserPojo> users = tc.toList(personTable(), UserPojo.class);
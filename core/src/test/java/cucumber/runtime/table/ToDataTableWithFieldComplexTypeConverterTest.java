@@ -0,0 +1,13 @@
+package cucumber.runtime.table;
+
+import cucumber.runtime.xstream.FieldComplexTypeConverter;
+
+/**
+ * Runs the same conversions with the field converter, which must give the same results and errors as XStream.
+ */
+public class ToDataTableWithFieldComplexTypeConverterTest extends ToDataTableTest {
+    @Override
+    protected ComplexTypeConverter complexTypeConverter() {
+        return new FieldComplexTypeConverter();
+    }
+}
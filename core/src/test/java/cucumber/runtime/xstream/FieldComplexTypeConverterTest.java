@@ -0,0 +1,107 @@
+package cucumber.runtime.xstream;
+
+import cucumber.deps.com.thoughtworks.xstream.annotations.XStreamAlias;
+import cucumber.deps.com.thoughtworks.xstream.converters.SingleValueConverter;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FieldComplexTypeConverterTest {
+    private final LocalizedXStreams.LocalizedXStream xStream = new LocalizedXStreams(Thread.currentThread().getContextClassLoader()).get(Locale.US);
+    private final FieldComplexTypeConverter converter = new FieldComplexTypeConverter();
+
+    public static class Person {
+        private String name;
+        private int age;
+        private Long credits;
+        private boolean active;
+    }
+
+    public static class Employee extends Person {
+        private String employer;
+    }
+
+    public static class Aliased {
+        @XStreamAlias("nickname")
+        private String name;
+    }
+
+    public static class Hiding extends Person {
+        private String name;
+    }
+
+    @Test
+    public void sets_fields_from_cells() {
+        List<Person> people = converter.toList(Person.class, asList("name", "age", "credits", "active"), asList(
+                asList("Sid", "21", "1,000", "true"),
+                asList("Frank", "-3", "", "false")
+        ), xStream, null);
+
+        assertEquals("Sid", people.get(0).name);
+        assertEquals(21, people.get(0).age);
+        assertEquals(Long.valueOf(1000), people.get(0).credits);
+        assertEquals(true, people.get(0).active);
+        assertEquals(-3, people.get(1).age);
+        assertNull(people.get(1).credits);
+    }
+
+    @Test
+    public void sets_inherited_fields() {
+        List<Employee> employees = converter.toList(Employee.class, asList("name", "employer"), asList(
+                asList("Sid", "Sex Pistols")
+        ), xStream, null);
+
+        assertEquals("Sid", ((Person) employees.get(0)).name);
+        assertEquals("Sex Pistols", employees.get(0).employer);
+    }
+
+    @Test
+    public void leaves_missing_fields_to_xstream() {
+        assertNull(converter.toList(Person.class, asList("name", "crapola"), asList(asList("Sid", "1")), xStream, null));
+    }
+
+    @Test
+    public void leaves_repeated_fields_to_xstream() {
+        assertNull(converter.toList(Person.class, asList("age", "age"), asList(asList("1", "2")), xStream, null));
+    }
+
+    @Test
+    public void leaves_empty_primitives_to_xstream() {
+        assertNull(converter.toList(Person.class, asList("age"), asList(asList("1"), asList("")), xStream, null));
+    }
+
+    @Test
+    public void leaves_xstream_annotated_types_to_xstream() {
+        assertNull(converter.toList(Aliased.class, asList("name"), asList(asList("Sid")), xStream, null));
+    }
+
+    @Test
+    public void leaves_hidden_fields_to_xstream() {
+        assertNull(converter.toList(Hiding.class, asList("name"), asList(asList("Sid")), xStream, null));
+    }
+
+    @Test
+    public void parses_plain_integers_like_the_locale_does() {
+        SingleValueConverter localeConverter = xStream.getSingleValueConverter(Integer.class);
+        SingleValueConverter plain = new FieldComplexTypeConverter.PlainIntegerConverter(localeConverter, Integer.class, Locale.US);
+
+        for (String value : asList("0", "7", "-42", "007", "123456789", "1,234", "12345678901", "", "1.5")) {
+            assertEquals(value, localeConverter.fromString(value), plain.fromString(value));
+        }
+    }
+
+    @Test
+    public void parses_plain_longs_like_the_locale_does() {
+        SingleValueConverter localeConverter = xStream.getSingleValueConverter(Long.class);
+        SingleValueConverter plain = new FieldComplexTypeConverter.PlainIntegerConverter(localeConverter, Long.class, Locale.US);
+
+        for (String value : asList("0", "-9", "123456789012345678", "1234567890123456789", "12,345,678,901")) {
+            assertEquals(value, localeConverter.fromString(value), plain.fromString(value));
+        }
+    }
+}
@@ -2,7 +2,7 @@ package cucumber.runtime.gosu;
 
 import cucumber.runtime.JdkPatternArgumentMatcher;
 import cucumber.runtime.ParameterInfo;
-import cucumber.runtime.StepDefinition;
+import cucumber.runtime.PatternStepDefinition;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
 import gherkin.formatter.model.Step;
@@ -14,7 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
-public class GosuStepDefinition implements StepDefinition {
+public class GosuStepDefinition implements PatternStepDefinition {
     private final Pattern pattern;
     private final StackTraceElement location;
     private final AbstractBlock block;
@@ -76,6 +76,11 @@ public class GosuStepDefinition implements StepDefinition {
         return pattern.pattern();
     }
 
+    @Override
+    public Pattern getCompiledPattern() {
+        return pattern;
+    }
+
     @Override
     public boolean isScenarioScoped() {
         return false;
@@ -1,7 +1,7 @@
 package cucumber.runtime.groovy;
 
-import cucumber.runtime.Backend;
 import cucumber.runtime.ClassFinder;
+import cucumber.runtime.ConcurrentBackend;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.Glue;
 import cucumber.runtime.UnreportedStepExecutor;
@@ -31,7 +31,7 @@ import java.util.regex.Pattern;
 
 import static cucumber.runtime.io.MultiLoader.packageName;
 
-public class GroovyBackend implements Backend {
+public class GroovyBackend implements ConcurrentBackend {
     public static ThreadLocal<GroovyBackend> instanceThreadLocal = new ThreadLocal<GroovyBackend>();
     private final Set<Class> scripts = new HashSet<Class>();
     private final SnippetGenerator snippetGenerator = new SnippetGenerator(new GroovySnippet());
@@ -40,7 +40,7 @@ public class GroovyBackend implements Backend {
     private final ClassFinder classFinder;
 
     private Collection<Closure> worldClosures = new LinkedList<Closure>();
-    private GroovyWorld world;
+    private final ThreadLocal<GroovyWorld> world = new ThreadLocal<GroovyWorld>();
     private Glue glue;
 
     public static GroovyBackend getInstance(){
@@ -102,12 +102,22 @@ public class GroovyBackend implements Backend {
         //Not used yet
     }
 
+    /**
+     * Every thread has its own world, and stepdef and hook closures are cloned before they are
+     * delegated to it.
+     */
+    @Override
+    public boolean supportsConcurrentWorlds() {
+        return true;
+    }
+
     @Override
     public void buildWorld() {
-        world = new GroovyWorld();
+        GroovyWorld groovyWorld = new GroovyWorld();
         for (Closure closure : worldClosures) {
-            world.registerWorld(closure.call());
+            groovyWorld.registerWorld(closure.call());
         }
+        world.set(groovyWorld);
     }
 
     private Script parse(Resource resource) {
@@ -124,7 +134,7 @@ public class GroovyBackend implements Backend {
 
     @Override
     public void disposeWorld() {
-        this.world = null;
+        world.remove();
     }
 
     @Override
@@ -149,17 +159,19 @@ public class GroovyBackend implements Backend {
     }
 
     public void invoke(Closure body, Object[] args) throws Throwable {
-        body.setResolveStrategy(Closure.DELEGATE_FIRST);
-        body.setDelegate(world);
+        // The closure is shared by all threads, so the world is delegated to a copy of it.
+        Closure worldBody = (Closure) body.clone();
+        worldBody.setResolveStrategy(Closure.DELEGATE_FIRST);
+        worldBody.setDelegate(world.get());
         try {
-            body.call(args);
+            worldBody.call(args);
         } catch (InvokerInvocationException e) {
             throw e.getCause();
         }
     }
 
     GroovyWorld getGroovyWorld() {
-        return world;
+        return world.get();
     }
 
     private static StackTraceElement currentLocation() {
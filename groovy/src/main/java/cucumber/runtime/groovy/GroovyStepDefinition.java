@@ -2,7 +2,7 @@ package cucumber.runtime.groovy;
 
 import cucumber.runtime.JdkPatternArgumentMatcher;
 import cucumber.runtime.ParameterInfo;
-import cucumber.runtime.StepDefinition;
+import cucumber.runtime.PatternStepDefinition;
 import cucumber.runtime.Timeout;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
@@ -15,7 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
-public class GroovyStepDefinition implements StepDefinition {
+public class GroovyStepDefinition implements PatternStepDefinition {
     private final Pattern pattern;
     private final long timeoutMillis;
     private final Closure body;
@@ -86,6 +86,11 @@ public class GroovyStepDefinition implements StepDefinition {
         return pattern.pattern();
     }
 
+    @Override
+    public Pattern getCompiledPattern() {
+        return pattern;
+    }
+
     @Override
     public boolean isScenarioScoped() {
         return false;
@@ -8,8 +8,15 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GroovyBackendTest {
@@ -51,6 +58,30 @@ public class GroovyBackendTest {
         assertNull(backend.getGroovyWorld());
     }
 
+    @Test
+    public void should_build_a_world_per_thread() throws Exception {
+        backend.buildWorld();
+        final GroovyWorld mainWorld = backend.getGroovyWorld();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            GroovyWorld otherWorld = executor.submit(new Callable<GroovyWorld>() {
+                @Override
+                public GroovyWorld call() {
+                    assertNull(backend.getGroovyWorld());
+                    backend.buildWorld();
+                    return backend.getGroovyWorld();
+                }
+            }).get();
+
+            assertNotNull(otherWorld);
+            assertNotSame(mainWorld, otherWorld);
+            assertSame(mainWorld, backend.getGroovyWorld());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     private AnotherCustomWorld worldClosureCall() {
         return new AnotherCustomWorld();
@@ -11,16 +11,23 @@ import java.util.Map;
 /**
  * This class has package scope so it doesn't get loaded by reflection,
  * thereby colliding with other DI implementations.
+ * <p/>
+ * Instances are kept per thread, so scenarios running on different threads get their own stepdef instances.
  */
 class DefaultJavaObjectFactory implements ObjectFactory {
-    private final Map<Class<?>, Object> instances = new HashMap<Class<?>, Object>();
+    private final ThreadLocal<Map<Class<?>, Object>> instances = new ThreadLocal<Map<Class<?>, Object>>() {
+        @Override
+        protected Map<Class<?>, Object> initialValue() {
+            return new HashMap<Class<?>, Object>();
+        }
+    };
 
     public void start() {
         // No-op
     }
 
     public void stop() {
-        instances.clear();
+        instances.remove();
     }
 
     public boolean addClass(Class<?> clazz) {
@@ -28,7 +35,7 @@ class DefaultJavaObjectFactory implements ObjectFactory {
     }
 
     public <T> T getInstance(Class<T> type) {
-        T instance = type.cast(instances.get(type));
+        T instance = type.cast(instances.get().get(type));
         if (instance == null) {
             instance = cacheNewInstance(type);
         }
@@ -39,7 +46,7 @@ class DefaultJavaObjectFactory implements ObjectFactory {
         try {
             Constructor<T> constructor = type.getConstructor();
             T instance = constructor.newInstance();
-            instances.put(type, instance);
+            instances.get().put(type, instance);
             return instance;
         } catch (NoSuchMethodException e) {
             throw new CucumberException(String.format("%s doesn't have an empty constructor. If you need DI, put cucumber-picocontainer on the classpath", type), e);
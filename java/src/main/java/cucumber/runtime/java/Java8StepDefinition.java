@@ -3,9 +3,9 @@ package cucumber.runtime.java;
 import cucumber.api.java8.StepdefBody;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.JdkPatternArgumentMatcher;
+import cucumber.runtime.MethodInvoker;
 import cucumber.runtime.ParameterInfo;
-import cucumber.runtime.StepDefinition;
-import cucumber.runtime.Utils;
+import cucumber.runtime.PatternStepDefinition;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
 import gherkin.formatter.model.Step;
@@ -17,98 +17,127 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-public class Java8StepDefinition implements StepDefinition {
+public class Java8StepDefinition implements PatternStepDefinition {
 
-    private final Pattern pattern;
+    private final Registration registration;
     private final long timeoutMillis;
     private final StepdefBody body;
 
-    private final JdkPatternArgumentMatcher argumentMatcher;
-    private final StackTraceElement location;
-
-    private final List<ParameterInfo> parameterInfos;
-    private final Method method;
-
     public Java8StepDefinition(Pattern pattern, long timeoutMillis, StepdefBody body, TypeIntrospector typeIntrospector) throws Exception {
-        this.pattern = pattern;
-        this.timeoutMillis = timeoutMillis;
-        this.body = body;
-
-        this.argumentMatcher = new JdkPatternArgumentMatcher(pattern);
-        this.location = new Exception().getStackTrace()[3];
-
-        Class<? extends StepdefBody> bodyClass = body.getClass();
-
-        Type genericInterface = bodyClass.getGenericInterfaces()[0];
-        Type[] argumentTypes;
-        if (genericInterface instanceof ParameterizedType) {
-            argumentTypes = ((ParameterizedType) genericInterface).getActualTypeArguments();
-        } else {
-            argumentTypes = typeIntrospector.getGenericTypes(bodyClass);
-        }
-        verifyNotListOrMap(argumentTypes);
-        this.parameterInfos = ParameterInfo.fromTypes(argumentTypes);
-
-        Class[] parameterTypes = new Class[parameterInfos.size()];
-        for (int i = 0; i < parameterInfos.size(); i++) {
-            parameterTypes[i] = Object.class;
-        }
-        this.method = bodyClass.getDeclaredMethod("accept", parameterTypes);
+        this(new Registration(pattern, body.getClass(), typeIntrospector, new Exception().getStackTrace()[3]), timeoutMillis, body);
     }
 
-    private void verifyNotListOrMap(Type[] argumentTypes) {
-        for (Type argumentType : argumentTypes) {
-            if(argumentType instanceof Class) {
-                Class<?> argumentClass = (Class<?>) argumentType;
-                if(List.class.isAssignableFrom(argumentClass) || Map.class.isAssignableFrom(argumentClass)) {
-                    throw withLocation(new CucumberException("Can't use " + argumentClass.getName() + " in lambda step definition. Declare a DataTable argument instead and convert manually with asList/asLists/asMap/asMaps"));
-                }
-            }
-        }
+    /**
+     * Creates a step definition for another body from the same call site, without looking at the body's class again.
+     *
+     * @see #getRegistration()
+     */
+    Java8StepDefinition(Registration registration, long timeoutMillis, StepdefBody body) {
+        this.registration = registration;
+        this.timeoutMillis = timeoutMillis;
+        this.body = body;
     }
 
-    private CucumberException withLocation(CucumberException exception) {
-        exception.setStackTrace(new StackTraceElement[] {this.location});
-        return exception;
+    /**
+     * @return what this step definition shares with every other step definition registered at the same call site.
+     */
+    Registration getRegistration() {
+        return registration;
     }
 
     @Override
     public List<Argument> matchedArguments(Step step) {
-        return argumentMatcher.argumentsFrom(step.getName());
+        return registration.argumentMatcher.argumentsFrom(step.getName());
     }
 
     @Override
     public String getLocation(boolean detail) {
-        return location.getFileName() + ":" + location.getLineNumber();
+        return registration.location.getFileName() + ":" + registration.location.getLineNumber();
     }
 
     @Override
     public Integer getParameterCount() {
-        return parameterInfos.size();
+        return registration.parameterInfos.size();
     }
 
     @Override
     public ParameterInfo getParameterType(int n, Type argumentType) throws IndexOutOfBoundsException {
-        return parameterInfos.get(n);
+        return registration.parameterInfos.get(n);
     }
 
     @Override
     public void execute(final I18n i18n, final Object[] args) throws Throwable {
-        Utils.invoke(body, method, timeoutMillis, args);
+        registration.invoker.invoke(body, timeoutMillis, args);
     }
 
     @Override
     public boolean isDefinedAt(StackTraceElement stackTraceElement) {
-        return location.getFileName().equals(stackTraceElement.getFileName());
+        return registration.location.getFileName().equals(stackTraceElement.getFileName());
     }
 
     @Override
     public String getPattern() {
-        return pattern.pattern();
+        return registration.pattern.pattern();
+    }
+
+    @Override
+    public Pattern getCompiledPattern() {
+        return registration.pattern;
     }
 
     @Override
     public boolean isScenarioScoped() {
         return true;
     }
+
+    /**
+     * The pattern, parameter types and location of a lambda step definition. These are the same every time the
+     * lambda's call site registers it, so they are worked out once and only the body is bound for each scenario.
+     */
+    static final class Registration {
+        private final Pattern pattern;
+        private final JdkPatternArgumentMatcher argumentMatcher;
+        private final StackTraceElement location;
+        private final List<ParameterInfo> parameterInfos;
+        private final MethodInvoker invoker;
+
+        private Registration(Pattern pattern, Class<? extends StepdefBody> bodyClass, TypeIntrospector typeIntrospector, StackTraceElement location) throws Exception {
+            this.pattern = pattern;
+            this.argumentMatcher = new JdkPatternArgumentMatcher(pattern);
+            this.location = location;
+
+            Type genericInterface = bodyClass.getGenericInterfaces()[0];
+            Type[] argumentTypes;
+            if (genericInterface instanceof ParameterizedType) {
+                argumentTypes = ((ParameterizedType) genericInterface).getActualTypeArguments();
+            } else {
+                argumentTypes = typeIntrospector.getGenericTypes(bodyClass);
+            }
+            verifyNotListOrMap(argumentTypes);
+            this.parameterInfos = ParameterInfo.fromTypes(argumentTypes);
+
+            Class[] parameterTypes = new Class[parameterInfos.size()];
+            for (int i = 0; i < parameterInfos.size(); i++) {
+                parameterTypes[i] = Object.class;
+            }
+            Method method = bodyClass.getDeclaredMethod("accept", parameterTypes);
+            this.invoker = new MethodInvoker(method);
+        }
+
+        private void verifyNotListOrMap(Type[] argumentTypes) {
+            for (Type argumentType : argumentTypes) {
+                if(argumentType instanceof Class) {
+                    Class<?> argumentClass = (Class<?>) argumentType;
+                    if(List.class.isAssignableFrom(argumentClass) || Map.class.isAssignableFrom(argumentClass)) {
+                        throw withLocation(new CucumberException("Can't use " + argumentClass.getName() + " in lambda step definition. Declare a DataTable argument instead and convert manually with asList/asLists/asMap/asMaps"));
+                    }
+                }
+            }
+        }
+
+        private CucumberException withLocation(CucumberException exception) {
+            exception.setStackTrace(new StackTraceElement[] {this.location});
+            return exception;
+        }
+    }
 }
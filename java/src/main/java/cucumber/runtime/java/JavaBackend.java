@@ -7,8 +7,8 @@ import cucumber.api.java8.GlueBase;
 import cucumber.api.java8.HookBody;
 import cucumber.api.java8.HookNoArgsBody;
 import cucumber.api.java8.StepdefBody;
-import cucumber.runtime.Backend;
 import cucumber.runtime.ClassFinder;
+import cucumber.runtime.ConcurrentBackend;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.DuplicateStepDefinitionException;
 import cucumber.runtime.Env;
@@ -27,12 +27,14 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static cucumber.runtime.io.MultiLoader.packageName;
 
-public class JavaBackend implements Backend {
+public class JavaBackend implements ConcurrentBackend {
     public static final ThreadLocal<JavaBackend> INSTANCE = new ThreadLocal<JavaBackend>();
     private final SnippetGenerator snippetGenerator = new SnippetGenerator(createSnippet());
 
@@ -52,6 +54,8 @@ public class JavaBackend implements Backend {
     private final MethodScanner methodScanner;
     private Glue glue;
     private List<Class<? extends GlueBase>> glueBaseClasses = new ArrayList<Class<? extends GlueBase>>();
+    // Java8 step definitions by body class and regexp. Every lambda call site has its own class.
+    private final Map<Class<?>, Map<String, Java8StepDefinition.Registration>> java8Registrations = new HashMap<Class<?>, Map<String, Java8StepDefinition.Registration>>();
 
     /**
      * The constructor called by reflection by default.
@@ -118,9 +122,23 @@ public class JavaBackend implements Backend {
         //Not used here yet
     }
 
+    /**
+     * Worlds can be built concurrently when the stepdefs are plain annotated methods instantiated by
+     * the {@link DefaultJavaObjectFactory}, which keeps its instances per thread. Java8 lambda stepdefs
+     * are registered into the shared glue by every world, and other object factories are not known to
+     * be thread-safe.
+     */
+    @Override
+    public boolean supportsConcurrentWorlds() {
+        return glueBaseClasses.isEmpty() && objectFactory instanceof DefaultJavaObjectFactory;
+    }
+
     @Override
     public void buildWorld() {
         objectFactory.start();
+        if (glueBaseClasses.isEmpty()) {
+            return;
+        }
 
         // Instantiate all the stepdef classes for java8 - the stepdef will be initialised
         // in the constructor.
@@ -157,9 +175,25 @@ public class JavaBackend implements Backend {
         }
     }
 
+    /**
+     * Adds a Java8 step definition. This is called for every scenario, so the pattern, parameter types and
+     * location of the step definition are only worked out the first time its call site registers it.
+     */
     public void addStepDefinition(String regexp, long timeoutMillis, StepdefBody body, TypeIntrospector typeIntrospector) {
         try {
-            glue.addStepDefinition(new Java8StepDefinition(Pattern.compile(regexp), timeoutMillis, body, typeIntrospector));
+            Map<String, Java8StepDefinition.Registration> registrations = java8Registrations.get(body.getClass());
+            if (registrations == null) {
+                registrations = new HashMap<String, Java8StepDefinition.Registration>();
+                java8Registrations.put(body.getClass(), registrations);
+            }
+            Java8StepDefinition.Registration registration = registrations.get(regexp);
+            if (registration != null) {
+                glue.addStepDefinition(new Java8StepDefinition(registration, timeoutMillis, body));
+                return;
+            }
+            Java8StepDefinition stepDefinition = new Java8StepDefinition(Pattern.compile(regexp), timeoutMillis, body, typeIntrospector);
+            registrations.put(regexp, stepDefinition.getRegistration());
+            glue.addStepDefinition(stepDefinition);
         } catch (CucumberException e) {
             throw e;
         } catch (Exception e) {
@@ -5,8 +5,8 @@ import cucumber.api.java.ObjectFactory;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.HookDefinition;
 import cucumber.runtime.MethodFormat;
-import cucumber.runtime.Utils;
-import gherkin.TagExpression;
+import cucumber.runtime.MethodInvoker;
+import cucumber.runtime.TagPredicate;
 import gherkin.formatter.model.Tag;
 
 import java.lang.reflect.Method;
@@ -17,15 +17,17 @@ import static java.util.Arrays.asList;
 class JavaHookDefinition implements HookDefinition {
 
     private final Method method;
+    private final MethodInvoker invoker;
     private final long timeoutMillis;
-    private final TagExpression tagExpression;
+    private final TagPredicate tagPredicate;
     private final int order;
     private final ObjectFactory objectFactory;
 
     public JavaHookDefinition(Method method, String[] tagExpressions, int order, long timeoutMillis, ObjectFactory objectFactory) {
         this.method = method;
+        this.invoker = new MethodInvoker(method);
         this.timeoutMillis = timeoutMillis;
-        this.tagExpression = new TagExpression(asList(tagExpressions));
+        this.tagPredicate = new TagPredicate(asList(tagExpressions));
         this.order = order;
         this.objectFactory = objectFactory;
     }
@@ -57,12 +59,12 @@ class JavaHookDefinition implements HookDefinition {
                 throw new CucumberException("Hooks must declare 0 or 1 arguments. " + method.toString());
         }
 
-        Utils.invoke(objectFactory.getInstance(method.getDeclaringClass()), method, timeoutMillis, args);
+        invoker.invoke(objectFactory.getInstance(method.getDeclaringClass()), timeoutMillis, args);
     }
 
     @Override
     public boolean matches(Collection<Tag> tags) {
-        return tagExpression.evaluate(tags);
+        return tagPredicate.matches(tags);
     }
 
     @Override
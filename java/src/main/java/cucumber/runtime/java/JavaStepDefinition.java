@@ -3,9 +3,9 @@ package cucumber.runtime.java;
 import cucumber.api.java.ObjectFactory;
 import cucumber.runtime.JdkPatternArgumentMatcher;
 import cucumber.runtime.MethodFormat;
+import cucumber.runtime.MethodInvoker;
 import cucumber.runtime.ParameterInfo;
-import cucumber.runtime.StepDefinition;
-import cucumber.runtime.Utils;
+import cucumber.runtime.PatternStepDefinition;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
 import gherkin.formatter.model.Step;
@@ -15,8 +15,9 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.regex.Pattern;
 
-class JavaStepDefinition implements StepDefinition {
+class JavaStepDefinition implements PatternStepDefinition {
     private final Method method;
+    private final MethodInvoker invoker;
     private final Pattern pattern;
     private final long timeoutMillis;
     private final ObjectFactory objectFactory;
@@ -26,6 +27,7 @@ class JavaStepDefinition implements StepDefinition {
 
     public JavaStepDefinition(Method method, Pattern pattern, long timeoutMillis, ObjectFactory objectFactory) {
         this.method = method;
+        this.invoker = new MethodInvoker(method);
         this.pattern = pattern;
         this.timeoutMillis = timeoutMillis;
         this.objectFactory = objectFactory;
@@ -35,7 +37,7 @@ class JavaStepDefinition implements StepDefinition {
     }
 
     public void execute(I18n i18n, Object[] args) throws Throwable {
-        Utils.invoke(objectFactory.getInstance(method.getDeclaringClass()), method, timeoutMillis, args);
+        invoker.invoke(objectFactory.getInstance(method.getDeclaringClass()), timeoutMillis, args);
     }
 
     public List<Argument> matchedArguments(Step step) {
@@ -66,6 +68,11 @@ class JavaStepDefinition implements StepDefinition {
         return pattern.pattern();
     }
 
+    @Override
+    public Pattern getCompiledPattern() {
+        return pattern;
+    }
+
     @Override
     public boolean isScenarioScoped() {
         return false;
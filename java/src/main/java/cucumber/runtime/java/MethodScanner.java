@@ -5,6 +5,7 @@ import cucumber.api.java.Before;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.Utils;
 import cucumber.runtime.ClassFinder;
+import cucumber.runtime.MethodAnnotationClassFinder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -31,7 +32,7 @@ class MethodScanner {
      */
     public void scan(JavaBackend javaBackend, List<String> gluePaths) {
         for (String gluePath : gluePaths) {
-            for (Class<?> glueCodeClass : classFinder.getDescendants(Object.class, packageName(gluePath))) {
+            for (Class<?> glueCodeClass : findGlueCodeClasses(packageName(gluePath))) {
                 while (glueCodeClass != null && glueCodeClass != Object.class && !Utils.isInstantiable(glueCodeClass)) {
                     // those can't be instantiated without container class present.
                     glueCodeClass = glueCodeClass.getSuperclass();
@@ -45,6 +46,13 @@ class MethodScanner {
         }
     }
 
+    private Collection<? extends Class<?>> findGlueCodeClasses(String packageName) {
+        if (classFinder instanceof MethodAnnotationClassFinder) {
+            return ((MethodAnnotationClassFinder) classFinder).getClassesWithMethodAnnotations(packageName, "cucumber.api");
+        }
+        return classFinder.getDescendants(Object.class, packageName);
+    }
+
     /**
      * Registers step definitions and hooks.
      *
@@ -9,10 +9,23 @@ import gherkin.formatter.model.Step;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class JavaBackendTest {
     @Test
@@ -43,6 +56,69 @@ public class JavaBackendTest {
         backend.loadGlue(glue, asList("cucumber.runtime.java.stepdefs", "cucumber.runtime.java.incorrectlysubclassedstepdefs"));
     }
 
+    @Test
+    public void builds_isolated_worlds_on_concurrent_threads() throws Exception {
+        final ObjectFactory factory = new DefaultJavaObjectFactory();
+        final JavaBackend backend = new JavaBackend(factory);
+        backend.loadGlue(new GlueStub(), asList("cucumber.runtime.java.stepdefs"));
+        assertTrue(backend.supportsConcurrentWorlds());
+
+        final int threads = 8;
+        final CyclicBarrier allWorldsBuilt = new CyclicBarrier(threads);
+        final Set<Stepdefs> instances = Collections.newSetFromMap(new ConcurrentHashMap<Stepdefs, Boolean>());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for (int scenario = 0; scenario < 100; scenario++) {
+                            backend.buildWorld();
+                            Stepdefs stepdefs = factory.getInstance(Stepdefs.class);
+                            assertSame(stepdefs, factory.getInstance(Stepdefs.class));
+                            assertTrue(instances.add(stepdefs));
+                            allWorldsBuilt.await(10, TimeUnit.SECONDS);
+                            backend.disposeWorld();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * 100, instances.size());
+    }
+
+    @Test
+    public void registers_java8_step_definitions_once_per_call_site() {
+        ObjectFactory factory = new DefaultJavaObjectFactory();
+        JavaBackend backend = new JavaBackend(factory);
+        GlueStub glue = new GlueStub();
+        backend.loadGlue(glue, asList("cucumber.runtime.java.java8test"));
+        backend.buildWorld();
+        backend.disposeWorld();
+        backend.buildWorld();
+
+        assertEquals(2, glue.stepDefinitions.size());
+        Java8StepDefinition first = (Java8StepDefinition) glue.stepDefinitions.get(0);
+        Java8StepDefinition second = (Java8StepDefinition) glue.stepDefinitions.get(1);
+        assertNotSame(first, second);
+        assertSame(first.getRegistration(), second.getRegistration());
+        assertEquals(first.getLocation(false), second.getLocation(false));
+    }
+
+    @Test
+    public void does_not_support_concurrent_worlds_with_other_object_factories() {
+        JavaBackend backend = new JavaBackend(new SingletonFactory());
+        backend.loadGlue(new GlueStub(), asList("cucumber.runtime.java.stepdefs"));
+        assertFalse(backend.supportsConcurrentWorlds());
+    }
+
     private class GlueStub implements Glue {
         public final List<StepDefinition> stepDefinitions = new ArrayList<StepDefinition>();
 
@@ -2,7 +2,7 @@ package cucumber.runtime.jruby;
 
 import cucumber.api.Scenario;
 import cucumber.runtime.HookDefinition;
-import gherkin.TagExpression;
+import cucumber.runtime.TagPredicate;
 import gherkin.formatter.model.Tag;
 import org.jruby.RubyObject;
 
@@ -13,7 +13,7 @@ import static java.util.Arrays.asList;
 
 public class JRubyHookDefinition implements HookDefinition {
 
-    private final TagExpression tagExpression;
+    private final TagPredicate tagPredicate;
     private final RubyObject hookRunner;
     private String file;
     private Long line;
@@ -21,7 +21,7 @@ public class JRubyHookDefinition implements HookDefinition {
 
     public JRubyHookDefinition(JRubyBackend jRubyBackend, String[] tagExpressions, RubyObject hookRunner) {
         this.jRubyBackend = jRubyBackend;
-        this.tagExpression = new TagExpression(asList(tagExpressions));
+        this.tagPredicate = new TagPredicate(asList(tagExpressions));
         this.hookRunner = hookRunner;
     }
 
@@ -42,7 +42,7 @@ public class JRubyHookDefinition implements HookDefinition {
 
     @Override
     public boolean matches(Collection<Tag> tags) {
-        return tagExpression.evaluate(tags);
+        return tagPredicate.matches(tags);
     }
 
     @Override
@@ -12,6 +12,7 @@ import cucumber.runtime.junit.FeatureRunner;
 import cucumber.runtime.junit.JUnitReporter;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import org.junit.runner.Description;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
@@ -42,6 +43,7 @@ public class Cucumber extends ParentRunner<FeatureRunner> {
     private final Runtime runtime;
     private final Stats.StatsFormatOptions statsFormatOptions;
     private final UndefinedStepsTracker tracker;
+    private final MultiLoader resourceLoader;
 
     /**
      * Constructor called by JUnit.
@@ -58,7 +60,7 @@ public class Cucumber extends ParentRunner<FeatureRunner> {
         RuntimeOptionsFactory runtimeOptionsFactory = new RuntimeOptionsFactory(clazz);
         runtimeOptions = runtimeOptionsFactory.create();
 
-        ResourceLoader resourceLoader = new MultiLoader(classLoader);
+        resourceLoader = new MultiLoader(classLoader);
         runtime = createRuntime(resourceLoader, classLoader, runtimeOptions);
         statsFormatOptions = new Stats.StatsFormatOptions(runtimeOptions.isMonochrome());
         tracker = new UndefinedStepsTracker();
@@ -81,7 +83,7 @@ public class Cucumber extends ParentRunner<FeatureRunner> {
     protected Runtime createRuntime(ResourceLoader resourceLoader, ClassLoader classLoader,
                                     RuntimeOptions runtimeOptions) throws InitializationError, IOException {
         ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
-        return new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions.isDryRun(), runtimeOptions.getGlue());
+        return new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions);
     }
 
     @Override
@@ -101,16 +103,21 @@ public class Cucumber extends ParentRunner<FeatureRunner> {
 
     @Override
     public void run(RunNotifier notifier) {
-        super.run(notifier);
-        jUnitReporter.done();
-        jUnitReporter.close();
-        RunResult runResult = RunResult.IDENTITY;
-        for (FeatureRunner child : children) {
-            runResult = RunResult.append(runResult, child.getRunResult());
-        }
+        try {
+            super.run(notifier);
+            jUnitReporter.done();
+            jUnitReporter.close();
+            RunResultAccumulator runResults = new RunResultAccumulator();
+            for (FeatureRunner child : children) {
+                runResults.add(child.getRunResult());
+            }
+            RunResult runResult = runResults.toRunResult();
 
-        final SummaryPrinter summaryPrinter = runtimeOptions.summaryPrinter(classLoader);
-        summaryPrinter.print(statsFormatOptions, runResult.stats, runResult.errors, runtime.getSnippets(tracker, runtimeOptions.getSnippetType().getFunctionNameGenerator()), runtimeOptions.isStrict());
+            final SummaryPrinter summaryPrinter = runtimeOptions.summaryPrinter(classLoader);
+            summaryPrinter.print(statsFormatOptions, runResult.stats, runResult.errors, runtime.getSnippets(tracker, runtimeOptions.getSnippetType().getFunctionNameGenerator()), runtimeOptions.isStrict());
+        } finally {
+            resourceLoader.close();
+        }
     }
 
     private void addChildren(List<CucumberFeature> cucumberFeatures) throws InitializationError {
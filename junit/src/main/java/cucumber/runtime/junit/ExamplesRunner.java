@@ -5,6 +5,7 @@ import cucumber.runtime.UndefinedStepsTracker;
 import cucumber.runtime.model.CucumberExamples;
 import cucumber.runtime.model.CucumberScenario;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunNotifier;
@@ -18,7 +19,7 @@ public class ExamplesRunner extends Suite {
     private final CucumberExamples cucumberExamples;
     private Description description;
     private JUnitReporter jUnitReporter;
-    private RunResult runResult = RunResult.IDENTITY;
+    private final RunResultAccumulator runResult = new RunResultAccumulator();
 
     protected ExamplesRunner(Runtime runtime, UndefinedStepsTracker tracker, CucumberExamples cucumberExamples, JUnitReporter jUnitReporter) throws InitializationError {
         super(ExamplesRunner.class, buildRunners(runtime, tracker, cucumberExamples, jUnitReporter));
@@ -41,7 +42,7 @@ public class ExamplesRunner extends Suite {
     }
 
     RunResult getStats() {
-        return runResult;
+        return runResult.toRunResult();
     }
 
     @Override
@@ -67,7 +68,7 @@ public class ExamplesRunner extends Suite {
 
         for (Runner runner : getChildren()) {
             if (runner instanceof ExecutionUnitRunner) {
-                runResult = RunResult.append(runResult, ((ExecutionUnitRunner)runner).getRunResult());
+                runResult.add(((ExecutionUnitRunner)runner).getRunResult());
             }
         }
 
@@ -18,7 +18,7 @@ public class FeatureRunner extends ParentRunner<ParentRunner> {
 
     private final CucumberFeature cucumberFeature;
     private final Runtime runtime;
-    private RunResult runResult = RunResult.IDENTITY;
+    private final RunResultAccumulator runResult = new RunResultAccumulator();
     private final UndefinedStepsTracker tracker;
     private final JUnitReporter jUnitReporter;
     private Description description;
@@ -33,7 +33,7 @@ public class FeatureRunner extends ParentRunner<ParentRunner> {
     }
 
     public RunResult getRunResult() {
-        return runResult;
+        return runResult.toRunResult();
     }
 
     @Override
@@ -75,9 +75,9 @@ public class FeatureRunner extends ParentRunner<ParentRunner> {
         super.run(notifier);
         for (ParentRunner child : getChildren()) {
             if (child instanceof ExecutionUnitRunner) {
-                runResult = RunResult.append(runResult, ((ExecutionUnitRunner)child).getRunResult());
+                runResult.add(((ExecutionUnitRunner)child).getRunResult());
             } else if (child instanceof ScenarioOutlineRunner) {
-                runResult = RunResult.append(runResult, ((ScenarioOutlineRunner)child).getRunResult());
+                runResult.add(((ScenarioOutlineRunner)child).getRunResult());
             }
         }
 
@@ -5,6 +5,7 @@ import cucumber.runtime.UndefinedStepsTracker;
 import cucumber.runtime.model.CucumberExamples;
 import cucumber.runtime.model.CucumberScenarioOutline;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import org.junit.runner.Description;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.RunNotifier;
@@ -18,7 +19,7 @@ public class ScenarioOutlineRunner extends Suite {
     private final CucumberScenarioOutline cucumberScenarioOutline;
     private final JUnitReporter jUnitReporter;
     private Description description;
-    private RunResult runResult = RunResult.IDENTITY;
+    private final RunResultAccumulator runResult = new RunResultAccumulator();
 
     public ScenarioOutlineRunner(Runtime runtime, UndefinedStepsTracker tracker, CucumberScenarioOutline cucumberScenarioOutline, JUnitReporter jUnitReporter) throws InitializationError {
         super(null, buildRunners(runtime, tracker, cucumberScenarioOutline, jUnitReporter));
@@ -35,7 +36,7 @@ public class ScenarioOutlineRunner extends Suite {
     }
 
     public RunResult getRunResult() {
-        return runResult;
+        return runResult.toRunResult();
     }
 
     @Override
@@ -60,7 +61,7 @@ public class ScenarioOutlineRunner extends Suite {
         super.run(notifier);
         for (Runner runner : getChildren()) {
             if (runner instanceof ExamplesRunner) {
-                runResult = RunResult.append(runResult, ((ExamplesRunner)runner).getStats());
+                runResult.add(((ExamplesRunner)runner).getStats());
             }
         }
 
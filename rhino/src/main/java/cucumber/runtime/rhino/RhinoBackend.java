@@ -1,6 +1,6 @@
 package cucumber.runtime.rhino;
 
-import cucumber.runtime.Backend;
+import cucumber.runtime.ConcurrentBackend;
 import cucumber.runtime.CucumberException;
 import cucumber.runtime.Glue;
 import cucumber.runtime.UnreportedStepExecutor;
@@ -20,7 +20,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.List;
 
-public class RhinoBackend implements Backend {
+public class RhinoBackend implements ConcurrentBackend {
     private static final String JS_DSL = "/cucumber/runtime/rhino/dsl.js";
     private final SnippetGenerator snippetGenerator = new SnippetGenerator(new JavaScriptSnippet());
     private final ResourceLoader resourceLoader;
@@ -30,6 +30,7 @@ public class RhinoBackend implements Backend {
     private Glue glue;
     private Function buildWorldFn;
     private Function disposeWorldFn;
+    private final ThreadLocal<World> worlds = new ThreadLocal<World>();
 
     public RhinoBackend(ResourceLoader resourceLoader) throws IOException {
         this.resourceLoader = resourceLoader;
@@ -66,21 +67,67 @@ public class RhinoBackend implements Backend {
         // Not used yet
     }
 
+    /**
+     * Every thread has its own world object, the {@code this} of stepdefs and hooks, which inherits
+     * from the global scope. Properties assigned to {@code this} are therefore per thread, while
+     * global variables are still shared.
+     */
+    @Override
+    public boolean supportsConcurrentWorlds() {
+        return true;
+    }
+
     @Override
     public void buildWorld() {
-        if (buildWorldFn != null) buildWorldFn.call(cx, scope, scope, new Object[0]);
+        World world = worlds.get();
+        if (world == null) {
+            world = new World();
+            worlds.set(world);
+        }
+        if (Context.getCurrentContext() == null) {
+            Context.enter();
+            world.enteredContext = true;
+        }
+        if (world.scope == null) {
+            world.scope = context().newObject(scope);
+            world.scope.setPrototype(scope);
+            if (buildWorldFn != null) buildWorldFn.call(context(), scope, world.scope, new Object[0]);
+        }
     }
 
     @Override
     public void disposeWorld() {
+        World world = worlds.get();
+        if (world == null) {
+            return;
+        }
         try {
-            if (disposeWorldFn != null) disposeWorldFn.call(cx, scope, scope, new Object[0]);
+            if (!world.disposed && disposeWorldFn != null) disposeWorldFn.call(context(), scope, world.scope, new Object[0]);
         } finally {
-            buildWorldFn = null;
-            disposeWorldFn = null;
+            world.disposed = true;
+            if (world.enteredContext) {
+                Context.exit();
+                world.enteredContext = false;
+            }
         }
     }
 
+    /**
+     * @return the Rhino context of the calling thread.
+     */
+    Context context() {
+        Context current = Context.getCurrentContext();
+        return current != null ? current : cx;
+    }
+
+    /**
+     * @return the world object of the calling thread, or the global scope if the thread has not built a world.
+     */
+    Scriptable world() {
+        World world = worlds.get();
+        return world != null && world.scope != null ? world.scope : scope;
+    }
+
     public void registerWorld(Function buildWorldFn, Function disposeWorldFn) {
         if (this.buildWorldFn != null) throw new CucumberException("World is already set");
         if (buildWorldFn == null) throw new CucumberException("World requires at least a build function");
@@ -98,7 +145,8 @@ public class RhinoBackend implements Backend {
         Throwable t = new Throwable();
         StackTraceElement[] stackTraceElements = t.getStackTrace();
         for (StackTraceElement stackTraceElement : stackTraceElements) {
-            boolean js = stackTraceElement.getFileName().endsWith(".js");
+            // Generated reflection accessors have no file name
+            boolean js = stackTraceElement.getFileName() != null && stackTraceElement.getFileName().endsWith(".js");
             if (js) {
                 boolean isDsl = stackTraceElement.getFileName().endsWith(JS_DSL);
                 boolean hasLine = stackTraceElement.getLineNumber() != -1;
@@ -120,19 +168,29 @@ public class RhinoBackend implements Backend {
 
     public void addStepDefinition(Global jsStepDefinition, NativeRegExp regexp, NativeFunction bodyFunc, NativeFunction argumentsFromFunc) throws Throwable {
         StackTraceElement stepDefLocation = jsLocation();
-        RhinoStepDefinition stepDefinition = new RhinoStepDefinition(cx, scope, jsStepDefinition, regexp, bodyFunc, stepDefLocation, argumentsFromFunc);
+        RhinoStepDefinition stepDefinition = new RhinoStepDefinition(this, scope, jsStepDefinition, regexp, bodyFunc, stepDefLocation, argumentsFromFunc);
         glue.addStepDefinition(stepDefinition);
     }
 
     public void addBeforeHook(Function fn, String[] tags, int order, long timeoutMillis) {
         StackTraceElement stepDefLocation = jsLocation();
-        RhinoHookDefinition hookDefinition = new RhinoHookDefinition(cx, scope, fn, tags, order, timeoutMillis, stepDefLocation);
+        RhinoHookDefinition hookDefinition = new RhinoHookDefinition(this, scope, fn, tags, order, timeoutMillis, stepDefLocation);
         glue.addBeforeHook(hookDefinition);
     }
 
     public void addAfterHook(Function fn, String[] tags, int order, long timeoutMillis) {
         StackTraceElement stepDefLocation = jsLocation();
-        RhinoHookDefinition hookDefinition = new RhinoHookDefinition(cx, scope, fn, tags, order, timeoutMillis, stepDefLocation);
+        RhinoHookDefinition hookDefinition = new RhinoHookDefinition(this, scope, fn, tags, order, timeoutMillis, stepDefLocation);
         glue.addAfterHook(hookDefinition);
     }
+
+    /**
+     * The world of one thread. The World function registered by the glue is called once per thread,
+     * as the world is kept for all the scenarios the thread runs.
+     */
+    private static class World {
+        private Scriptable scope;
+        private boolean disposed;
+        private boolean enteredContext;
+    }
 }
@@ -1,34 +1,33 @@
 package cucumber.runtime.rhino;
 
 import static java.util.Arrays.asList;
-import gherkin.TagExpression;
 import gherkin.formatter.model.Tag;
 
 import java.util.Collection;
 
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.Function;
 import org.mozilla.javascript.Scriptable;
 
 import cucumber.api.Scenario;
 import cucumber.runtime.HookDefinition;
+import cucumber.runtime.TagPredicate;
 import cucumber.runtime.Timeout;
 
 public class RhinoHookDefinition implements HookDefinition {
 
-    private Context cx;
+    private RhinoBackend backend;
     private Scriptable scope;
     private Function fn;
-    private final TagExpression tagExpression;
+    private final TagPredicate tagPredicate;
     private final int order;
     private final long timeoutMillis;
     private StackTraceElement location;
 
-    public RhinoHookDefinition(Context cx, Scriptable scope, Function fn, String[] tagExpressions, int order, long timeoutMillis, StackTraceElement location) {
-        this.cx = cx;
+    public RhinoHookDefinition(RhinoBackend backend, Scriptable scope, Function fn, String[] tagExpressions, int order, long timeoutMillis, StackTraceElement location) {
+        this.backend = backend;
         this.scope = scope;
         this.fn = fn;
-        tagExpression = new TagExpression(asList(tagExpressions));
+        tagPredicate = new TagPredicate(asList(tagExpressions));
         this.order = order;
         this.timeoutMillis = timeoutMillis;
         this.location = location;
@@ -45,14 +44,14 @@ public class RhinoHookDefinition implements HookDefinition {
         Timeout.timeout(new Timeout.Callback<Object>() {
             @Override
             public Object call() throws Throwable {
-                return fn.call(cx, scope, scope, args);
+                return fn.call(backend.context(), scope, backend.world(), args);
             }
         }, timeoutMillis);
     }
 
     @Override
     public boolean matches(Collection<Tag> tags) {
-        return tagExpression.evaluate(tags);
+        return tagPredicate.matches(tags);
     }
 
     @Override
@@ -60,8 +59,8 @@ public class RhinoHookDefinition implements HookDefinition {
         return order;
     }
 
-    TagExpression getTagExpression() {
-        return tagExpression;
+    TagPredicate getTagPredicate() {
+        return tagPredicate;
     }
 
     long getTimeout() {
@@ -5,7 +5,6 @@ import cucumber.runtime.StepDefinition;
 import gherkin.I18n;
 import gherkin.formatter.Argument;
 import gherkin.formatter.model.Step;
-import org.mozilla.javascript.Context;
 import org.mozilla.javascript.JavaScriptException;
 import org.mozilla.javascript.NativeFunction;
 import org.mozilla.javascript.NativeJavaObject;
@@ -17,7 +16,7 @@ import java.lang.reflect.Type;
 import java.util.List;
 
 public class RhinoStepDefinition implements StepDefinition {
-    private final Context cx;
+    private final RhinoBackend backend;
     private final Scriptable scope;
     private final Global jsStepDefinition;
     private final NativeRegExp regexp;
@@ -25,8 +24,8 @@ public class RhinoStepDefinition implements StepDefinition {
     private final StackTraceElement location;
     private final NativeFunction argumentsFromFunc;
 
-    public RhinoStepDefinition(Context cx, Scriptable scope, Global jsStepDefinition, NativeRegExp regexp, NativeFunction bodyFunc, StackTraceElement location, NativeFunction argumentsFromFunc) {
-        this.cx = cx;
+    public RhinoStepDefinition(RhinoBackend backend, Scriptable scope, Global jsStepDefinition, NativeRegExp regexp, NativeFunction bodyFunc, StackTraceElement location, NativeFunction argumentsFromFunc) {
+        this.backend = backend;
         this.scope = scope;
         this.jsStepDefinition = jsStepDefinition;
         this.regexp = regexp;
@@ -36,7 +35,7 @@ public class RhinoStepDefinition implements StepDefinition {
     }
 
     public List<Argument> matchedArguments(Step step) {
-        NativeJavaObject args = (NativeJavaObject) argumentsFromFunc.call(cx, scope, jsStepDefinition, new Object[]{step.getName(), this});
+        NativeJavaObject args = (NativeJavaObject) argumentsFromFunc.call(backend.context(), scope, jsStepDefinition, new Object[]{step.getName(), this});
         return args == null ? null : unwrap(args);
     }
 
@@ -61,7 +60,7 @@ public class RhinoStepDefinition implements StepDefinition {
 
     public void execute(I18n i18n, Object[] args) throws Throwable {
         try {
-            bodyFunc.call(cx, scope, scope, args);
+            bodyFunc.call(backend.context(), scope, backend.world(), args);
         } catch (JavaScriptException e) {
             Object value = e.getValue();
             if (value instanceof NativeJavaObject) {
@@ -0,0 +1,86 @@
+package cucumber.runtime.rhino;
+
+import cucumber.runtime.Glue;
+import cucumber.runtime.StepDefinition;
+import cucumber.runtime.io.MultiLoader;
+import cucumber.runtime.io.ResourceLoader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doNothing;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RhinoBackendTest {
+    private final ResourceLoader resourceLoader = new MultiLoader(Thread.currentThread().getContextClassLoader());
+
+    @Mock
+    private Glue glue;
+
+    @Test
+    public void builds_isolated_worlds_on_concurrent_threads() throws Exception {
+        ArgumentCaptor<StepDefinition> stepDefinitions = ArgumentCaptor.forClass(StepDefinition.class);
+        doNothing().when(glue).addStepDefinition(stepDefinitions.capture());
+        final RhinoBackend backend = new RhinoBackend(resourceLoader);
+        backend.loadGlue(glue, Collections.singletonList("classpath:cucumber/runtime/rhinotest"));
+        assertTrue(backend.supportsConcurrentWorlds());
+
+        final StepDefinition given = stepDefinition(stepDefinitions.getAllValues(), "/^I have (\\d+) \"([^\"]*)\" in my belly$/");
+        final StepDefinition then = stepDefinition(stepDefinitions.getAllValues(), "/^there are (\\d+) \"([^\"]*)\" in my belly$/");
+
+        final int threads = 4;
+        final CyclicBarrier allGivensRun = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < threads; i++) {
+                final String n = String.valueOf(i);
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        backend.buildWorld();
+                        try {
+                            given.execute(null, new Object[]{n, "cukes"});
+                            allGivensRun.await(10, TimeUnit.SECONDS);
+                            then.execute(null, new Object[]{n, "cukes"});
+                        } catch (Exception e) {
+                            throw e;
+                        } catch (Throwable t) {
+                            throw new Exception(t);
+                        } finally {
+                            backend.disposeWorld();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StepDefinition stepDefinition(List<StepDefinition> stepDefinitions, String pattern) {
+        for (StepDefinition stepDefinition : stepDefinitions) {
+            if (stepDefinition.getPattern().equals(pattern)) {
+                return stepDefinition;
+            }
+        }
+        throw new AssertionError("No step definition for " + pattern);
+    }
+}
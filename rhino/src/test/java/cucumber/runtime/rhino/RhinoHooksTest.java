@@ -101,7 +101,7 @@ public class RhinoHooksTest {
             tags.add(new Tag(tagExpr, null));
         }
 
-        assertTrue(rhinoHook.getTagExpression().evaluate(tags));
+        assertTrue(rhinoHook.getTagPredicate().matches(tags));
         assertThat(rhinoHook.getOrder(), equalTo(order));
         assertThat(rhinoHook.getTimeout(), equalTo(timeoutMillis));
     }
@@ -4,10 +4,10 @@ import cucumber.api.SummaryPrinter;
 import cucumber.runtime.*;
 import cucumber.runtime.Runtime;
 import cucumber.runtime.io.MultiLoader;
-import cucumber.runtime.io.ResourceLoader;
 import cucumber.runtime.io.ResourceLoaderClassFinder;
 import cucumber.runtime.model.CucumberFeature;
 import cucumber.runtime.model.RunResult;
+import cucumber.runtime.model.RunResultAccumulator;
 import gherkin.formatter.Formatter;
 
 import java.util.ArrayList;
@@ -21,10 +21,10 @@ public class TestNGCucumberRunner {
     private List<Throwable> errors = new ArrayList<Throwable>();
     private UndefinedStepsTracker tracker = new UndefinedStepsTracker();
     private RuntimeOptions runtimeOptions;
-    private ResourceLoader resourceLoader;
+    private MultiLoader resourceLoader;
     private FeatureResultListener resultListener;
     private ClassLoader classLoader;
-    private RunResult runResult = RunResult.IDENTITY;
+    private final RunResultAccumulator runResult = new RunResultAccumulator();
 
     /**
      * Bootstrap the cucumber runtime
@@ -41,7 +41,7 @@ public class TestNGCucumberRunner {
         TestNgReporter reporter = new TestNgReporter(System.out);
         ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
         resultListener = new FeatureResultListener(runtimeOptions.reporter(classLoader), runtimeOptions.isStrict());
-        runtime = new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions.isDryRun(), runtimeOptions.getGlue());
+        runtime = new Runtime(resourceLoader, classFinder, classLoader, runtimeOptions);
     }
 
     /**
@@ -54,7 +54,7 @@ public class TestNGCucumberRunner {
                     resultListener,
                     runtime,
                     tracker);
-            this.runResult = RunResult.append(this.runResult, runResult);
+            this.runResult.add(runResult);
         }
         finish();
         if (!resultListener.isPassed()) {
@@ -69,7 +69,7 @@ public class TestNGCucumberRunner {
                 resultListener,
                 runtime,
                 tracker);
-        this.runResult = RunResult.append(this.runResult, runResult);
+        this.runResult.add(runResult);
 
         if (!resultListener.isPassed()) {
             throw new CucumberException(resultListener.getFirstError());
@@ -77,13 +77,17 @@ public class TestNGCucumberRunner {
     }
 
     public void finish() {
-        Formatter formatter = runtimeOptions.formatter(classLoader);
-        SummaryPrinter summaryPrinter = runtimeOptions.summaryPrinter(classLoader);
-        Stats.StatsFormatOptions statsFormatOptions = new Stats.StatsFormatOptions(runtimeOptions.isMonochrome());
+        try {
+            Formatter formatter = runtimeOptions.formatter(classLoader);
+            SummaryPrinter summaryPrinter = runtimeOptions.summaryPrinter(classLoader);
+            Stats.StatsFormatOptions statsFormatOptions = new Stats.StatsFormatOptions(runtimeOptions.isMonochrome());
 
-        formatter.done();
-        formatter.close();
-        summaryPrinter.print(statsFormatOptions, runResult.stats, errors, runtime.getSnippets(tracker, runtimeOptions.getSnippetType().getFunctionNameGenerator()), runtimeOptions.isStrict());
+            formatter.done();
+            formatter.close();
+            summaryPrinter.print(statsFormatOptions, runResult.toRunResult().stats, errors, runtime.getSnippets(tracker, runtimeOptions.getSnippetType().getFunctionNameGenerator()), runtimeOptions.isStrict());
+        } finally {
+            resourceLoader.close();
+        }
     }
 
     /**